@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -27,6 +29,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.search.IReferenceCollection;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Before;
@@ -66,6 +69,34 @@ public class ReferenceCountTests {
 		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
 	}
 
+	/**
+	 * The counts are the same when the references are read from the index
+	 * written by the first look up
+	 */
+	@Test
+	public void testReferenceCountIndexedReport() {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		IApiComponent apiComponent = fBaseline.getApiComponent(ExternalDependencyTestUtils.PROJECT_NAME);
+		String[][] apiUseTpes = new String[][] {
+				{"tests.apiusescan.coretestproject.ClassWithInnerType"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ClassWithInnerType",  //$NON-NLS-1$
+					"tests.apiusescan.coretestproject.IConstants"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ITestInterface"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.TestInterfaceImpl"} //$NON-NLS-1$
+		};
+		int[] expectedResult = new int[] {7, 9, 5, 6};
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+		File scanRoot = new File(UseScanManager.getExactScanLocation(location));
+		File index = UseScanIndex.getIndexFile(scanRoot);
+		assertTrue("The use scan has not been indexed", index.exists()); //$NON-NLS-1$
+		assertFalse("The index should not be stored in the use scan", //$NON-NLS-1$
+				index.getAbsolutePath().startsWith(scanRoot.getAbsolutePath()));
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+	}
+
 	public void verifyReferenceCount(IApiComponent apiComponent, String[][] apiUseTpes, int[] expectedResult) {
 		String errorMessage = "Incorrect number of references for the set {0}"; //$NON-NLS-1$
 		for (int i = 0; i < apiUseTpes.length; i++) {
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Bundle;
+
+/**
+ * Tests the request and response protocol of the API analysis application when
+ * it serves requests on a socket
+ */
+public class ApiAnalysisDaemonTests {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private boolean autoBuilding;
+	private Path socket;
+	private ApiAnalysisApplication application;
+	private CompletableFuture<Object> result;
+
+	@Before
+	public void setUp() throws Exception {
+		autoBuilding = ResourcesPlugin.getWorkspace().isAutoBuilding();
+		socket = folder.getRoot().toPath().resolve("daemon.socket"); //$NON-NLS-1$
+		application = new ApiAnalysisApplication();
+		IApplicationContext context = new DaemonContext(new String[] { "-daemon", socket.toString() }); //$NON-NLS-1$
+		result = CompletableFuture.supplyAsync(() -> {
+			try {
+				return application.start(context);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (!Files.exists(socket) && !result.isDone() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertTrue("The daemon should listen on the socket", Files.exists(socket)); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (!result.isDone()) {
+			application.stop();
+			result.get(30, TimeUnit.SECONDS);
+		}
+		IWorkspaceDescription description = ResourcesPlugin.getWorkspace().getDescription();
+		description.setAutoBuilding(autoBuilding);
+		ResourcesPlugin.getWorkspace().setDescription(description);
+	}
+
+	@Test
+	public void testSocketOnlyAccessibleByOwner() throws Exception {
+		if (!socket.getFileSystem().supportedFileAttributeViews().contains("posix")) { //$NON-NLS-1$
+			return;
+		}
+		assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socket))); //$NON-NLS-1$
+		try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+			assertEquals("Only the socket should be left in its folder", List.of(socket), files.toList()); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testRequestWithoutProject() throws Exception {
+		List<String> response = send("-failOnError"); //$NON-NLS-1$
+		assertEquals(List.of("No project specified.", "EXIT " + IStatus.ERROR), response); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("The daemon should keep serving", result.isDone()); //$NON-NLS-1$
+		// the next request on a new connection is served as well
+		response = send();
+		assertEquals(List.of("No project specified.", "EXIT " + IStatus.ERROR), response); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testShutdown() throws Exception {
+		List<String> response = send("-shutdown"); //$NON-NLS-1$
+		assertEquals(List.of("EXIT " + IStatus.OK), response); //$NON-NLS-1$
+		assertEquals(IApplication.EXIT_OK, result.get(30, TimeUnit.SECONDS));
+		assertFalse("The socket should be deleted", Files.exists(socket)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testStop() throws Exception {
+		application.stop();
+		assertEquals(IApplication.EXIT_OK, result.get(30, TimeUnit.SECONDS));
+		assertFalse("The socket should be deleted", Files.exists(socket)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Sends a request with the given arguments and returns the lines of the
+	 * response
+	 */
+	private List<String> send(String... args) throws IOException {
+		try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+			channel.connect(UnixDomainSocketAddress.of(socket));
+			PrintStream out = new PrintStream(Channels.newOutputStream(channel), true, StandardCharsets.UTF_8);
+			for (String arg : args) {
+				out.println(arg);
+			}
+			out.println();
+			BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+			List<String> lines = new ArrayList<>();
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lines.add(line);
+			}
+			return lines;
+		}
+	}
+
+	private static final class DaemonContext implements IApplicationContext {
+		private final String[] fArgs;
+
+		DaemonContext(String[] args) {
+			fArgs = args;
+		}
+
+		@Override
+		public Map<String, Object> getArguments() {
+			return Map.of(IApplicationContext.APPLICATION_ARGS, fArgs);
+		}
+
+		@Override
+		public void applicationRunning() {
+			//
+		}
+
+		@Override
+		public String getBrandingApplication() {
+			return null;
+		}
+
+		@Override
+		public String getBrandingName() {
+			return null;
+		}
+
+		@Override
+		public String getBrandingDescription() {
+			return null;
+		}
+
+		@Override
+		public String getBrandingId() {
+			return null;
+		}
+
+		@Override
+		public String getBrandingProperty(String key) {
+			return null;
+		}
+
+		@Override
+		public Bundle getBrandingBundle() {
+			return null;
+		}
+
+		@Override
+		public void setResult(Object result, IApplication application) {
+			//
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.BuildState.SinceTag;
+import org.junit.Test;
+
+/**
+ * Tests the outcomes of the @since tag checks recorded in the {@link BuildState}
+ */
+public class BuildStateTests {
+
+	private static final String TYPE = "a.b.C"; //$NON-NLS-1$
+	private static final String OTHER_TYPE = "a.b.D"; //$NON-NLS-1$
+	private static final String METHOD = "=p/src<a.b{C.java[C~m"; //$NON-NLS-1$
+	private static final String MEMBER_TYPE_FIELD = "=p/src<a.b{C.java[C[Inner^f"; //$NON-NLS-1$
+	private static final String OTHER_METHOD = "=p/src<a.b{D.java[D~m"; //$NON-NLS-1$
+
+	@Test
+	public void testSinceTagsRoundTrip() throws IOException {
+		BuildState state = new BuildState();
+		state.setSinceTag(TYPE, METHOD, new SinceTag(1L, 0x04, "1.1")); //$NON-NLS-1$
+		state.setSinceTag(TYPE + "$Inner", MEMBER_TYPE_FIELD, new SinceTag(-2L, 0x02, null)); //$NON-NLS-1$
+		state.setSinceTag(OTHER_TYPE, OTHER_METHOD, new SinceTag(Long.MAX_VALUE, 0x10, null));
+
+		BuildState read = roundTrip(state);
+		assertNotNull("The build state should be read", read); //$NON-NLS-1$
+		assertEquals(new SinceTag(1L, 0x04, "1.1"), read.getSinceTag(TYPE, METHOD)); //$NON-NLS-1$
+		assertEquals(new SinceTag(-2L, 0x02, null), read.getSinceTag(TYPE + "$Inner", MEMBER_TYPE_FIELD)); //$NON-NLS-1$
+		assertEquals(new SinceTag(Long.MAX_VALUE, 0x10, null), read.getSinceTag(OTHER_TYPE, OTHER_METHOD));
+		assertNull(read.getSinceTag(OTHER_TYPE, METHOD));
+	}
+
+	@Test
+	public void testCleanedUpSinceTagsNotSaved() throws IOException {
+		BuildState state = new BuildState();
+		SinceTag tag = new SinceTag(1L, 0x04, "1.1"); //$NON-NLS-1$
+		state.setSinceTag(TYPE, METHOD, tag);
+		state.setSinceTag(TYPE, MEMBER_TYPE_FIELD, tag);
+		state.setSinceTag(OTHER_TYPE, OTHER_METHOD, tag);
+
+		// re-analyzing a member type cleans up its top level type
+		state.cleanup(TYPE + "$Inner"); //$NON-NLS-1$
+		assertEquals("A cleaned up outcome should still be reused in the build", tag, state.getSinceTag(TYPE, METHOD)); //$NON-NLS-1$
+		// the method is checked again, the field is gone
+		state.setSinceTag(TYPE, METHOD, tag);
+
+		BuildState read = roundTrip(state);
+		assertEquals(tag, read.getSinceTag(TYPE, METHOD));
+		assertNull("The outcome of a removed member should not be saved", read.getSinceTag(TYPE, MEMBER_TYPE_FIELD)); //$NON-NLS-1$
+		assertEquals(tag, read.getSinceTag(OTHER_TYPE, OTHER_METHOD));
+
+		read.cleanup(OTHER_TYPE);
+		assertNull("The outcomes of a removed type should not be saved", roundTrip(read).getSinceTag(OTHER_TYPE, OTHER_METHOD)); //$NON-NLS-1$
+	}
+
+	private static BuildState roundTrip(BuildState state) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			BuildState.write(state, out);
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return BuildState.read(in);
+		}
+	}
+}
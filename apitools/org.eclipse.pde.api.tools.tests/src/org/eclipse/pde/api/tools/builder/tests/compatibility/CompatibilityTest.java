@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,7 @@ public abstract class CompatibilityTest extends ApiBuilderTest {
 	private static Class<?>[] getAllTestClasses() {
 		Class<?>[] classes = new Class[] {
 				ProjectTypeContainerTests.class,
+				ProjectComponentComparisonTests.class,
 				BundleCompatibilityTests.class,
 				AnnotationCompatibilityTests.class,
 				InterfaceCompatibilityTests.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,14 @@ public class InvalidSinceTagTests extends SinceTagTest {
 		xInvalidMethod(false);
 	}
 
+	/**
+	 * Tests that building again reports the same wrong since tag on a method
+	 */
+	public void testInvalidMethodRebuild() throws Exception {
+		xInvalidMethod(true);
+		performRebuildTest(WORKSPACE_CLASSES_PACKAGE_A.append("InvalidMethod.java")); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests adding a member type with a wrong since tag
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -105,6 +105,14 @@ public class MissingSinceTagTests extends SinceTagTest {
 		xAddField(false);
 	}
 
+	/**
+	 * Tests that building again reports the same missing since tag on a field
+	 */
+	public void testAddFieldRebuild() throws Exception {
+		xAddField(false);
+		performRebuildTest(WORKSPACE_CLASSES_PACKAGE_A.append("AddField.java")); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests adding a private field
 	 */
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.compatibility;
+
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.comparator.ComparisonExecutor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+import junit.framework.Test;
+
+/**
+ * Tests that comparing a workspace project concurrently builds the same API
+ * description and deltas as comparing it sequentially. The description of a
+ * project inserts the nodes of the types it is asked for, so the concurrent
+ * comparison inserts them from several threads.
+ */
+public class ProjectComponentComparisonTests extends CompatibilityTest {
+
+	private static final String BUNDLE_NAME = "bundle.a"; //$NON-NLS-1$
+
+	public ProjectComponentComparisonTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return buildTestSuite(ProjectComponentComparisonTests.class);
+	}
+
+	@Override
+	protected String getTestingProjectName() {
+		// not used
+		return null;
+	}
+
+	@Override
+	protected int getDefaultProblemId() {
+		// not used
+		return 0;
+	}
+
+	/**
+	 * Compares the project with the reference baseline concurrently and
+	 * sequentially, each time starting with an empty API description.
+	 */
+	public void testConcurrentComparison() throws Exception {
+		IApiBaseline reference = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		assertNotNull("Missing reference baseline", reference); //$NON-NLS-1$
+		IApiComponent referenceComponent = reference.getApiComponent(BUNDLE_NAME);
+		assertNotNull("Missing reference component", referenceComponent); //$NON-NLS-1$
+		IApiBaseline workspace = ApiBaselineManager.getManager().getWorkspaceBaseline();
+		IApiComponent component = workspace.getApiComponent(getEnv().getProject(BUNDLE_NAME));
+		assertNotNull("Missing API component", component); //$NON-NLS-1$
+		ProjectApiDescription description = (ProjectApiDescription) component.getApiDescription();
+
+		description.clean();
+		IDelta concurrent = ApiComparator.compare(referenceComponent, component, reference, workspace, VisibilityModifiers.ALL_VISIBILITIES, null);
+		String concurrentDescription = Util.serializeDocument(description.getXML());
+
+		description.clean();
+		IDelta sequential = ComparisonExecutor.computeSequentially(() -> ApiComparator.compare(referenceComponent, component, reference, workspace, VisibilityModifiers.ALL_VISIBILITIES, null));
+		String sequentialDescription = Util.serializeDocument(description.getXML());
+
+		assertTrue("The comparison should resolve the types of the project", sequentialDescription.contains("a.classes.fields")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Different API descriptions", sequentialDescription, concurrentDescription); //$NON-NLS-1$
+		assertEquals("Different deltas", toString(sequential), toString(concurrent)); //$NON-NLS-1$
+	}
+
+	private static String toString(IDelta delta) {
+		StringBuilder buffer = new StringBuilder();
+		append(buffer, delta, 0);
+		return buffer.toString();
+	}
+
+	private static void append(StringBuilder buffer, IDelta delta, int depth) {
+		buffer.append("  ".repeat(depth)); //$NON-NLS-1$
+		buffer.append(delta.getElementType()).append(' ').append(delta.getKind()).append(' ').append(delta.getFlags());
+		buffer.append(' ').append(delta.getKey()).append(' ').append(delta.getTypeName()).append('\n');
+		for (IDelta child : delta.getChildren()) {
+			append(buffer, child, depth + 1);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,22 @@ public abstract class SinceTagTest extends CompatibilityTest {
 		super(name);
 	}
 
+	/**
+	 * Builds the given workspace file again after a compatibility test, first
+	 * incrementally after updating it with the same content and then fully.
+	 * The unchanged Javadoc is not checked again, the problems reported from
+	 * the recorded outcome of the @since tag checks must be the same.
+	 *
+	 * @param workspaceFile file updated by the compatibility test
+	 */
+	protected void performRebuildTest(IPath workspaceFile) throws Exception {
+		updateWorkspaceFile(workspaceFile, getUpdateFilePath(workspaceFile.lastSegment()));
+		incrementalBuild();
+		assertProblems(getEnv().getProblemsFor(workspaceFile, null));
+		fullBuild();
+		assertProblems(getEnv().getProblemsFor(workspaceFile, null));
+	}
+
 	@Override
 	protected void setBuilderOptions() {
 		enableUnsupportedTagOptions(false);
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.comparator.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.pde.api.tools.internal.comparator.ComparisonExecutor;
+import org.junit.Test;
+
+/**
+ * Tests the ordering and cancellation of concurrent comparisons
+ */
+public class ComparisonExecutorTests {
+
+	private static List<Integer> inputs(int count) {
+		List<Integer> inputs = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			inputs.add(Integer.valueOf(i));
+		}
+		return inputs;
+	}
+
+	/**
+	 * Results are returned in the order of the inputs, whatever the order of
+	 * completion
+	 */
+	@Test
+	public void testResultOrder() {
+		List<Integer> inputs = inputs(200);
+		List<String> results = ComparisonExecutor.computeAll(inputs, (input, monitor) -> {
+			if (input.intValue() % 7 == 0) {
+				Thread.yield();
+			}
+			return "type" + input; //$NON-NLS-1$
+		}, null);
+		assertEquals("Wrong size", inputs.size(), results.size()); //$NON-NLS-1$
+		for (int i = 0; i < inputs.size(); i++) {
+			assertEquals("Wrong order", "type" + i, results.get(i)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * A cancellation requested by a computation stops the remaining ones
+	 */
+	@Test
+	public void testCancellation() {
+		AtomicInteger computed = new AtomicInteger();
+		List<Integer> inputs = inputs(1000);
+		assertThrows(OperationCanceledException.class, () -> ComparisonExecutor.computeAll(inputs, (input, monitor) -> {
+			if (input.intValue() == 0) {
+				monitor.setCanceled(true);
+			}
+			computed.incrementAndGet();
+			return input;
+		}, new NullProgressMonitor()));
+		assertTrue("Computations not canceled", computed.get() < inputs.size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Runtime exceptions of a computation are passed to the caller
+	 */
+	@Test
+	public void testExceptionPropagated() {
+		List<Integer> inputs = inputs(10);
+		assertThrows(IllegalStateException.class, () -> ComparisonExecutor.computeAll(inputs, (input, monitor) -> {
+			if (input.intValue() == 5) {
+				throw new IllegalStateException();
+			}
+			return input;
+		}, null));
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.comparator.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.comparator.ComparisonExecutor;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests that comparing baselines concurrently results in the same deltas as
+ * comparing them sequentially
+ */
+@RunWith(Parameterized.class)
+public class ConcurrentComparisonTests extends DeltaTestSetup {
+
+	@Parameters(name = "{0}")
+	public static List<String> testNames() {
+		return Arrays.asList("test50", "test51", "test79", "test99", "test127", "test130", "test133"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+	}
+
+	@Parameter
+	public String testName;
+
+	@Override
+	public String getTestRoot() {
+		return "class"; //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSameDeltas() {
+		deployBundles(testName);
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		// compare concurrently first, so that the type structures are built
+		// and cached by the comparison threads
+		IDelta concurrent = ApiComparator.compare(before, after, VisibilityModifiers.ALL_VISIBILITIES, false, null);
+		IDelta sequential = ComparisonExecutor.computeSequentially(() -> ApiComparator.compare(before, after, VisibilityModifiers.ALL_VISIBILITIES, false, null));
+		assertNotNull("No delta", concurrent); //$NON-NLS-1$
+		assertNotSame("Should not be NO_DELTA", ApiComparator.NO_DELTA, concurrent); //$NON-NLS-1$
+		assertEquals("Different deltas", toString(sequential), toString(concurrent)); //$NON-NLS-1$
+	}
+
+	private static String toString(IDelta delta) {
+		StringBuilder buffer = new StringBuilder();
+		append(buffer, delta, 0);
+		return buffer.toString();
+	}
+
+	private static void append(StringBuilder buffer, IDelta delta, int depth) {
+		buffer.append("  ".repeat(depth)); //$NON-NLS-1$
+		buffer.append(delta.getElementType()).append(' ').append(delta.getKind()).append(' ').append(delta.getFlags());
+		buffer.append(' ').append(delta.getKey()).append(' ').append(delta.getTypeName());
+		buffer.append(' ').append(delta.getMessage()).append('\n');
+		for (IDelta child : delta.getChildren()) {
+			append(buffer, child, depth + 1);
+		}
+	}
+}
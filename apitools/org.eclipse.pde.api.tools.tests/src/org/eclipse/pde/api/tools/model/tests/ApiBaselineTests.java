@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +29,9 @@ import java.util.stream.Collectors;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -313,4 +317,44 @@ public class ApiBaselineTests {
 		fBaseline.setLocation("new_loc"); //$NON-NLS-1$
 		assertNotNull("The location must not be null", fBaseline.getLocation()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that a baseline restored from a snapshot has the same components,
+	 * package exports and API descriptions
+	 */
+	@Test
+	public void testSnapshot() throws Exception {
+		File file = File.createTempFile("baseline", BaselineSnapshot.FILE_EXTENSION); //$NON-NLS-1$
+		IApiBaseline restored = null;
+		try {
+			List<IApiComponent> components = Arrays.stream(fBaseline.getApiComponents()).filter(c -> !c.isSystemComponent()).toList();
+			BaselineSnapshot.write(fBaseline, components, file);
+			IApiBaseline other = ApiModelFactory.newApiBaseline("other", TestSuiteHelper.getEEDescription(), null); //$NON-NLS-1$
+			assertNull("Snapshot of another baseline restored", BaselineSnapshot.read((ApiBaseline) other, file)); //$NON-NLS-1$
+			other.dispose();
+
+			restored = ApiModelFactory.newApiBaseline(fBaseline.getName(), TestSuiteHelper.getEEDescription(), null);
+			IApiComponent[] restoredComponents = BaselineSnapshot.read((ApiBaseline) restored, file);
+			assertNotNull("Snapshot not restored", restoredComponents); //$NON-NLS-1$
+			assertEquals("Wrong number of components", components.size(), restoredComponents.length); //$NON-NLS-1$
+			restored.addApiComponents(restoredComponents);
+
+			IApiComponent component = restored.getApiComponent(COMPONENT_A);
+			assertNotNull("Missing component.a", component); //$NON-NLS-1$
+			assertEquals("Wrong version", _1_0_0, component.getVersion()); //$NON-NLS-1$
+			IApiComponent[] providers = restored.resolvePackage(restored.getApiComponent(COMPONENT_B), COMPONENT_A);
+			assertEquals("Wrong size", 1, providers.length); //$NON-NLS-1$
+			assertEquals("Wrong provider for package", component, providers[0]); //$NON-NLS-1$
+			IApiDescription description = component.getApiDescription();
+			IApiAnnotations result = description.resolveAnnotations(Factory.typeDescriptor("component.a.A")); //$NON-NLS-1$
+			assertTrue("Should be API", VisibilityModifiers.isAPI(result.getVisibility())); //$NON-NLS-1$
+			result = description.resolveAnnotations(Factory.typeDescriptor("component.a.internal.InternalClass")); //$NON-NLS-1$
+			assertTrue("Should be private", VisibilityModifiers.isPrivate(result.getVisibility())); //$NON-NLS-1$
+		} finally {
+			if (restored != null) {
+				restored.dispose();
+			}
+			file.delete();
+		}
+	}
 }
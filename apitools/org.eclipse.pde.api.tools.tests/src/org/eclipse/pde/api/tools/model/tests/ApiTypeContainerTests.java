@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,15 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,7 +34,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureCache;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.junit.Test;
@@ -227,4 +234,60 @@ public class ApiTypeContainerTests {
 		assertEquals("Visited wrong number of packages", expectedPkgOrder.size(), visit.size()); //$NON-NLS-1$
 		assertEquals("Visit order incorrect", expectedPkgOrder, visit);		 //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the type structures of an archive are the same after they
+	 * have been restored from the persistent store of a closed container.
+	 */
+	@Test
+	public void testArchiveTypeStructuresRestored() throws CoreException {
+		String[] typeNames = { "a.ClassB", "a.ClassB$InsideB", "a.b.c.InterfaceC" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IApiTypeContainer container = buildArchiveContainer();
+		List<String> expected = new ArrayList<>();
+		for (String typeName : typeNames) {
+			IApiType type = container.findTypeRoot(typeName).getStructure();
+			assertNotNull("Missing structure for " + typeName, type); //$NON-NLS-1$
+			expected.add(type.toString());
+		}
+		container.close();
+		int restoredCount = TypeStructureCache.getRestoredCount();
+		IApiTypeContainer restored = buildArchiveContainer();
+		try {
+			for (int i = 0; i < typeNames.length; i++) {
+				IApiType type = restored.findTypeRoot(typeNames[i]).getStructure();
+				assertNotNull("Missing restored structure for " + typeNames[i], type); //$NON-NLS-1$
+				assertEquals("Wrong restored structure", expected.get(i), type.toString()); //$NON-NLS-1$
+			}
+		} finally {
+			restored.close();
+		}
+		assertEquals("Structures not restored from the store", restoredCount + typeNames.length, TypeStructureCache.getRestoredCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the persistent store of an archive is deleted once the
+	 * archive is gone.
+	 */
+	@Test
+	public void testStaleTypeStructureStoreDeleted() throws CoreException, IOException {
+		Path folder = Files.createTempDirectory("apitypestore"); //$NON-NLS-1$
+		Path jar = folder.resolve("sample.jar"); //$NON-NLS-1$
+		Files.copy(TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toPath(), jar); //$NON-NLS-1$ //$NON-NLS-2$
+		File store = TypeStructureCache.getStoreFile(jar.toString());
+		try {
+			IApiTypeContainer container = new ArchiveApiTypeContainer(null, jar.toString());
+			assertNotNull("Missing structure", container.findTypeRoot("a.ClassB").getStructure()); //$NON-NLS-1$ //$NON-NLS-2$
+			container.close();
+			assertTrue("Store not written", store.isFile()); //$NON-NLS-1$
+			TypeStructureCache.deleteStaleStores();
+			assertTrue("Store of an existing archive deleted", store.isFile()); //$NON-NLS-1$
+			Files.delete(jar);
+			TypeStructureCache.deleteStaleStores();
+			assertFalse("Store of a deleted archive not deleted", store.isFile()); //$NON-NLS-1$
+		} finally {
+			Files.deleteIfExists(jar);
+			Files.deleteIfExists(folder);
+			Files.deleteIfExists(store.toPath());
+		}
+	}
 }
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.problems.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.MarkerReconciler;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that reconciling markers keeps, adds and removes the same markers as
+ * deleting all markers and creating them anew
+ */
+public class MarkerReconcilerTests extends AbstractApiTest {
+
+	private IProject fProject;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PROJECT_NAME, null);
+		fProject = getProject(TESTING_PROJECT_NAME);
+		fProject.deleteMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		deleteProject(TESTING_PROJECT_NAME);
+		super.tearDown();
+	}
+
+	@Test
+	public void testReconcile() throws CoreException {
+		IMarker kept = createMarker("kept"); //$NON-NLS-1$
+		IMarker duplicate1 = createMarker("duplicate"); //$NON-NLS-1$
+		IMarker duplicate2 = createMarker("duplicate"); //$NON-NLS-1$
+		IMarker explicit = createMarker("explicit"); //$NON-NLS-1$
+		IMarker removed = createMarker("removed"); //$NON-NLS-1$
+
+		MarkerReconciler reconciler = new MarkerReconciler();
+		reconciler.collect(fProject, IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+		assertEquals("The marker should be reused", kept, reuse(reconciler, "kept")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("A reused marker should only be matched once", reuse(reconciler, "kept")); //$NON-NLS-1$ //$NON-NLS-2$
+		// changes after the first match update the collected markers in place
+		reconciler.keep(explicit);
+		IMarker late = createMarker("late"); //$NON-NLS-1$
+		reconciler.collect(late);
+		assertEquals("A marker collected late should be reused", late, reuse(reconciler, "late")); //$NON-NLS-1$ //$NON-NLS-2$
+		IMarker reused = reuse(reconciler, "duplicate"); //$NON-NLS-1$
+		assertTrue("One of the duplicates should be reused", duplicate1.equals(reused) || duplicate2.equals(reused)); //$NON-NLS-1$
+		assertNull("An explicitly kept marker should no longer be matched", reuse(reconciler, "explicit")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("There should be no marker to reuse", reuse(reconciler, "added")); //$NON-NLS-1$ //$NON-NLS-2$
+		createMarker("added"); //$NON-NLS-1$
+		reconciler.deleteStale();
+
+		assertTrue(kept.exists());
+		assertTrue(explicit.exists());
+		assertTrue(late.exists());
+		assertTrue(reused.exists());
+		assertFalse("The stale duplicate should be deleted", (duplicate1.equals(reused) ? duplicate2 : duplicate1).exists()); //$NON-NLS-1$
+		assertFalse("The stale marker should be deleted", removed.exists()); //$NON-NLS-1$
+		assertEquals("The markers should be the ones created anew", //$NON-NLS-1$
+				List.of("added", "duplicate", "explicit", "kept", "late"), getMessages()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+
+	@Test
+	public void testReconcileWithoutMatches() throws CoreException {
+		createMarker("removed"); //$NON-NLS-1$
+		MarkerReconciler reconciler = new MarkerReconciler();
+		reconciler.collect(fProject, IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+		reconciler.deleteStale();
+		assertEquals("All markers should be deleted", List.of(), getMessages()); //$NON-NLS-1$
+		assertNull("Nothing should be collected anymore", reuse(reconciler, "removed")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private IMarker createMarker(String message) throws CoreException {
+		IMarker marker = fProject.createMarker(IMarker.PROBLEM);
+		marker.setAttributes(attributes(message));
+		return marker;
+	}
+
+	private IMarker reuse(MarkerReconciler reconciler, String message) throws CoreException {
+		return reconciler.reuse(fProject, IMarker.PROBLEM, attributes(message));
+	}
+
+	private static Map<String, Object> attributes(String message) {
+		return Map.of(IMarker.MESSAGE, message, IMarker.SEVERITY, Integer.valueOf(IMarker.SEVERITY_ERROR));
+	}
+
+	private List<String> getMessages() throws CoreException {
+		List<String> messages = new ArrayList<>();
+		for (IMarker marker : fProject.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO)) {
+			messages.add((String) marker.getAttribute(IMarker.MESSAGE));
+		}
+		Collections.sort(messages);
+		return messages;
+	}
+}
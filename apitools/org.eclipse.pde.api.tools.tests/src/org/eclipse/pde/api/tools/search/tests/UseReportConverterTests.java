@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.pde.api.tools.internal.search.ConsumerReportConvertor;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the HTML reports of a use scan written by several threads are
+ * the same as the ones written on the calling thread
+ */
+public class UseReportConverterTests {
+
+	private static final String THREADS_PROPERTY = "org.eclipse.pde.api.tools.useReportConverter.threads"; //$NON-NLS-1$
+	private static final String REPORT_NAME = "PDEApiUseScanReport"; //$NON-NLS-1$
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private String xmlLocation;
+
+	@Before
+	public void setUp() throws Exception {
+		File reports = folder.newFolder("scan"); //$NON-NLS-1$
+		Util.unzip(TestSuiteHelper.getPluginDirectoryPath().append("test-apiusescan/reports/" + REPORT_NAME + ".zip").toOSString(), reports.getAbsolutePath()); //$NON-NLS-1$ //$NON-NLS-2$
+		xmlLocation = new File(reports, REPORT_NAME + "/xml").getAbsolutePath(); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(THREADS_PROPERTY);
+	}
+
+	@Test
+	public void testUseReport() throws Exception {
+		Map<String, String> serial = convert("1", html -> new UseReportConverter(html, xmlLocation, null, null)); //$NON-NLS-1$
+		Map<String, String> concurrent = convert("4", html -> new UseReportConverter(html, xmlLocation, null, null)); //$NON-NLS-1$
+		assertTrue("The report should have pages for several components", serial.keySet().stream().filter(page -> page.endsWith("/index.html")).count() > 2); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(serial, concurrent);
+	}
+
+	@Test
+	public void testConsumerReport() throws Exception {
+		Map<String, String> serial = convert("1", html -> new ConsumerReportConvertor(html, xmlLocation, null, null)); //$NON-NLS-1$
+		Map<String, String> concurrent = convert("4", html -> new ConsumerReportConvertor(html, xmlLocation, null, null)); //$NON-NLS-1$
+		assertTrue("The report should have pages for several consumers", serial.size() > 5); //$NON-NLS-1$
+		assertEquals(serial, concurrent);
+	}
+
+	interface ConverterFactory {
+		UseReportConverter create(String htmlLocation);
+	}
+
+	/**
+	 * Converts the scan with the given number of page writing threads and
+	 * returns the written pages by their path relative to the HTML root
+	 */
+	private Map<String, String> convert(String threads, ConverterFactory factory) throws Exception {
+		System.setProperty(THREADS_PROPERTY, threads);
+		Path html = folder.newFolder("html-" + threads).toPath(); //$NON-NLS-1$
+		factory.create(html.toString()).convert(null, null);
+		Map<String, String> pages = new TreeMap<>();
+		try (Stream<Path> files = Files.walk(html)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+				pages.put(html.relativize(file).toString().replace(File.separatorChar, '/'), Files.readString(file));
+			}
+		}
+		return pages;
+	}
+}
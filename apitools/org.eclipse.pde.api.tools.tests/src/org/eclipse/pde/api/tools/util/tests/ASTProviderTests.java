@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.pde.api.tools.internal.util.ASTProvider;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the sharing of ASTs by the {@link ASTProvider}
+ */
+public class ASTProviderTests extends AbstractApiTest {
+
+	private static final String SOURCE_A = "package p;\npublic class A {}\n"; //$NON-NLS-1$
+	private static final String SOURCE_B = "package p;\npublic class B {}\n"; //$NON-NLS-1$
+
+	private ICompilationUnit fUnit;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PROJECT_NAME, new String[] { "p" }); //$NON-NLS-1$
+		IJavaProject project = getTestingJavaProject(TESTING_PROJECT_NAME);
+		assertNotNull("The java project must have been created", project); //$NON-NLS-1$
+		IPackageFragment fragment = project.getPackageFragmentRoot(project.getProject().getFolder(ProjectUtils.SRC_FOLDER)).getPackageFragment("p"); //$NON-NLS-1$
+		fUnit = fragment.createCompilationUnit("A.java", SOURCE_A, true, new NullProgressMonitor()); //$NON-NLS-1$
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		assertNull("No provider should be left open", ASTProvider.getCurrent()); //$NON-NLS-1$
+		deleteProject(TESTING_PROJECT_NAME);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that an open provider returns the same AST for the same unit and
+	 * that an AST with bindings is reused when none are needed
+	 */
+	@Test
+	public void testReuse() {
+		try (ASTProvider provider = ASTProvider.open()) {
+			CompilationUnit ast = ASTProvider.getAST(fUnit, false);
+			assertSame("The AST should be shared", ast, ASTProvider.getAST(fUnit, false)); //$NON-NLS-1$
+			CompilationUnit bindings = ASTProvider.getAST(fUnit, true);
+			assertNotSame("An AST with bindings should be created", ast, bindings); //$NON-NLS-1$
+			assertNotNull("The AST should have bindings", typeName(bindings).resolveBinding()); //$NON-NLS-1$
+			assertSame("The AST with bindings should be shared", bindings, provider.get(fUnit, true)); //$NON-NLS-1$
+			Map<ICompilationUnit, CompilationUnit> accepted = new HashMap<>();
+			ASTProvider.acceptASTs(new ICompilationUnit[] { fUnit }, accepted::put, new NullProgressMonitor());
+			assertSame("The batch should use the shared AST", ast, accepted.get(fUnit)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that nested opens share one provider until the outermost close and
+	 * that ASTs are not shared without a provider
+	 */
+	@Test
+	public void testNesting() {
+		try (ASTProvider outer = ASTProvider.open()) {
+			CompilationUnit ast = ASTProvider.getAST(fUnit, false);
+			try (ASTProvider inner = ASTProvider.open()) {
+				assertSame("Nested opens should share the provider", outer, inner); //$NON-NLS-1$
+			}
+			assertSame("The provider should stay open", outer, ASTProvider.getCurrent()); //$NON-NLS-1$
+			assertSame("The AST should still be shared", ast, ASTProvider.getAST(fUnit, false)); //$NON-NLS-1$
+		}
+		assertNotSame("ASTs should not be shared without a provider", ASTProvider.getAST(fUnit, false), ASTProvider.getAST(fUnit, false)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the AST of a unit is parsed again once its source changed,
+	 * saved or not
+	 */
+	@Test
+	public void testInvalidation() throws Exception {
+		try (ASTProvider provider = ASTProvider.open()) {
+			CompilationUnit ast = ASTProvider.getAST(fUnit, false);
+			CompilationUnit bindings = ASTProvider.getAST(fUnit, true);
+			assertEquals("A", typeName(ast).getIdentifier()); //$NON-NLS-1$
+
+			fUnit.getBuffer().setContents(SOURCE_B);
+			CompilationUnit changed = provider.get(fUnit, false);
+			assertNotSame("The AST of the changed unit should be parsed again", ast, changed); //$NON-NLS-1$
+			assertEquals("B", typeName(changed).getIdentifier()); //$NON-NLS-1$
+			CompilationUnit changedBindings = ASTProvider.getAST(fUnit, true);
+			assertNotSame("The AST with bindings should be parsed again", bindings, changedBindings); //$NON-NLS-1$
+			assertEquals("B", typeName(changedBindings).getIdentifier()); //$NON-NLS-1$
+
+			fUnit.save(new NullProgressMonitor(), true);
+			assertSame("Saving the same source should keep the AST", changed, ASTProvider.getAST(fUnit, false)); //$NON-NLS-1$
+
+			fUnit.getBuffer().setContents(SOURCE_A);
+			Map<ICompilationUnit, CompilationUnit> accepted = new HashMap<>();
+			ASTProvider.acceptASTs(new ICompilationUnit[] { fUnit }, accepted::put, new NullProgressMonitor());
+			assertNotSame("The batch should parse the changed unit again", changed, accepted.get(fUnit)); //$NON-NLS-1$
+			assertEquals("A", typeName(accepted.get(fUnit)).getIdentifier()); //$NON-NLS-1$
+			assertSame("The batch AST should be shared", accepted.get(fUnit), ASTProvider.getAST(fUnit, false)); //$NON-NLS-1$
+			fUnit.save(new NullProgressMonitor(), true);
+		}
+	}
+
+	private static SimpleName typeName(CompilationUnit ast) {
+		return ((AbstractTypeDeclaration) ast.types().get(0)).getName();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,16 @@
 package org.eclipse.pde.api.tools.util.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 
@@ -56,7 +61,11 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -67,6 +76,7 @@ import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.api.tools.tests.AbstractApiTest;
 import org.eclipse.pde.api.tools.tests.util.FileUtils;
@@ -849,6 +859,82 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 		assertTrue("unexported package must be private", VisibilityModifiers.isPrivate(annot.getVisibility())); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that the binary form of a project API description cached in the
+	 * state location reads back equal to the description it was written from.
+	 */
+	@Test
+	public void testProjectDescriptionBinaryRoundTrip() throws Exception {
+		ProjectApiDescription desc = getTaggedProjectApiDescription();
+		String expected = Util.serializeDocument(desc.getXML());
+		Path dir = getDescriptionDirectory();
+		Files.createDirectories(dir);
+		try (OutputStream out = Files.newOutputStream(dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME))) {
+			desc.writeBinary(out);
+		}
+		ProjectApiDescription restored = restoreProjectApiDescription();
+		assertNotSame("the description must have been restored", desc, restored); //$NON-NLS-1$
+		assertEquals("the restored description is different", expected, Util.serializeDocument(restored.getXML())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a project API description cached as XML by a former version
+	 * is imported, replaced by the binary form on the next save and reads back
+	 * equal from it.
+	 */
+	@Test
+	public void testProjectDescriptionXmlMigratedToBinary() throws Exception {
+		ProjectApiDescription desc = getTaggedProjectApiDescription();
+		String expected = Util.serializeDocument(desc.getXML());
+		Path dir = getDescriptionDirectory();
+		Path xml = dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		Path binary = dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		Files.createDirectories(dir);
+		Files.deleteIfExists(binary);
+		Util.writeDocumentToFile(desc.getXML(), xml);
+
+		ProjectApiDescription imported = restoreProjectApiDescription();
+		assertEquals("the imported description is different", expected, Util.serializeDocument(imported.getXML())); //$NON-NLS-1$
+		ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+		assertTrue("the binary description must have been written", Files.isRegularFile(binary)); //$NON-NLS-1$
+		assertFalse("the XML description must have been deleted", Files.exists(xml)); //$NON-NLS-1$
+
+		ProjectApiDescription restored = restoreProjectApiDescription();
+		assertEquals("the migrated description is different", expected, Util.serializeDocument(restored.getXML())); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the API description of the testing project with tagged types,
+	 *         members and member types resolved
+	 */
+	private ProjectApiDescription getTaggedProjectApiDescription() throws CoreException {
+		IJavaProject project = getTestingProject();
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(IPath.fromOSString(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		assertTestSource(root, TESTING_PACKAGE, "TestClass1"); //$NON-NLS-1$
+		assertTestSource(root, TESTING_PACKAGE, "TestClass3"); //$NON-NLS-1$
+		IApiDescription desc = getTestProjectApiDescription();
+		assertNotNull("the testing project api description must exist", desc); //$NON-NLS-1$
+		assertNotNull(desc.resolveAnnotations(Factory.typeDescriptor("a.b.c.TestClass1"))); //$NON-NLS-1$
+		assertNotNull(desc.resolveAnnotations(Factory.typeDescriptor("a.b.c.TestClass3$InnerTestClass3"))); //$NON-NLS-1$
+		return (ProjectApiDescription) desc;
+	}
+
+	/**
+	 * Drops the cached API description of the testing project and restores it
+	 * from the state location.
+	 */
+	private ProjectApiDescription restoreProjectApiDescription() {
+		IJavaProject project = getTestingProject();
+		ApiDescriptionManager.getManager().clean(project, false, true);
+		ProjectComponent component = (ProjectComponent) getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		return (ProjectApiDescription) ApiDescriptionManager.getManager().getApiDescription(component, null);
+	}
+
+	private Path getDescriptionDirectory() {
+		return ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(TESTING_PLUGIN_PROJECT_NAME).toPath();
+	}
+
 	/**
 	 * sets the given package name to be an Exported-Package
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,27 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -39,7 +54,11 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
@@ -66,6 +85,8 @@ public class ApiAnalysisApplication implements IApplication {
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String DAEMON_ARG = "daemon"; //$NON-NLS-1$
+		private static final String SHUTDOWN_ARG = "shutdown"; //$NON-NLS-1$
 
 		private Request() {
 		}
@@ -74,13 +95,21 @@ public class ApiAnalysisApplication implements IApplication {
 			Request res = new Request();
 			String currentKey = null;
 			for (String param : params) {
+				if (param.isEmpty()) {
+					continue;
+				}
 				if (param.charAt(0) == '-') {
 					if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 						res.failOnError = true;
 					}
 					currentKey = param.substring(1);
+					if (SHUTDOWN_ARG.equals(currentKey)) {
+						res.shutdown = true;
+					}
 				} else if (PROJECT_ARG.equals(currentKey)) {
-					res.project = new File(param);
+					res.projects.add(new File(param));
+				} else if (DAEMON_ARG.equals(currentKey)) {
+					res.daemonSocket = new File(param);
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
 					res.baselinePath = new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -95,103 +124,284 @@ public class ApiAnalysisApplication implements IApplication {
 			return res;
 		}
 
-		public File project;
+		public final List<File> projects = new ArrayList<>();
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		/**
+		 * The socket to serve analysis requests on, <code>null</code> to
+		 * analyze the given projects only
+		 */
+		public File daemonSocket;
+		public boolean shutdown;
 	}
 
-	private ICoreRunnable restoreOriginalProjectState = null;
+	/**
+	 * Exit code if the analyzed projects have errors that are not API
+	 * problems
+	 */
+	private static final int BLOCKING_ERRORS = 10;
+
+	/**
+	 * Prefix of the line that ends the response to a daemon request, followed
+	 * by the exit code of the request
+	 */
+	private static final String EXIT_PREFIX = "EXIT "; //$NON-NLS-1$
+
+	/**
+	 * Timeout to check if the job manager is idle while waiting for jobs
+	 */
+	private static final long IDLE_CHECK_MILLIS = 500;
+
+	private final List<ICoreRunnable> restoreOriginalProjectState = new ArrayList<>();
+
+	/**
+	 * Key of the baseline of the previous request, the baseline is reused as
+	 * long as the key does not change
+	 */
+	private String baselineKey = null;
+	private IApiBaseline baseline = null;
+
+	/**
+	 * Key of the dependency list of the previous request, the target platform
+	 * is reused as long as the key does not change
+	 */
+	private String targetKey = null;
+
+	private volatile ServerSocketChannel server = null;
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
-		restoreOriginalProjectState = null;
+		IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
+		desc.setAutoBuilding(false);
+		ResourcesPlugin.getWorkspace().setDescription(desc);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+
+		Request args = Request
+				.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+		if (args.daemonSocket != null) {
+			return serve(args.daemonSocket);
+		}
+		return Integer.valueOf(analyze(args, System.out, System.err));
+	}
+
+	/**
+	 * Serves analysis requests on the given local socket until a request to
+	 * shut down is received. Each request consists of the application
+	 * arguments, one per line, terminated by an empty line. The response
+	 * consists of the output of the analysis followed by a line with the
+	 * {@link #EXIT_PREFIX} and the exit code. The baseline, the target platform
+	 * and the API model stay loaded between requests.
+	 */
+	private Object serve(File socket) throws IOException {
+		Files.deleteIfExists(socket.toPath());
+		try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			bindPrivately(channel, socket.toPath().toAbsolutePath());
+			this.server = channel;
+			System.out.println("API analysis daemon listening on " + socket.getAbsolutePath()); //$NON-NLS-1$
+			while (true) {
+				try (SocketChannel client = channel.accept();
+						BufferedReader reader = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+						PrintStream out = new PrintStream(Channels.newOutputStream(client), true, StandardCharsets.UTF_8)) {
+					List<String> params = new ArrayList<>();
+					String line;
+					while ((line = reader.readLine()) != null && !line.isEmpty()) {
+						params.add(line);
+					}
+					Request request = Request.readFromArgs(params.toArray(String[]::new));
+					if (request.shutdown) {
+						out.println(EXIT_PREFIX + IStatus.OK);
+						return IApplication.EXIT_OK;
+					}
+					int result;
+					try {
+						result = analyze(request, out, out);
+					} catch (CoreException e) {
+						// the workspace could not be restored, keep serving
+						ApiPlugin.log(e);
+						result = IStatus.ERROR;
+					}
+					out.println(EXIT_PREFIX + result);
+				} catch (ClosedChannelException e) {
+					// the application has been stopped
+					return IApplication.EXIT_OK;
+				} catch (IOException e) {
+					ApiPlugin.log(e);
+				}
+			}
+		} finally {
+			this.server = null;
+			Files.deleteIfExists(socket.toPath());
+		}
+	}
+
+	/**
+	 * Binds the given channel to the given socket file so that only the
+	 * current user can connect to it. Where POSIX file permissions are
+	 * supported, the socket is created in a new directory that only the
+	 * current user can access, restricted to its owner and then moved to its
+	 * location, so it is never accessible by others.
+	 */
+	private static void bindPrivately(ServerSocketChannel channel, Path socket) throws IOException {
+		Path parent = socket.getParent();
+		if (!parent.getFileSystem().supportedFileAttributeViews().contains("posix")) { //$NON-NLS-1$
+			channel.bind(UnixDomainSocketAddress.of(socket));
+			return;
+		}
+		// keep the path short, the length of socket paths is limited
+		Path directory = Files.createTempDirectory(parent, ".api", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"))); //$NON-NLS-1$ //$NON-NLS-2$
+		Path temp = directory.resolve("s"); //$NON-NLS-1$
 		try {
-			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
-			desc.setAutoBuilding(false);
-			ResourcesPlugin.getWorkspace().setDescription(desc);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
-
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
-			if (project == null) {
-				System.err.println("Project not loaded."); //$NON-NLS-1$
+			channel.bind(UnixDomainSocketAddress.of(temp));
+			Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------")); //$NON-NLS-1$
+			Files.move(temp, socket, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Imports, builds and reports the API problems of all projects of the
+	 * given request
+	 *
+	 * @return the exit code
+	 */
+	private int analyze(Request args, PrintStream out, PrintStream err) throws CoreException {
+		restoreOriginalProjectState.clear();
+		try {
+			if (args.projects.isEmpty()) {
+				err.println("No project specified."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
-			IApiBaseline baseline = setBaseline(args.baselinePath);
-			if (baseline == null) {
-				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
+			List<IProject> projects = new ArrayList<>();
+			for (File projectPath : args.projects) {
+				IProject project = importProject(projectPath, err);
+				if (project == null) {
+					err.println("Project not loaded."); //$NON-NLS-1$
+					return IStatus.ERROR;
+				}
+				projects.add(project);
+			}
+			IApiBaseline apiBaseline = getBaseline(args.baselinePath, out, err);
+			if (apiBaseline == null) {
+				err.println("Baseline shouldn't be null."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
 			setTargetPlatform(args.tpFile);
 
-			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
-			// wait untill all jobs has finished that might be sceduled as part of the
-			// build...
-			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
+			for (IProject project : projects) {
+				project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			}
-			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-			Predicate<IMarker> isAPIMarker = marker -> {
-				try {
-					return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-					return false;
-				}
-			};
-			IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker) //
-					.toArray(IMarker[]::new);
-			IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker.negate()) //
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
-					.toArray(IMarker[]::new);
-			if (allNonAPIErrors.length > 0) {
-				System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
-				for (IMarker marker : allNonAPIErrors) {
-					printMarker(marker, "FATAL"); //$NON-NLS-1$
+			// wait until all jobs have finished that might be scheduled as
+			// part of the build...
+			waitForIdle();
+			int result = IStatus.OK;
+			for (IProject project : projects) {
+				int projectResult = report(project, args.failOnError, out, err);
+				if (projectResult == BLOCKING_ERRORS || result == IStatus.OK) {
+					result = projectResult;
 				}
-				System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
-				return 10;
-			}
-			// errors
-			IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
-					.toArray(IMarker[]::new);
-			System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
-			for (IMarker marker : errorMarkers) {
-				printMarker(marker, "API ERROR"); //$NON-NLS-1$
-			}
-			// warnings
-			IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
-					.toArray(IMarker[]::new);
-			System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
-			for (IMarker marker : warningMarkers) {
-				printMarker(marker, "API WARNING"); //$NON-NLS-1$
 			}
-			// fail
-			if (args.failOnError && errorMarkers.length > 0) {
-				return IStatus.ERROR;
-			}
-			return IStatus.OK;
+			return result;
 		} catch (CoreException e) {
-			System.err.println(e.getStatus());
+			err.println(e.getStatus());
 			return IStatus.ERROR;
 		} catch (Exception e) {
-			e.printStackTrace();
+			e.printStackTrace(err);
 			return IStatus.ERROR;
 		} finally {
-			if (restoreOriginalProjectState != null) {
-				restoreOriginalProjectState.run(new NullProgressMonitor());
+			List<ICoreRunnable> restores = new ArrayList<>(restoreOriginalProjectState);
+			Collections.reverse(restores);
+			for (ICoreRunnable restore : restores) {
+				restore.run(new NullProgressMonitor());
 			}
+			restoreOriginalProjectState.clear();
 		}
 	}
 
-	private static void printMarker(IMarker marker, String type) {
+	/**
+	 * Prints the problems of the given built project
+	 *
+	 * @return the exit code for the project
+	 */
+	private static int report(IProject project, boolean failOnError, PrintStream out, PrintStream err) throws CoreException {
+		IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		Predicate<IMarker> isAPIMarker = marker -> {
+			try {
+				return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+				return false;
+			}
+		};
+		IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker) //
+				.toArray(IMarker[]::new);
+		IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker.negate()) //
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
+				.toArray(IMarker[]::new);
+		if (allNonAPIErrors.length > 0) {
+			err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
+			for (IMarker marker : allNonAPIErrors) {
+				printMarker(marker, "FATAL", out); //$NON-NLS-1$
+			}
+			err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
+			return BLOCKING_ERRORS;
+		}
+		// errors
+		IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
+				.toArray(IMarker[]::new);
+		err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
+		for (IMarker marker : errorMarkers) {
+			printMarker(marker, "API ERROR", out); //$NON-NLS-1$
+		}
+		// warnings
+		IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
+				.toArray(IMarker[]::new);
+		out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
+		for (IMarker marker : warningMarkers) {
+			printMarker(marker, "API WARNING", out); //$NON-NLS-1$
+		}
+		// fail
+		if (failOnError && errorMarkers.length > 0) {
+			return IStatus.ERROR;
+		}
+		return IStatus.OK;
+	}
+
+	/**
+	 * Waits until the job manager is idle, checking again whenever a job is
+	 * done
+	 */
+	private static void waitForIdle() throws InterruptedException {
+		IJobManager manager = Job.getJobManager();
+		Object lock = new Object();
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				synchronized (lock) {
+					lock.notifyAll();
+				}
+			}
+		};
+		manager.addJobChangeListener(listener);
+		try {
+			synchronized (lock) {
+				while (!manager.isIdle()) {
+					lock.wait(IDLE_CHECK_MILLIS);
+				}
+			}
+		} finally {
+			manager.removeJobChangeListener(listener);
+		}
+	}
+
+	private static void printMarker(IMarker marker, String type, PrintStream out) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
 		int lineNumber = marker.getAttribute(IMarker.LINE_NUMBER, -1);
@@ -200,7 +410,7 @@ public class ApiAnalysisApplication implements IApplication {
 		if (!description.isEmpty()) {
 			message = String.format("%s %s", message, description); //$NON-NLS-1$
 		}
-		System.out.println(String.format("[%s] File %s at line %d: %s (location: %s)", type, file, lineNumber, //$NON-NLS-1$
+		out.println(String.format("[%s] File %s at line %d: %s (location: %s)", type, file, lineNumber, //$NON-NLS-1$
 				message, path));
 	}
 
@@ -222,6 +432,12 @@ public class ApiAnalysisApplication implements IApplication {
 				throw new IllegalArgumentException(
 						"dependencyList argument points to non readable file: " + dependencyList.getAbsolutePath());//$NON-NLS-1$
 			}
+			String key = getFileKey(dependencyList);
+			if (key.equals(targetKey)) {
+				// already loaded by a previous request
+				return;
+			}
+			targetKey = null;
 			ITargetPlatformService service = TargetPlatformService.getDefault();
 			ITargetDefinition target = service.newTarget();
 			target.setName("buildpath"); //$NON-NLS-1$
@@ -240,10 +456,36 @@ public class ApiAnalysisApplication implements IApplication {
 			Job job = new LoadTargetDefinitionJob(target);
 			job.schedule();
 			job.join();
+			if (job.getResult() != null && job.getResult().isOK()) {
+				targetKey = key;
+			}
+		}
+	}
+
+	/**
+	 * Returns a key that changes whenever the given file is modified
+	 */
+	private static String getFileKey(File file) {
+		return file.getAbsolutePath() + '@' + file.lastModified() + '@' + file.length();
+	}
+
+	/**
+	 * Returns the baseline of the previous request if it has been created from
+	 * the same unmodified location, or sets a new one
+	 */
+	private IApiBaseline getBaseline(File baselinePath, PrintStream out, PrintStream err) throws CoreException {
+		String key = baselinePath == null ? Request.BASELINE_DEFAULT_VALUE : getFileKey(baselinePath);
+		ApiBaselineManager manager = ApiBaselineManager.getManager();
+		if (key.equals(baselineKey) && baseline != null && manager.getApiBaseline(baseline.getName()) == baseline) {
+			manager.setDefaultApiBaseline(baseline.getName());
+			return baseline;
 		}
+		baseline = setBaseline(baselinePath, out, err);
+		baselineKey = baseline != null ? key : null;
+		return baseline;
 	}
 
-	private IApiBaseline setBaseline(File baselinePath) throws CoreException {
+	private IApiBaseline setBaseline(File baselinePath, PrintStream out, PrintStream err) throws CoreException {
 		if (baselinePath == null) {
 			ApiBaseline baseline = new ApiBaseline("current running application"); //$NON-NLS-1$
 			for (Bundle bundle : ApiPlugin.getDefault().getBundle().getBundleContext().getBundles()) {
@@ -258,7 +500,7 @@ public class ApiAnalysisApplication implements IApplication {
 			return baseline;
 		}
 		if (!baselinePath.exists()) {
-			System.err
+			err
 					.println(String.format("Specified baseline %s does not denote a file or directory!", baselinePath)); //$NON-NLS-1$
 			return null;
 		}
@@ -285,7 +527,7 @@ public class ApiAnalysisApplication implements IApplication {
 			switch (resolutionStatus.getSeverity())
 				{
 				case IStatus.WARNING ->
-					System.out.println("WARNING resolving target platform: " + resolutionStatus.getMessage()); //$NON-NLS-1$
+					out.println("WARNING resolving target platform: " + resolutionStatus.getMessage()); //$NON-NLS-1$
 				case IStatus.ERROR ->
 					throw new CoreException(resolutionStatus);
 				default -> { /*Nothing*/ }
@@ -304,18 +546,18 @@ public class ApiAnalysisApplication implements IApplication {
 			ApiBaselineManager.getManager().setDefaultApiBaseline(baseline.getName());
 			return baseline;
 		} else if (baselinePath.isDirectory()) {
-			System.err.println(
+			err.println(
 					"Support for directories not implemented yet, use `default` or a `</path/to/baseline.target>` baseline for currently running application."); //$NON-NLS-1$
 			return null;
 		}
-		System.err.println(String.format("Unsupported file type %s!", baselineFileName)); //$NON-NLS-1$
+		err.println(String.format("Unsupported file type %s!", baselineFileName)); //$NON-NLS-1$
 		return null;
 	}
 
-	private IProject importProject(File projectPath) throws CoreException, IOException {
+	private IProject importProject(File projectPath, PrintStream err) throws CoreException, IOException {
 		File dotProject = new File(projectPath, IProjectDescription.DESCRIPTION_FILE_NAME);
 		if (!dotProject.isFile()) {
-			System.err.println("Expected `" + dotProject.getAbsolutePath() + "` file doesn't exist."); //$NON-NLS-1$ //$NON-NLS-2$
+			err.println("Expected `" + dotProject.getAbsolutePath() + "` file doesn't exist."); //$NON-NLS-1$ //$NON-NLS-2$
 			return null;
 		}
 		IProjectDescription projectDescription = ResourcesPlugin.getWorkspace()
@@ -331,7 +573,7 @@ public class ApiAnalysisApplication implements IApplication {
 			project.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
 
 			if (!project.getDescription().getLocationURI().equals(projectDescription.getLocationURI())) {
-				System.err.println("Project with same name and different location exists in workspace."); //$NON-NLS-1$
+				err.println("Project with same name and different location exists in workspace."); //$NON-NLS-1$
 				return null;
 			}
 		} else {
@@ -367,12 +609,12 @@ public class ApiAnalysisApplication implements IApplication {
 			projectDescription.setBuildSpec(newBuilders);
 			project.setDescription(projectDescription, IResource.NONE, new NullProgressMonitor());
 
-			restoreOriginalProjectState = m -> {
+			restoreOriginalProjectState.add(m -> {
 				projectFile.setContents(new ByteArrayInputStream(originalContent), IResource.FORCE, m);
 				projectRemover.run(m);
-			};
+			});
 		} else {
-			restoreOriginalProjectState = projectRemover;
+			restoreOriginalProjectState.add(projectRemover);
 		}
 		return project;
 	}
@@ -389,7 +631,14 @@ public class ApiAnalysisApplication implements IApplication {
 
 	@Override
 	public void stop() {
-		// Nothing to do
+		ServerSocketChannel channel = this.server;
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
+		}
 	}
 
 }
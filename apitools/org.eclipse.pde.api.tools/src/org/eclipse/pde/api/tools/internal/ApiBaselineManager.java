@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysis
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
 import org.eclipse.pde.api.tools.internal.model.WorkspaceBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -220,6 +221,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			try {
+				Files.deleteIfExists(getSnapshotFile(file).toPath());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -230,7 +236,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	/**
 	 * Loads the infos for the given baseline from persisted storage (the
-	 * *.profile file)
+	 * *.snapshot file if there is one, the *.profile file otherwise)
 	 *
 	 * @param baseline the given baseline
 	 * @throws CoreException if an exception occurs while loading baseline infos
@@ -244,16 +250,47 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		if (filename != null) {
 			File file = new File(filename);
 			if (file.exists()) {
-				try (FileInputStream inputStream = new FileInputStream(file)) {
-					baseline.restoreFrom(inputStream);
-				} catch (IOException e) {
-					ApiPlugin.log(e);
+				IApiComponent[] components = readSnapshot(baseline, getSnapshotFile(file));
+				if (components != null) {
+					baseline.restoreFrom(components);
+				} else {
+					try (FileInputStream inputStream = new FileInputStream(file)) {
+						baseline.restoreFrom(inputStream);
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
+					// write the snapshot on the next save
+					fNeedsSaving = true;
 				}
 				hasinfos.add(baseline.getName());
 			}
 		}
 	}
 
+	/**
+	 * Returns the components restored from the given snapshot or
+	 * <code>null</code> if the snapshot does not exist or cannot be read
+	 */
+	private static IApiComponent[] readSnapshot(ApiBaseline baseline, File snapshot) {
+		if (!snapshot.isFile()) {
+			return null;
+		}
+		try {
+			return BaselineSnapshot.read(baseline, snapshot);
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return the snapshot file persisted next to the given baseline file
+	 */
+	private static File getSnapshotFile(File baselineFile) {
+		String name = IPath.fromOSString(baselineFile.getName()).removeFileExtension().toString();
+		return new File(baselineFile.getParentFile(), name + BaselineSnapshot.FILE_EXTENSION);
+	}
+
 	public boolean isBaselineLoaded(IApiBaseline baseline) {
 		return hasinfos.contains(baseline.getName());
 	}
@@ -341,6 +378,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 				Path file = dir.resolve(id + BASELINE_FILE_EXTENSION);
 				writeBaselineDescription(baseline, file);
+				try {
+					BaselineSnapshot.write(baseline, getPersistedComponents(baseline), getSnapshotFile(file.toFile()));
+				} catch (CoreException e) {
+					// the profile is restored instead
+					ApiPlugin.log(e);
+				}
 				// need to save the api baseline state in order to be able
 				// to reload it later
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
@@ -379,6 +422,25 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, location);
 		}
 		Element celement = null;
+		for (IApiComponent iApiComponent : getPersistedComponents(baseline)) {
+			celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
+			celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
+			celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, IPath.fromOSString(iApiComponent.getLocation()).toPortableString());
+			root.appendChild(celement);
+		}
+		return document;
+	}
+
+	/**
+	 * Returns the components of the given baseline that are persisted, that is
+	 * all versions of all components that are not system components.
+	 *
+	 * @param baseline the given API baseline
+	 * @return the components to persist
+	 */
+	private static List<IApiComponent> getPersistedComponents(IApiBaseline baseline) {
+		List<IApiComponent> persisted = new ArrayList<>();
 		IApiComponent[] components = baseline.getApiComponents();
 		for (IApiComponent component : components) {
 			Set<IApiComponent> allComponentSet = new HashSet<>();
@@ -392,17 +454,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			}
 			for (IApiComponent iApiComponent : allComponentSet) {
 				if (!iApiComponent.isSystemComponent()) {
-					celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
-					celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
-					celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, IPath.fromOSString(iApiComponent.getLocation()).toPortableString());
-					root.appendChild(celement);
+					persisted.add(iApiComponent);
 				}
 			}
-			// clear the temporary hashset
-			allComponentSet.clear();
 		}
-		return document;
+		return persisted;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -46,7 +47,9 @@ import org.w3c.dom.Element;
 /**
  * Implementation of an API description.
  * <p>
- * Note, the implementation is not thread safe.
+ * The nodes are looked up, inserted and modified while holding the lock of
+ * the description, as descriptions that insert nodes on resolve are resolved
+ * concurrently by API comparisons.
  * </p>
  *
  * @see IApiDescription
@@ -228,6 +231,44 @@ public class ApiDescription implements IApiDescription {
 			}
 		}
 
+		/**
+		 * Persists this node in binary form, mirroring
+		 * {@link #persistXML(Document, Element)}.
+		 *
+		 * @param encoder the encoder to write to
+		 */
+		void persistBinary(ApiDescriptionEncoder encoder) throws IOException {
+			if (RestrictionModifiers.isUnrestricted(this.restrictions)) {
+				return;
+			}
+			switch (element.getElementType()) {
+				case IElementDescriptor.METHOD -> {
+					IMethodDescriptor md = (IMethodDescriptor) element;
+					encoder.writeTag(ApiDescriptionEncoder.METHOD);
+					encoder.writeString(md.getName());
+					encoder.writeString(md.getSignature());
+					persistAnnotations(encoder);
+				}
+				case IElementDescriptor.FIELD -> {
+					IFieldDescriptor fd = (IFieldDescriptor) element;
+					encoder.writeTag(ApiDescriptionEncoder.FIELD);
+					encoder.writeString(fd.getName());
+					persistAnnotations(encoder);
+				}
+				default -> { /**/ }
+			}
+		}
+
+		/**
+		 * Writes visibility and restrictions to the encoder.
+		 *
+		 * @param encoder the encoder to write to
+		 */
+		void persistAnnotations(ApiDescriptionEncoder encoder) throws IOException {
+			encoder.writeInt(this.visibility);
+			encoder.writeInt(this.restrictions);
+		}
+
 		/**
 		 * Adds visibility and restrictions to the XML element.
 		 *
@@ -274,7 +315,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+	public synchronized void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
 		visitChildren(visitor, fPackageMap, monitor);
 	}
 
@@ -296,7 +337,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+	public synchronized boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
 		ManifestNode node = findNode(element, false);
 		if (node != null) {
 			visitNode(visitor, node);
@@ -380,7 +421,7 @@ public class ApiDescription implements IApiDescription {
 	 *            getting a node
 	 * @return manifest node or <code>null</code>
 	 */
-	protected ManifestNode findNode(IElementDescriptor element, boolean write) {
+	protected synchronized ManifestNode findNode(IElementDescriptor element, boolean write) {
 		if (ApiPlugin.DEBUG_API_DESCRIPTION) {
 			StringBuilder buffer = new StringBuilder();
 			buffer.append("Looking up manifest node for element: "); //$NON-NLS-1$
@@ -431,7 +472,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+	public synchronized IApiAnnotations resolveAnnotations(IElementDescriptor element) {
 		ManifestNode node = findNode(element, false);
 		if (node != null) {
 			return resolveAnnotations(node, element);
@@ -492,7 +533,7 @@ public class ApiDescription implements IApiDescription {
 	/**
 	 * Internal hook to clear the package map to remove stale data
 	 */
-	protected void clearPackages() {
+	protected synchronized void clearPackages() {
 		if (fPackageMap != null) {
 			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
 				System.out.println("Clearing package map"); //$NON-NLS-1$
@@ -530,7 +571,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+	public synchronized IStatus setRestrictions(IElementDescriptor element, int restrictions) {
 		ManifestNode node = findNode(element, true);
 		if (node != null) {
 			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
@@ -549,7 +590,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public IStatus setVisibility(IElementDescriptor element, int visibility) {
+	public synchronized IStatus setVisibility(IElementDescriptor element, int visibility) {
 		ManifestNode node = findNode(element, true);
 		if (node != null) {
 			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
@@ -640,7 +681,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public IApiAccess resolveAccessLevel(IElementDescriptor element, IPackageDescriptor pelement) {
+	public synchronized IApiAccess resolveAccessLevel(IElementDescriptor element, IPackageDescriptor pelement) {
 		if (fAccessMap != null) {
 			HashMap<IElementDescriptor, IApiAccess> map = fAccessMap.get(pelement);
 			if (map != null) {
@@ -651,7 +692,7 @@ public class ApiDescription implements IApiDescription {
 	}
 
 	@Override
-	public void setAccessLevel(IElementDescriptor element, IPackageDescriptor pelement, int access) {
+	public synchronized void setAccessLevel(IElementDescriptor element, IPackageDescriptor pelement, int access) {
 		if (element != null && pelement != null && access != IApiAccess.NORMAL) {
 			if (fAccessMap == null) {
 				fAccessMap = new HashMap<>();
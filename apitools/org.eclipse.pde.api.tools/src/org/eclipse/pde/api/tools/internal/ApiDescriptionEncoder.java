@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the binary form of a project API description that is cached in the
+ * plug-in state location.
+ * <p>
+ * The file starts with a header holding {@link #MAGIC}, the
+ * {@link #FORMAT_VERSION}, the API description version, the component id and
+ * the package time stamp, followed by a table of all strings used. The
+ * remainder is a stream of tagged nodes referring to strings by their index in
+ * the table. Package and type nodes are terminated by an {@link #END} tag after
+ * their children, and the stream of packages is terminated by an {@link #END}
+ * tag as well, so the nodes can be restored while reading.
+ * </p>
+ *
+ * @see ApiDescriptionManager
+ */
+public final class ApiDescriptionEncoder {
+
+	/**
+	 * Header of each binary API description
+	 */
+	public static final int MAGIC = 0x41504944;
+
+	/**
+	 * Current version of the binary format
+	 */
+	public static final short FORMAT_VERSION = 1;
+
+	public static final byte END = 0;
+	public static final byte PACKAGE = 1;
+	public static final byte TYPE = 2;
+	public static final byte METHOD = 3;
+	public static final byte FIELD = 4;
+
+	private final Map<String, Integer> fStrings = new LinkedHashMap<>();
+	private final ByteArrayOutputStream fBytes = new ByteArrayOutputStream();
+	private final DataOutputStream fBody = new DataOutputStream(fBytes);
+
+	/**
+	 * Writes the tag of a node or the end of a list of nodes.
+	 *
+	 * @param tag one of the tag constants of this class
+	 */
+	public void writeTag(byte tag) throws IOException {
+		fBody.writeByte(tag);
+	}
+
+	/**
+	 * Writes the index of the given string in the string table.
+	 *
+	 * @param string the string to write, not <code>null</code>
+	 */
+	public void writeString(String string) throws IOException {
+		Integer index = fStrings.get(string);
+		if (index == null) {
+			index = Integer.valueOf(fStrings.size());
+			fStrings.put(string, index);
+		}
+		fBody.writeInt(index.intValue());
+	}
+
+	public void writeInt(int value) throws IOException {
+		fBody.writeInt(value);
+	}
+
+	public void writeLong(long value) throws IOException {
+		fBody.writeLong(value);
+	}
+
+	/**
+	 * Writes the header, the string table and all nodes written so far to the
+	 * given stream.
+	 *
+	 * @param out the stream to write to, it is not closed
+	 * @param id the id of the component the description belongs to
+	 * @param timestamp the package time stamp of the description
+	 */
+	public void writeTo(OutputStream out, String id, long timestamp) throws IOException {
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeShort(FORMAT_VERSION);
+		data.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+		data.writeUTF(id);
+		data.writeLong(timestamp);
+		data.writeInt(fStrings.size());
+		for (String string : fStrings.keySet()) {
+			data.writeUTF(string);
+		}
+		fBody.flush();
+		fBytes.writeTo(data);
+		data.flush();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
@@ -45,13 +49,13 @@ import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.internal.core.natures.PluginProject;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -154,7 +158,11 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			desc.clean();
 		}
 		if (delete) {
-			File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
+			File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 			if (file.exists()) {
 				file.delete();
 			}
@@ -231,9 +239,13 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					Files.createDirectories(dir);
+					try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME)))) {
+						desc.writeBinary(out);
+					}
+					// the binary file replaces the XML file of former versions
+					Files.deleteIfExists(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -244,12 +256,18 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	/**
 	 * Restores the API description from its saved file, if any and returns true
-	 * if successful.
+	 * if successful. The binary file is preferred, the XML file written by
+	 * former versions is still imported.
 	 *
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
-		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
+		IPath dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName());
+		File binary = dir.append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+		if (binary.exists()) {
+			return restoreBinaryDescription(project, description, binary);
+		}
+		File file = dir.append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			try {
 				String xml = Files.readString(file.toPath());
@@ -264,6 +282,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 					description.fPackageTimeStamp = timestamp;
 					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
 					restoreChildren(description, root, null, description.fPackageMap);
+					// write the binary file on the next save
+					description.modified();
 					return true;
 				}
 			} catch (IOException e) {
@@ -273,6 +293,121 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		return false;
 	}
 
+	/**
+	 * Restores the API description from its binary file, reading the nodes
+	 * while they are decoded.
+	 *
+	 * @return whether the restore succeeded
+	 * @see ApiDescriptionEncoder
+	 */
+	private boolean restoreBinaryDescription(IJavaProject project, ProjectApiDescription description, File file) throws CoreException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != ApiDescriptionEncoder.MAGIC || in.readShort() != ApiDescriptionEncoder.FORMAT_VERSION) {
+				return false;
+			}
+			String version = in.readUTF();
+			in.readUTF(); // component id
+			long timestamp = in.readLong();
+			description.setEmbeddedVersion(version);
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				return false;
+			}
+			String[] strings = new String[in.readInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			restoreChildren(description, in, strings, null, description.fPackageMap);
+			return true;
+		} catch (IOException | IndexOutOfBoundsException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		}
+		return false;
+	}
+
+	private void restoreChildren(ProjectApiDescription apiDesc, DataInputStream in, String[] strings, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException, IOException {
+		byte tag;
+		while ((tag = in.readByte()) != ApiDescriptionEncoder.END) {
+			restoreNode(apiDesc, tag, in, strings, parentNode, childrenMap);
+		}
+	}
+
+	private void restoreNode(ProjectApiDescription apiDesc, byte tag, DataInputStream in, String[] strings, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException, IOException {
+		ManifestNode node = null;
+		IElementDescriptor elementDesc = null;
+		boolean hasChildren = false;
+		switch (tag) {
+			case ApiDescriptionEncoder.PACKAGE: {
+				IPackageFragment[] fragments = new IPackageFragment[in.readInt()];
+				for (int i = 0; i < fragments.length; i++) {
+					String handle = strings[in.readInt()];
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+					}
+					fragments[i] = (IPackageFragment) je;
+				}
+				int vis = in.readInt();
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2, null);
+				}
+				elementDesc = Factory.packageDescriptor(fragments[0].getElementName());
+				node = apiDesc.newPackageNode(fragments, parentNode, elementDesc, vis, RestrictionModifiers.NO_RESTRICTIONS);
+				hasChildren = true;
+				break;
+			}
+			case ApiDescriptionEncoder.TYPE: {
+				String handle = strings[in.readInt()];
+				int vis = in.readInt();
+				int res = in.readInt();
+				long timestamp = in.readLong();
+				IJavaElement je = JavaCore.create(handle);
+				if (je == null || je.getElementType() != IJavaElement.TYPE) {
+					abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+				}
+				IType type = (IType) je;
+				elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+				TypeNode tn = apiDesc.newTypeNode(type, parentNode, elementDesc, vis, res);
+				node = tn;
+				tn.fTimeStamp = timestamp;
+				hasChildren = true;
+				break;
+			}
+			case ApiDescriptionEncoder.FIELD: {
+				String name = strings[in.readInt()];
+				int vis = in.readInt();
+				int res = in.readInt();
+				if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+					elementDesc = type.getField(name);
+					node = apiDesc.newNode(parentNode, elementDesc, vis, res);
+				}
+				break;
+			}
+			case ApiDescriptionEncoder.METHOD: {
+				String name = strings[in.readInt()];
+				String sig = strings[in.readInt()];
+				int vis = in.readInt();
+				int res = in.readInt();
+				if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+					elementDesc = type.getMethod(name, sig);
+					node = apiDesc.newNode(parentNode, elementDesc, vis, res);
+				}
+				break;
+			}
+			default:
+				break;
+		}
+		if (node != null) {
+			childrenMap.put(elementDesc, node);
+			if (hasChildren) {
+				restoreChildren(apiDesc, in, strings, node, node.children);
+			}
+		} else {
+			abort(ScannerMessages.ApiDescriptionManager_4, null);
+		}
+	}
+
 	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
 		NodeList children = element.getChildNodes();
 		for (int i = 0; i < children.getLength(); i++) {
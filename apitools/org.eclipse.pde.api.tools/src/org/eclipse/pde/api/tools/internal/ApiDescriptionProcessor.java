@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,10 +42,8 @@ import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
@@ -72,6 +70,7 @@ import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescrip
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+import org.eclipse.pde.api.tools.internal.util.ASTProvider;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.text.edits.TextEdit;
@@ -482,7 +481,9 @@ public class ApiDescriptionProcessor {
 		annotateApiSettings(project, description, serializeComponentXml(componentxml));
 		// visit the types
 		DescriptionVisitor visitor = new DescriptionVisitor(project, description, collector);
-		description.accept(visitor, null);
+		try (ASTProvider asts = ASTProvider.open()) {
+			description.accept(visitor, null);
+		}
 		IStatus status = visitor.getStatus();
 		if (!status.isOK()) {
 			throw new CoreException(status);
@@ -498,15 +499,11 @@ public class ApiDescriptionProcessor {
 	 */
 	static void processTagUpdates(IType type, IApiDescription description,
 			List<IElementDescriptor> members, Map<IFile, Set<TextEdit>> collector) throws CoreException {
-		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		ICompilationUnit cunit = type.getCompilationUnit();
 		if (cunit != null) {
-			parser.setSource(cunit);
-			Map<String, String> options = cunit.getJavaProject().getOptions(true);
-			options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-			parser.setCompilerOptions(options);
-			CompilationUnit cast = (CompilationUnit) parser.createAST(new NullProgressMonitor());
-			cast.recordModifications();
+			// the AST may be shared with other types of the unit, only the
+			// rewrite records the changes
+			CompilationUnit cast = ASTProvider.getAST(cunit, false);
 			ASTRewrite rewrite = ASTRewrite.create(cast.getAST());
 			ASTTagVisitor visitor = new ASTTagVisitor(members, description, rewrite);
 			cast.accept(visitor);
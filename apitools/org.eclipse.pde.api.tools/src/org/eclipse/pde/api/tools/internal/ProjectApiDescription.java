@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -134,6 +136,20 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistBinary(ApiDescriptionEncoder encoder) throws IOException {
+			if (hasApiVisibility(this)) {
+				encoder.writeTag(ApiDescriptionEncoder.PACKAGE);
+				encoder.writeInt(fFragments.length);
+				for (IPackageFragment fFragment : fFragments) {
+					encoder.writeString(fFragment.getHandleIdentifier());
+				}
+				encoder.writeInt(this.visibility);
+				persistChildren(encoder, children);
+				encoder.writeTag(ApiDescriptionEncoder.END);
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -312,6 +328,18 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistBinary(ApiDescriptionEncoder encoder) throws IOException {
+			if (hasApiVisibility(this)) {
+				encoder.writeTag(ApiDescriptionEncoder.TYPE);
+				encoder.writeString(fType.getHandleIdentifier());
+				persistAnnotations(encoder);
+				encoder.writeLong(fTimeStamp);
+				persistChildren(encoder, children);
+				encoder.writeTag(ApiDescriptionEncoder.END);
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -650,6 +678,31 @@ public class ProjectApiDescription extends ApiDescription {
 		return document;
 	}
 
+	/**
+	 * Writes this API description in the binary form restored by
+	 * {@link ApiDescriptionManager}.
+	 *
+	 * @param out the stream to write to, it is not closed
+	 */
+	public synchronized void writeBinary(OutputStream out) throws IOException {
+		ApiDescriptionEncoder encoder = new ApiDescriptionEncoder();
+		persistChildren(encoder, fPackageMap);
+		encoder.writeTag(ApiDescriptionEncoder.END);
+		encoder.writeTo(out, getJavaProject().getElementName(), fPackageTimeStamp);
+	}
+
+	/**
+	 * Persists the elements in the given map in binary form.
+	 *
+	 * @param encoder the encoder to write to
+	 * @param elementMap elements to persist
+	 */
+	void persistChildren(ApiDescriptionEncoder encoder, Map<IElementDescriptor, ManifestNode> elementMap) throws IOException {
+		for (ManifestNode node : elementMap.values()) {
+			node.persistBinary(encoder);
+		}
+	}
+
 	/**
 	 * Persists the elements in the given map as XML elements, appended to the
 	 * given xmlElement.
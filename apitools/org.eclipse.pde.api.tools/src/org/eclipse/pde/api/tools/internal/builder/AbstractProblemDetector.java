@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,6 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -62,6 +61,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.util.ASTProvider;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
 
@@ -727,12 +727,7 @@ public abstract class AbstractProblemDetector implements IApiProblemDetector {
 				}
 				if (method == null) {
 					// look it up the hard way
-					ISourceRange range = jtype.getCompilationUnit().getSourceRange();
-					ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-					parser.setSource(jtype.getCompilationUnit());
-					parser.setSourceRange(range.getOffset(), range.getLength());
-					parser.setResolveBindings(true);
-					ASTNode ptype = parser.createAST(null);
+					ASTNode ptype = ASTProvider.getAST(jtype.getCompilationUnit(), true);
 					MethodFinder finder = new MethodFinder(type, jtype);
 					ptype.accept(finder);
 					method = finder.method;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,8 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceStatus;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -177,6 +179,14 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * Collects the markers cleaned up by the current build while it is not
+	 * running as a job, so that unchanged markers can be kept when the new
+	 * problems are reported. <code>null</code> if markers are deleted right
+	 * away.
+	 */
+	private MarkerReconciler markerReconciler = null;
+
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
 	 * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
@@ -216,7 +226,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning api use problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
 
 				IProject project = resource.getProject();
 				IMarker[] markers = project.findMarkers(IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
@@ -226,7 +236,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					if (adaptor != null && adaptor instanceof ICompilationUnit) {
 						IType typeroot = ((ICompilationUnit) adaptor).findPrimaryType();
 						if (typeroot != null && typeName != null && typeName.startsWith(typeroot.getFullyQualifiedName())) {
-							marker.delete();
+							deleteMarker(marker);
 						}
 					}
 				}
@@ -245,7 +255,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning unsupported tag problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -264,7 +274,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning unsupported annotation problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -279,13 +289,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupCompatibilityMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-				resource.deleteMarkers(IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				if (resource.getType() == IResource.PROJECT) {
 					// on full builds
-					resource.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-					resource.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
-					resource.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+					deleteMarkers(resource, IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+					deleteMarkers(resource, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+					deleteMarkers(resource, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
 				}
 			}
 		} catch (CoreException e) {
@@ -299,11 +309,11 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupUsageMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				if (resource.getType() != IResource.PROJECT) {
 					IProject pj = resource.getProject();
 					if (pj != null) {
-						pj.deleteMarkers(IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+						deleteMarkers(pj, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 					}
 				}
 			}
@@ -318,7 +328,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupFatalMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.FATAL_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.FATAL_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -331,13 +341,43 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanUnusedFilterMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException ce) {
 			ApiPlugin.log(ce.getStatus());
 		}
 	}
 
+	/**
+	 * Deletes the markers of the given type from the given resource. While
+	 * markers are reconciled the markers are only collected and deleted when
+	 * the new markers are created, unless they are reported again.
+	 *
+	 * @see IResource#deleteMarkers(String, boolean, int)
+	 */
+	void deleteMarkers(IResource resource, String type, boolean includeSubtypes, int depth) throws CoreException {
+		MarkerReconciler reconciler = this.markerReconciler;
+		if (reconciler != null) {
+			reconciler.collect(resource, type, includeSubtypes, depth);
+		} else {
+			resource.deleteMarkers(type, includeSubtypes, depth);
+		}
+	}
+
+	/**
+	 * Deletes the given marker, or collects it while markers are reconciled
+	 *
+	 * @see #deleteMarkers(IResource, String, boolean, int)
+	 */
+	void deleteMarker(IMarker marker) throws CoreException {
+		MarkerReconciler reconciler = this.markerReconciler;
+		if (reconciler != null) {
+			reconciler.collect(marker);
+		} else {
+			marker.delete();
+		}
+	}
+
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
 		// TODO probably we don't need even this and can return null if we are running as job
@@ -390,6 +430,9 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_builder, 8);
 
 		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		if (!isRunningAsJob()) {
+			this.markerReconciler = new MarkerReconciler();
+		}
 		try {
 			SubMonitor switchMonitor = localMonitor.split(4);
 			if (fullBuild) {
@@ -469,6 +512,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			}
 			ApiPlugin.log(e);
 		} finally {
+			deleteStaleMarkers();
 			try {
 				localMonitor.split(1);
 				if (this.analyzer != null) {
@@ -885,8 +929,20 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return;
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_on_0, 4);
+		BuildState previous = this.buildstate;
+		if (previous == null) {
+			try {
+				previous = BuildState.getLastBuiltState(this.currentproject);
+			} catch (CoreException e) {
+				// start from scratch
+			}
+		}
 		BuildState.setLastBuiltState(this.currentproject, null);
 		this.buildstate = new BuildState();
+		if (previous != null) {
+			// the @since tags of unchanged Javadoc comments need no check
+			this.buildstate.copySinceTags(previous);
+		}
 		localMonitor
 				.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_initializing_analyzer, currentproject.getName()));
 		cleanupMarkers(this.currentproject);
@@ -983,27 +1039,54 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * framework, no work is done.
 	 */
 	protected void createMarkersInternally(IApiProblem[] problems) {
-		try {
-			IResource manifest = Util.getManifestFile(this.currentproject);
-			if (manifest != null) {
-				manifest.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+		MarkerReconciler reconciler = this.markerReconciler != null ? this.markerReconciler : new MarkerReconciler();
+		this.markerReconciler = null;
+		IWorkspaceRunnable runnable = monitor -> {
+			try {
+				IResource manifest = Util.getManifestFile(this.currentproject);
+				if (manifest != null) {
+					reconciler.collect(manifest, IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+				}
+				reconciler.collect(this.currentproject, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+				reconciler.collect(this.currentproject, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
 			}
-			this.currentproject.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
-			this.currentproject.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			String type = null;
+			for (IApiProblem problem : problems) {
+				int category = problem.getCategory();
+				type = getProblemTypeFromCategory(category, problem.getKind());
+				if (type == null) {
+					continue;
+				}
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("ApiAnalysisBuilder: creating marker for: " + problem.toString()); //$NON-NLS-1$
+				}
+				createMarkerForProblem(category, type, problem, reconciler);
+			}
+			reconciler.deleteStale();
+		};
+		try {
+			// apply all changes at once to avoid a resource delta per marker
+			ResourcesPlugin.getWorkspace().run(runnable, this.currentproject, IWorkspace.AVOID_UPDATE, null);
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
-		String type = null;
-		for (IApiProblem problem : problems) {
-			int category = problem.getCategory();
-			type = getProblemTypeFromCategory(category, problem.getKind());
-			if (type == null) {
-				continue;
-			}
-			if (ApiPlugin.DEBUG_BUILDER) {
-				System.out.println("ApiAnalysisBuilder: creating marker for: " + problem.toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Deletes the markers cleaned up by the current build that have not been
+	 * reported again, in case the build ends without creating markers.
+	 */
+	private void deleteStaleMarkers() {
+		MarkerReconciler reconciler = this.markerReconciler;
+		this.markerReconciler = null;
+		if (reconciler != null) {
+			try {
+				reconciler.deleteStale();
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
 			}
-			createMarkerForProblem(category, type, problem);
 		}
 	}
 
@@ -1066,19 +1149,34 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * @param problem the problem to create a marker from
 	 */
 	void createMarkerForProblem(int category, String type, IApiProblem problem) {
+		createMarkerForProblem(category, type, problem, null);
+	}
+
+	/**
+	 * Creates an {@link IMarker} for the given problem, unless the given
+	 * reconciler holds a marker with the same attributes which is kept instead.
+	 *
+	 * @param reconciler the markers that are being replaced or
+	 *            <code>null</code>
+	 * @see #createMarkerForProblem(int, String, IApiProblem)
+	 */
+	private void createMarkerForProblem(int category, String type, IApiProblem problem, MarkerReconciler reconciler) {
 		IResource resource = resolveResource(problem);
 		if (resource == null) {
 			return;
 		}
 		try {
+			int severity = ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject);
 			if (category == IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM) {
 				IMarker[] markers = resource.findMarkers(type, true, IResource.DEPTH_ZERO);
 				for (IMarker marker : markers) {
 					String msg = marker.getAttribute(IMarker.MESSAGE, null);
 					if (msg == null || msg.equalsIgnoreCase(problem.getMessage())) {
 						int markerSeverity = marker.getAttribute(IMarker.SEVERITY, 0);
-						int problemSeverity = ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject);
-						if (markerSeverity == problemSeverity) {
+						if (markerSeverity == severity) {
+							if (reconciler != null) {
+								reconciler.keep(marker);
+							}
 							return; // Marker already exists
 						}
 					} else {
@@ -1086,6 +1184,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					}
 				}
 			}
+			Map<String, Object> attributes = createMarkerAttributes(category, problem, severity);
 			IMarker marker = null;
 			if (problem.getKind() == IApiProblem.API_BASELINE_MISMATCH
 					&& category == IApiProblem.CATEGORY_API_BASELINE) {
@@ -1093,49 +1192,21 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 				IMarker[] findMarkers = root.findMarkers(type, false, IResource.DEPTH_ZERO);
 				if (findMarkers.length == 0) {
-					marker = root.createMarker(type);
+					marker = root.createMarker(type, attributes);
 				}
 				else {
 					marker = findMarkers[0];
+					marker.setAttributes(attributes.keySet().toArray(new String[attributes.size()]), attributes.values().toArray());
 				}
 			} else {
-				marker = resource.createMarker(type);
-			}
-
-			int line = problem.getLineNumber();
-			switch (category)
-				{
-				case IApiProblem.CATEGORY_VERSION:
-				case IApiProblem.CATEGORY_API_BASELINE:
-				case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
-				case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
-					break;
-				}
-				default: {
-					line++;
+				marker = reconciler != null ? reconciler.reuse(resource, type, attributes) : null;
+				if (marker != null) {
+					if (ApiPlugin.DEBUG_BUILDER) {
+						System.out.println("ApiAnalysisBuilder: Kept the marker: " + marker.getId()); //$NON-NLS-1$
+					}
+					return;
 				}
-			}
-			marker.setAttributes(new String[] {
-					IMarker.MESSAGE, IMarker.SEVERITY, IMarker.LINE_NUMBER,
-					IMarker.CHAR_START, IMarker.CHAR_END, IMarker.SOURCE_ID,
-					IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID }, new Object[] {
-					problem.getMessage(),
-					Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)),
-					Integer.valueOf(line), Integer.valueOf(problem.getCharStart()),
-					Integer.valueOf(problem.getCharEnd()),
-					ApiAnalysisBuilder.SOURCE, Integer.valueOf(problem.getId()) });
-			// add message arguments, if any
-			String[] args = problem.getMessageArguments();
-			if (args.length > 0) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
-			}
-			String typeName = problem.getTypeName();
-			if (typeName != null) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
-			}
-			// add all other extra arguments, if any
-			if (problem.getExtraMarkerAttributeIds().length > 0) {
-				marker.setAttributes(problem.getExtraMarkerAttributeIds(), problem.getExtraMarkerAttributeValues());
+				marker = resource.createMarker(type, attributes);
 			}
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: Created the marker: " + marker.getId() + " - " + marker.getAttributes().entrySet()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1146,6 +1217,57 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns all attributes of the marker for the given problem
+	 *
+	 * @param category the category of the problem - see {@link IApiProblem} for
+	 *            categories
+	 * @param problem the problem to create a marker from
+	 * @param severity the severity of the marker
+	 * @return the marker attributes
+	 */
+	Map<String, Object> createMarkerAttributes(int category, IApiProblem problem, int severity) {
+		int line = problem.getLineNumber();
+		switch (category)
+			{
+			case IApiProblem.CATEGORY_VERSION:
+			case IApiProblem.CATEGORY_API_BASELINE:
+			case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
+			case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
+				break;
+			}
+			default: {
+				line++;
+			}
+		}
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(IMarker.MESSAGE, problem.getMessage());
+		attributes.put(IMarker.SEVERITY, Integer.valueOf(severity));
+		attributes.put(IMarker.LINE_NUMBER, Integer.valueOf(line));
+		attributes.put(IMarker.CHAR_START, Integer.valueOf(problem.getCharStart()));
+		attributes.put(IMarker.CHAR_END, Integer.valueOf(problem.getCharEnd()));
+		attributes.put(IMarker.SOURCE_ID, ApiAnalysisBuilder.SOURCE);
+		attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID, Integer.valueOf(problem.getId()));
+		// add message arguments, if any
+		String[] args = problem.getMessageArguments();
+		if (args.length > 0) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
+		}
+		String typeName = problem.getTypeName();
+		if (typeName != null) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
+		}
+		// add all other extra arguments, if any
+		String[] ids = problem.getExtraMarkerAttributeIds();
+		Object[] values = problem.getExtraMarkerAttributeValues();
+		for (int i = 0; i < ids.length; i++) {
+			attributes.put(ids[i], values[i]);
+		}
+		// unset attributes are not stored with the marker
+		attributes.values().removeIf(value -> value == null);
+		return attributes;
+	}
+
 	/**
 	 * Resolves the resource from the path in the problem, returns
 	 * <code>null</code> in the following cases:
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,10 +28,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.jar.JarFile;
+import java.util.zip.CRC32;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -44,7 +44,6 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
@@ -54,16 +53,14 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IParent;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CharOperation;
-import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.BinaryType;
 import org.eclipse.jface.text.BadLocationException;
@@ -110,6 +107,7 @@ import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemFilter
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemTypes;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
+import org.eclipse.pde.api.tools.internal.util.ASTProvider;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.SinceTagVersion;
 import org.eclipse.pde.api.tools.internal.util.Util;
@@ -149,6 +147,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private List<IDelta> fPendingDeltaInfos = new ArrayList<>(3);
 
+	/**
+	 * The handle identifiers of the members whose @since tags have been checked
+	 * while comparing complete components, <code>null</code> otherwise
+	 */
+	private Set<String> fCheckedSinceTags = null;
+
 	/**
 	 * The current build state to use
 	 */
@@ -184,7 +188,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
-		try {
+		// share the ASTs of the sources between all checks of this analysis
+		try (ASTProvider asts = ASTProvider.open()) {
 			this.fJavaProject = getJavaProject(component);
 			this.fFilterStore = filterStore;
 			this.fPreferences = preferences;
@@ -884,20 +889,14 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Creates and AST for the given {@link ITypeRoot} at the given offset
+	 * Returns the AST for the given {@link ITypeRoot}, shared for the current
+	 * analysis
 	 */
-	private CompilationUnit createAST(ITypeRoot root, int offset) {
+	private CompilationUnit createAST(ITypeRoot root) {
 		if (fJavaProject == null) {
 			return null;
 		}
-		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-		parser.setFocalPosition(offset);
-		parser.setResolveBindings(false);
-		parser.setSource(root);
-		Map<String, String> options = fJavaProject.getOptions(true);
-		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-		parser.setCompilerOptions(options);
-		return (CompilationUnit) parser.createAST(new NullProgressMonitor());
+		return ASTProvider.getAST(root, false);
 	}
 
 	/**
@@ -1157,8 +1156,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	private void scanSource(IJavaElement element, boolean tags, boolean annotations, IProgressMonitor monitor) throws JavaModelException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor);
 		switch (element.getElementType()) {
-			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
-			case IJavaElement.PACKAGE_FRAGMENT: {
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT: {
 				IParent parent = (IParent) element;
 				IJavaElement[] children = parent.getChildren();
 				subMonitor.setWorkRemaining(children.length);
@@ -1167,6 +1165,14 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				}
 				break;
 			}
+			case IJavaElement.PACKAGE_FRAGMENT: {
+				// parse all units of the package in one batch
+				ICompilationUnit[] units = ((IPackageFragment) element).getCompilationUnits();
+				if (fJavaProject != null) {
+					ASTProvider.acceptASTs(units, (unit, comp) -> processType(unit, comp, tags, annotations), subMonitor);
+				}
+				break;
+			}
 			case IJavaElement.COMPILATION_UNIT: {
 				ICompilationUnit unit = (ICompilationUnit) element;
 				processType(unit, tags, annotations);
@@ -1204,10 +1210,17 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * Processes the given {@link ICompilationUnit} for invalid tags
 	 */
 	private void processType(ICompilationUnit cunit, boolean tags, boolean annotations) {
-		CompilationUnit comp = createAST(cunit, 0);
+		CompilationUnit comp = createAST(cunit);
 		if (comp == null) {
 			return;
 		}
+		processType(cunit, comp, tags, annotations);
+	}
+
+	/**
+	 * Validates the tags of the given {@link ICompilationUnit} using its AST
+	 */
+	private void processType(ICompilationUnit cunit, CompilationUnit comp, boolean tags, boolean annotations) {
 		TagValidator tv = new TagValidator(cunit, tags, annotations);
 		comp.accept(tv);
 		IApiProblem[] tagProblems = tv.getProblems();
@@ -1469,9 +1482,16 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				localmonitor.subTask(BuilderMessages.BaseApiAnalyzer_checking_since_tags);
 				SubMonitor checkLoopMonitor = localmonitor.split(1).setWorkRemaining(fPendingDeltaInfos.size());
 				if (!fPendingDeltaInfos.isEmpty()) {
-					for (IDelta d : fPendingDeltaInfos) {
-						checkLoopMonitor.split(1);
-						checkSinceTags((Delta) d, component);
+					fCheckedSinceTags = new HashSet<>();
+					try {
+						for (IDelta d : fPendingDeltaInfos) {
+							checkLoopMonitor.split(1);
+							checkSinceTags((Delta) d, component);
+						}
+						// forget the members that no longer need an @since tag
+						fBuildState.retainSinceTags(fCheckedSinceTags);
+					} finally {
+						fCheckedSinceTags = null;
 					}
 				}
 			}
@@ -1558,8 +1578,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		IApiProblem problem = null;
 		ISourceRange nameRange = null;
+		long fingerprint;
 		try {
 			nameRange = member.getNameRange();
+			fingerprint = getJavadocFingerprint(member, cunit);
 		} catch (JavaModelException e) {
 			ApiPlugin.log(e);
 			return;
@@ -1568,13 +1590,24 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			return;
 		}
 		try {
-			int offset = nameRange.getOffset();
-			CompilationUnit comp = createAST(cunit, offset);
-			if (comp == null) {
-				return;
+			String memberKey = member.getHandleIdentifier();
+			BuildState.SinceTag tag = fBuildState.getSinceTag(delta.getTypeName(), memberKey);
+			SinceTagChecker visitor;
+			if (tag != null && tag.fingerprint() == fingerprint) {
+				// the Javadoc has not changed since the last check
+				visitor = new SinceTagChecker(tag.bits(), tag.version());
+			} else {
+				CompilationUnit comp = createAST(cunit);
+				if (comp == null) {
+					return;
+				}
+				visitor = new SinceTagChecker(nameRange.getOffset());
+				comp.accept(visitor);
+				fBuildState.setSinceTag(delta.getTypeName(), memberKey, new BuildState.SinceTag(fingerprint, visitor.bits, visitor.getSinceVersion()));
+			}
+			if (fCheckedSinceTags != null) {
+				fCheckedSinceTags.add(memberKey);
 			}
-			SinceTagChecker visitor = new SinceTagChecker(offset);
-			comp.accept(visitor);
 			// we must retrieve the component version from the delta component
 			// id
 			String componentVersionId = delta.getComponentVersionId();
@@ -1662,6 +1695,22 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 	}
 
+	/**
+	 * Returns a fingerprint of the Javadoc comment of the given member, the only
+	 * source an @since tag check depends on
+	 */
+	private static long getJavadocFingerprint(IMember member, ICompilationUnit cunit) throws JavaModelException {
+		ISourceRange range = member.getJavadocRange();
+		String source = cunit.getSource();
+		if (range == null || source == null) {
+			return 0L;
+		}
+		String javadoc = source.substring(range.getOffset(), range.getOffset() + range.getLength());
+		CRC32 crc = new CRC32();
+		crc.update(javadoc.getBytes(StandardCharsets.UTF_8));
+		return crc.getValue() << 32 | (javadoc.hashCode() & 0xFFFFFFFFL);
+	}
+
 	private String extractVersion(String componentVersionId) {
 		// extract the version from the delta component id. It is located
 		// between parenthesis
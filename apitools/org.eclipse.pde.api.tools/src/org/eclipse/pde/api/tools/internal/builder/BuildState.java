@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 35;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,15 +78,38 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Map of the outcome of the last @since tag check of each member, keyed by
+	 * the name of its top level type and the handle identifier of the member
+	 */
+	private final Map<String, Map<String, SinceTag>> sinceTags;
+	/**
+	 * The outcomes of the types cleaned up in the current build. They are only
+	 * reused for members that are checked again and are not saved.
+	 */
+	private final Map<String, Map<String, SinceTag>> cleanedSinceTags;
+
+	/**
+	 * The outcome of an @since tag check of a member
+	 *
+	 * @param fingerprint the fingerprint of the Javadoc of the member when it
+	 *            was checked
+	 * @param bits the bits of the {@link SinceTagChecker}
+	 * @param version the version found in the @since tag or <code>null</code>
+	 */
+	public record SinceTag(long fingerprint, int bits, String version) {
+	}
 
 	/**
 	 * Constructor
 	 */
-	BuildState() {
+	public BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
+		this.sinceTags = new HashMap<>();
+		this.cleanedSinceTags = new HashMap<>();
 	}
 
 	/**
@@ -156,6 +179,23 @@ public class BuildState {
 					state.setBuildPropertiesState(map);
 				}
 			}
+			if (in.available() > 0) {
+				count = in.readInt();
+				// read the outcome of the @since tag checks of each type
+				for (int i = 0; i < count; i++) {
+					String typeName = in.readUTF();
+					int members = in.readInt();
+					Map<String, SinceTag> tags = new HashMap<>(members * 2);
+					for (int j = 0; j < members; j++) {
+						String member = in.readUTF();
+						long fingerprint = in.readLong();
+						int bits = in.readInt();
+						String version = in.readBoolean() ? in.readUTF() : null;
+						tags.put(member, new SinceTag(fingerprint, bits, version));
+					}
+					state.sinceTags.put(typeName, tags);
+				}
+			}
 			return state;
 		}
 		return null;
@@ -210,6 +250,21 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		out.writeInt(state.sinceTags.size());
+		for (Entry<String, Map<String, SinceTag>> type : state.sinceTags.entrySet()) {
+			out.writeUTF(type.getKey());
+			out.writeInt(type.getValue().size());
+			for (Entry<String, SinceTag> tag : type.getValue().entrySet()) {
+				SinceTag value = tag.getValue();
+				out.writeUTF(tag.getKey());
+				out.writeLong(value.fingerprint());
+				out.writeInt(value.bits());
+				out.writeBoolean(value.version() != null);
+				if (value.version() != null) {
+					out.writeUTF(value.version());
+				}
+			}
+		}
 	}
 
 	/**
@@ -371,6 +426,82 @@ public class BuildState {
 		this.breakingChanges.remove(typeName);
 		this.compatibleChanges.remove(typeName);
 		this.reexportedComponents = null;
+		// the members of a removed type are not checked again and are
+		// forgotten, re-analyzed members record their outcome again
+		String topLevelTypeName = getTopLevelTypeName(typeName);
+		Map<String, SinceTag> tags = this.sinceTags.remove(topLevelTypeName);
+		if (tags != null) {
+			this.cleanedSinceTags.computeIfAbsent(topLevelTypeName, name -> new HashMap<>()).putAll(tags);
+		}
+	}
+
+	/**
+	 * Returns the outcome of the last @since tag check of the given member
+	 *
+	 * @param typeName the name of the type declaring the member
+	 * @param member the handle identifier of the member
+	 * @return the outcome of the last check or <code>null</code> if the member
+	 *         has not been checked yet
+	 */
+	public SinceTag getSinceTag(String typeName, String member) {
+		String topLevelTypeName = getTopLevelTypeName(typeName);
+		Map<String, SinceTag> tags = this.sinceTags.get(topLevelTypeName);
+		SinceTag tag = tags != null ? tags.get(member) : null;
+		if (tag == null) {
+			tags = this.cleanedSinceTags.get(topLevelTypeName);
+			tag = tags != null ? tags.get(member) : null;
+		}
+		return tag;
+	}
+
+	/**
+	 * Records the outcome of an @since tag check of the given member
+	 *
+	 * @param typeName the name of the type declaring the member
+	 * @param member the handle identifier of the member
+	 * @param tag the outcome of the check
+	 */
+	public void setSinceTag(String typeName, String member, SinceTag tag) {
+		this.sinceTags.computeIfAbsent(getTopLevelTypeName(typeName), name -> new HashMap<>()).put(member, tag);
+	}
+
+	/**
+	 * Removes the outcome of the @since tag checks of all members but the
+	 * given ones
+	 *
+	 * @param members the handle identifiers of the members to keep
+	 */
+	void retainSinceTags(Collection<String> members) {
+		for (Iterator<Map<String, SinceTag>> i = this.sinceTags.values().iterator(); i.hasNext();) {
+			Map<String, SinceTag> tags = i.next();
+			tags.keySet().retainAll(members);
+			if (tags.isEmpty()) {
+				i.remove();
+			}
+		}
+		this.cleanedSinceTags.clear();
+	}
+
+	/**
+	 * Copies the outcome of the @since tag checks recorded in the given state
+	 * to this state. As each outcome is only reused for an unchanged Javadoc,
+	 * they remain valid across full builds.
+	 *
+	 * @param state the state to copy from
+	 */
+	void copySinceTags(BuildState state) {
+		for (Entry<String, Map<String, SinceTag>> type : state.sinceTags.entrySet()) {
+			this.sinceTags.put(type.getKey(), new HashMap<>(type.getValue()));
+		}
+	}
+
+	/**
+	 * Returns the name of the top level type of the given type name, the
+	 * outcomes of the @since tag checks are kept per top level type
+	 */
+	private static String getTopLevelTypeName(String typeName) {
+		int index = typeName.indexOf('$');
+		return index < 0 ? typeName : typeName.substring(0, index);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -542,7 +542,7 @@ public class IncrementalApiBuilder {
 				for (IMarker marker : markers) {
 					tname = Util.getTypeNameFromMarker(marker);
 					if (this.context.containsStructuralChange(tname)) {
-						marker.delete();
+						this.builder.deleteMarker(marker);
 					}
 				}
 				subMonitor.split(1);
@@ -553,7 +553,7 @@ public class IncrementalApiBuilder {
 				for (IMarker marker : markers) {
 					tname = Util.getTypeNameFromMarker(marker);
 					if (this.context.containsStructuralChange(tname)) {
-						marker.delete();
+						this.builder.deleteMarker(marker);
 					}
 				}
 				subMonitor.split(1);
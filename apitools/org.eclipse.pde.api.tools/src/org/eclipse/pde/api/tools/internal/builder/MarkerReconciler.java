@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Collects the API markers that a build is about to replace, so that markers
+ * of problems reported again can be kept instead of being deleted and created
+ * anew.
+ * <p>
+ * Markers are matched by their resource, type and all of their attributes. A
+ * matched marker is kept, all markers collected but not matched are deleted by
+ * {@link #deleteStale()}.
+ * </p>
+ *
+ * @see ApiAnalysisBuilder#createMarkersInternally(org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem[])
+ */
+public final class MarkerReconciler {
+
+	private record MarkerKey(IResource resource, String type, Map<String, Object> attributes) {
+	}
+
+	private final Set<IMarker> fStale = new LinkedHashSet<>();
+
+	/**
+	 * The collected markers by their key, built on the first match and
+	 * updated in place afterwards
+	 */
+	private Map<MarkerKey, Deque<IMarker>> fIndex = null;
+	private final Map<IMarker, MarkerKey> fKeys = new HashMap<>();
+
+	/**
+	 * Collects the given markers to be deleted unless they are matched later
+	 *
+	 * @param markers the markers to collect
+	 */
+	public void collect(IMarker... markers) throws CoreException {
+		for (IMarker marker : markers) {
+			if (fStale.add(marker) && fIndex != null) {
+				index(marker);
+			}
+		}
+	}
+
+	/**
+	 * Collects the markers of the given type on the given resource to be
+	 * deleted unless they are matched later
+	 *
+	 * @see IResource#findMarkers(String, boolean, int)
+	 */
+	public void collect(IResource resource, String type, boolean includeSubtypes, int depth) throws CoreException {
+		collect(resource.findMarkers(type, includeSubtypes, depth));
+	}
+
+	/**
+	 * Returns a collected marker with exactly the given resource, type and
+	 * attributes, it is no longer deleted as stale.
+	 *
+	 * @return the matching marker or <code>null</code> if there is none
+	 */
+	public IMarker reuse(IResource resource, String type, Map<String, Object> attributes) throws CoreException {
+		if (fStale.isEmpty()) {
+			return null;
+		}
+		if (fIndex == null) {
+			fIndex = new HashMap<>();
+			for (IMarker marker : fStale) {
+				index(marker);
+			}
+		}
+		Deque<IMarker> markers = fIndex.get(new MarkerKey(resource, type, attributes));
+		if (markers == null || markers.isEmpty()) {
+			return null;
+		}
+		IMarker marker = markers.poll();
+		fStale.remove(marker);
+		fKeys.remove(marker);
+		return marker;
+	}
+
+	/**
+	 * Removes the given marker from the collected ones, it is no longer
+	 * deleted as stale.
+	 */
+	public void keep(IMarker marker) {
+		if (fStale.remove(marker)) {
+			MarkerKey key = fKeys.remove(marker);
+			if (key != null) {
+				fIndex.get(key).remove(marker);
+			}
+		}
+	}
+
+	/**
+	 * Deletes all collected markers that have not been matched
+	 */
+	public void deleteStale() throws CoreException {
+		if (!fStale.isEmpty()) {
+			ResourcesPlugin.getWorkspace().deleteMarkers(fStale.toArray(new IMarker[fStale.size()]));
+			fStale.clear();
+			fKeys.clear();
+			fIndex = null;
+		}
+	}
+
+	/**
+	 * Adds the given collected marker to the index of the collected markers
+	 */
+	private void index(IMarker marker) throws CoreException {
+		if (marker.exists()) {
+			Map<String, Object> existing = marker.getAttributes();
+			MarkerKey key = new MarkerKey(marker.getResource(), marker.getType(), existing == null ? Map.of() : existing);
+			fKeys.put(marker, key);
+			fIndex.computeIfAbsent(key, k -> new ArrayDeque<>()).add(marker);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,20 @@ public class SinceTagChecker extends ASTVisitor {
 		this.nameStart = nameStart;
 	}
 
+	/**
+	 * Creates a checker holding the outcome of a previous check, as recorded
+	 * in the build state
+	 *
+	 * @param bits the bits of the previous check
+	 * @param sinceVersion the version found by the previous check or
+	 *            <code>null</code>
+	 */
+	SinceTagChecker(int bits, String sinceVersion) {
+		this.nameStart = -1;
+		this.bits = bits;
+		this.sinceVersion = sinceVersion;
+	}
+
 	@Override
 	public boolean visit(CompilationUnit compilationUnit) {
 		return true;
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.comparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * Computes independent parts of an API comparison concurrently.
+ * <p>
+ * Results are always returned in the order of the inputs, so the deltas built
+ * from them are the same as the ones of a sequential comparison. Progress is
+ * reported and cancellation is checked on the calling thread only.
+ * </p>
+ * <p>
+ * The number of threads is bounded by the available processors, the system
+ * property {@value #THREADS_PROPERTY} and the maximum heap size, since every
+ * concurrent comparison holds the type structures of both sides. A value of
+ * <code>1</code> for the property disables concurrent comparisons. Work
+ * requested from a thread of the executor itself is computed sequentially, so
+ * nested comparisons cannot starve the pool.
+ * </p>
+ */
+public final class ComparisonExecutor {
+
+	/**
+	 * System property to set the maximum number of threads used to compare
+	 * API components and types
+	 */
+	public static final String THREADS_PROPERTY = "org.eclipse.pde.api.tools.comparator.threads"; //$NON-NLS-1$
+
+	/**
+	 * Heap reserved for each comparison thread
+	 */
+	private static final long MEMORY_PER_THREAD = 64L * 1024 * 1024;
+
+	private static final long CANCEL_POLL_MILLIS = 100;
+
+	private static ForkJoinPool fPool;
+
+	/**
+	 * Set while the current thread computes all work sequentially
+	 */
+	private static final ThreadLocal<Boolean> fSequential = new ThreadLocal<>();
+
+	private ComparisonExecutor() {
+	}
+
+	static int getParallelism() {
+		Runtime runtime = Runtime.getRuntime();
+		int threads = Integer.getInteger(THREADS_PROPERTY, runtime.availableProcessors()).intValue();
+		long memoryBound = runtime.maxMemory() / MEMORY_PER_THREAD;
+		return (int) Math.max(1, Math.min(threads, memoryBound));
+	}
+
+	private static synchronized ForkJoinPool getPool() {
+		if (fPool == null) {
+			int parallelism = getParallelism();
+			if (parallelism < 2) {
+				return null;
+			}
+			fPool = new ForkJoinPool(parallelism, pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("API Comparator " + thread.getPoolIndex()); //$NON-NLS-1$
+				return thread;
+			}, null, false);
+		}
+		return fPool;
+	}
+
+	/**
+	 * Runs the given comparison on the calling thread only, for example to
+	 * verify the results of a concurrent comparison.
+	 *
+	 * @param comparison the comparison to run
+	 * @return the result of the comparison
+	 */
+	public static <R> R computeSequentially(Supplier<R> comparison) {
+		Boolean previous = fSequential.get();
+		fSequential.set(Boolean.TRUE);
+		try {
+			return comparison.get();
+		} finally {
+			fSequential.set(previous);
+		}
+	}
+
+	private static boolean isWorkerThread(ForkJoinPool pool) {
+		return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+	}
+
+	/**
+	 * Applies the given computation to all inputs and returns the results in
+	 * the order of the inputs. One unit of work is reported to the given
+	 * monitor for each input.
+	 *
+	 * @param inputs the inputs to compute results for
+	 * @param computation the computation, it must not depend on the order in
+	 *            which the inputs are processed. It is passed a monitor that
+	 *            only shares the cancellation state of the given monitor.
+	 * @param monitor the monitor to report progress to and to check for
+	 *            cancellation
+	 * @return the results in the order of the inputs
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public static <T, R> List<R> computeAll(List<T> inputs, BiFunction<? super T, IProgressMonitor, ? extends R> computation, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, inputs.size());
+		IProgressMonitor cancellation = new CancellationMonitor(subMonitor);
+		List<R> results = new ArrayList<>(inputs.size());
+		ForkJoinPool pool = inputs.size() < 2 || fSequential.get() != null ? null : getPool();
+		if (pool == null || isWorkerThread(pool)) {
+			for (T input : inputs) {
+				subMonitor.split(1);
+				results.add(computation.apply(input, cancellation));
+			}
+			return results;
+		}
+		List<ForkJoinTask<R>> tasks = new ArrayList<>(inputs.size());
+		for (T input : inputs) {
+			tasks.add(pool.submit(() -> {
+				if (cancellation.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				return computation.apply(input, cancellation);
+			}));
+		}
+		try {
+			for (ForkJoinTask<R> task : tasks) {
+				results.add(await(task, subMonitor));
+				subMonitor.split(1);
+			}
+		} finally {
+			for (ForkJoinTask<R> task : tasks) {
+				task.cancel(false);
+			}
+		}
+		return results;
+	}
+
+	private static <R> R await(ForkJoinTask<R> task, IProgressMonitor monitor) {
+		while (true) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				return task.get(CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (CancellationException e) {
+				throw new OperationCanceledException();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Monitor handed to the computations, which must not report progress from
+	 * other threads but still have to notice and request cancellation
+	 */
+	private static final class CancellationMonitor extends NullProgressMonitor {
+		private final IProgressMonitor fMonitor;
+
+		CancellationMonitor(IProgressMonitor monitor) {
+			fMonitor = monitor;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fMonitor.isCanceled();
+		}
+
+		@Override
+		public void setCanceled(boolean cancelled) {
+			fMonitor.setCanceled(cancelled);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			type = buildStructure();
 			if (type == null) {
 				return null;
 			}
@@ -79,6 +79,19 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 		return fType;
 	}
 
+	/**
+	 * Builds the type structure of this type root, called if the structure is
+	 * not cached yet.
+	 *
+	 * @return the type structure or <code>null</code> if the class file could
+	 *         not be read
+	 * @throws CoreException if the contents of this type root could not be
+	 *             retrieved
+	 */
+	protected IApiType buildStructure() throws CoreException {
+		return TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+	}
+
 	/**
 	 * @see IApiTypeRoot#getApiComponent()
 	 */
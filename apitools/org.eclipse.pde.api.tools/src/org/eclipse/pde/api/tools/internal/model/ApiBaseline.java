@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -720,7 +720,18 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (disposed || restored) {
 			return;
 		}
-		IApiComponent[] components = ApiBaselineManager.getManager().readBaselineComponents(this, stream);
+		restoreFrom(ApiBaselineManager.getManager().readBaselineComponents(this, stream));
+	}
+
+	/**
+	 * Restores the given components, unless the baseline has already been
+	 * restored or disposed.
+	 *
+	 * @param components the restored components or <code>null</code> if there
+	 *            are none
+	 * @throws CoreException if unable to add the components
+	 */
+	public void restoreFrom(IApiComponent[] components) throws CoreException {
 		if (components == null) {
 			restored = true;
 			return;
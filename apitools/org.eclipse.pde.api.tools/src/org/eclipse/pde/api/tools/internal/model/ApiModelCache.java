@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,12 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * The cache may be used concurrently, for example by the threads comparing
+ * API components. Adding and removing elements is synchronized on the cache,
+ * since it creates and removes the nested caches of baselines and
+ * components.
+ * </p>
  *
  * @since 1.0.2
  */
@@ -58,8 +64,8 @@ public final class ApiModelCache {
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	final Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
+	final Cache<String, Cache<String, ApiType>> fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
 
 	/**
 	 * Constructor - no instantiation
@@ -103,55 +109,21 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
-					IApiBaseline baseline = comp.getBaseline();
+					// resolve the keys before locking the cache, the component
+					// may have to be locked for it
+					String baselineName = comp.getBaseline().getName();
 					String id = comp.getSymbolicName();
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
 					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
-						mcache.put(type.getName(), type);
+					// cache even a root type with a '$' in its name here as well
+					if (type.isMemberType() || isMemberType(type.getName())) {
+						cacheMemberType(baselineName, id, type);
 					} else {
-						typecache.put(element.getName(), element);
+						cacheType(baselineName, id, element);
 					}
 				}
 				break;
@@ -161,6 +133,30 @@ public final class ApiModelCache {
 		}
 	}
 
+	private synchronized void cacheType(String baselineName, String id, IApiElement element) {
+		Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineName);
+		if (compcache == null) {
+			compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
+			fRootCache.put(baselineName, compcache);
+		}
+		Cache<String, IApiElement> typecache = compcache.get(id);
+		if (typecache == null) {
+			typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
+			compcache.put(id, typecache);
+		}
+		typecache.put(element.getName(), element);
+	}
+
+	private synchronized void cacheMemberType(String baselineName, String id, ApiType type) {
+		String key = getCacheKey(baselineName, id, getRootName(type.getName()));
+		Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
+		if (mcache == null) {
+			mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
+			this.fMemberTypeCache.put(key, mcache);
+		}
+		mcache.put(type.getName(), type);
+	}
+
 	/**
 	 * Returns the root type name assuming that the '$' char is a member type
 	 * boundary
@@ -206,25 +202,21 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
+					Cache<String, ApiType> mcache = this.fMemberTypeCache
+							.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (mcache != null) {
+						return mcache.get(identifier);
 					}
 				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.get(componentid);
+						if (typecache != null && identifier != null) {
+							IApiElement ele = typecache.get(identifier);
+							if (ele != null) {
+								return ele;
 							}
+
 						}
 					}
 				}
@@ -233,7 +225,7 @@ public final class ApiModelCache {
 			default:
 				break;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
@@ -275,7 +267,7 @@ public final class ApiModelCache {
 	 *
 	 * @return true if the element was removed, false otherwise
 	 */
-	public boolean removeElementInfo(String baselineid, String componentid, String identifier, int type) {
+	public synchronized boolean removeElementInfo(String baselineid, String componentid, String identifier, int type) {
 		if (baselineid == null) {
 			return false;
 		}
@@ -284,41 +276,35 @@ public final class ApiModelCache {
 				if (componentid != null && identifier != null) {
 					boolean removed = true;
 					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (isMemberType(identifier)) {
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
+						if (mcache != null) {
+							return mcache.remove(identifier) != null;
 						}
+					} else {
+						this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
 					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.get(componentid);
+						if (typecache != null) {
+							removed &= typecache.remove(identifier) != null;
+							if (typecache.isEmpty()) {
+								removed &= compcache.remove(componentid) != null;
 							}
-
+							if (compcache.isEmpty()) {
+								removed &= fRootCache.remove(baselineid) != null;
+							}
+							return removed;
 						}
-					} else {
-						return false;
+
 					}
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
 				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
+				if (componentid != null) {
 					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
 					if (compcache != null) {
 						boolean removed = compcache.remove(componentid) != null;
@@ -332,10 +318,7 @@ public final class ApiModelCache {
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return fRootCache.remove(baselineid) != null;
 			}
 			default:
 				break;
@@ -356,26 +339,20 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return removeElementInfo(baseline.getName(), null, null, IApiElement.BASELINE);
 			}
 			default:
 				break;
@@ -386,10 +363,8 @@ public final class ApiModelCache {
 	/**
 	 * Clears out all cached information.
 	 */
-	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
+	public synchronized void flushCaches() {
+		fRootCache.flush();
 		flushMemberCache();
 	}
 
@@ -397,9 +372,7 @@ public final class ApiModelCache {
 	 * Flushes the cache of member types
 	 */
 	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
-		}
+		this.fMemberTypeCache.flush();
 	}
 
 	/**
@@ -408,13 +381,6 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fRootCache.isEmpty() && this.fMemberTypeCache.isEmpty();
 	}
 }
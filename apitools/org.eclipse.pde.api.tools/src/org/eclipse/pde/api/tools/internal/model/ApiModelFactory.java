@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -95,6 +95,24 @@ public class ApiModelFactory {
 		return null;
 	}
 
+	/**
+	 * Creates and returns a new API component for this baseline restored from
+	 * the given snapshot or <code>null</code> if the snapshot does not describe
+	 * a valid API component. The component is not added to the baseline.
+	 *
+	 * @param snapshot the snapshot of the API component
+	 * @return API component or <code>null</code> if the snapshot does not
+	 *         describe a valid API component
+	 * @exception CoreException if unable to create the component
+	 */
+	static IApiComponent newApiComponent(IApiBaseline baseline, BaselineSnapshot.Entry snapshot) throws CoreException {
+		BundleComponent component = new BundleComponent(baseline, snapshot, getBundleID());
+		if (component.isValidBundle()) {
+			return component;
+		}
+		return null;
+	}
+
 	/**
 	 * Creates and returns a new API component for this baseline based on the
 	 * given model or <code>null</code> if the given model cannot be resolved or
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,13 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -426,6 +428,51 @@ public class ApiType extends ApiMember implements IApiType {
 		}
 	}
 
+	/**
+	 * @return the name of the enclosing method as read from the class file,
+	 *         <code>null</code> if not known yet or the empty string if there
+	 *         is none
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName;
+	}
+
+	/**
+	 * @return the signature of the enclosing method as read from the class
+	 *         file, <code>null</code> if not known yet or the empty string if
+	 *         there is none
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature;
+	}
+
+	/**
+	 * @return the name of the enclosing type as read from the class file or
+	 *         <code>null</code> if none
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * @return the simple name set while building the type structure or
+	 *         <code>null</code> if none was set
+	 */
+	String getDeclaredSimpleName() {
+		return fSimpleName;
+	}
+
+	/**
+	 * @return the simple names of the member types declared by this type,
+	 *         never <code>null</code>
+	 */
+	Set<String> getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return Collections.emptySet();
+		}
+		return fMemberTypes.keySet();
+	}
+
 	@Override
 	public IApiMethod getEnclosingMethod() {
 		if (fEnclosingMethod == null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
@@ -96,6 +97,22 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			return fContents;
 		}
 
+		@Override
+		protected IApiType buildStructure() throws CoreException {
+			TypeStructureCache cache = ((ArchiveApiTypeContainer) getParent()).getStructureCache();
+			if (cache == null) {
+				return super.buildStructure();
+			}
+			IApiType type = cache.getStructure(getTypeName(), getApiComponent(), this);
+			if (type == null) {
+				type = super.buildStructure();
+				if (type instanceof ApiType apiType) {
+					cache.putStructure(apiType);
+				}
+			}
+			return type;
+		}
+
 		@Override
 		public String toString() {
 			return getTypeName();
@@ -118,6 +135,14 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Persistent store of the type structures of this archive, or
+	 * <code>null</code> if not initialized or not available.
+	 */
+	private TypeStructureCache fStructureCache;
+
+	private boolean fStructureCacheInitialized;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -185,7 +210,23 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fStructureCache != null) {
+			fStructureCache.save();
+		}
+	}
+
+	/**
+	 * Returns the persistent store of the type structures of this archive.
+	 *
+	 * @return the store or <code>null</code> if type structures are not
+	 *         persisted
+	 */
+	synchronized TypeStructureCache getStructureCache() {
+		if (!fStructureCacheInitialized) {
+			fStructureCacheInitialized = true;
+			fStructureCache = TypeStructureCache.forArchive(fLocation);
+		}
+		return fStructureCache;
 	}
 
 	/**
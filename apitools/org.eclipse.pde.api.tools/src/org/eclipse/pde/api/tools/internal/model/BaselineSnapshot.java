@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+
+/**
+ * Binary snapshot of the components of a persisted API baseline, stored next
+ * to its <code>.profile</code> file.
+ * <p>
+ * For each bundle component the snapshot holds its location, the size and time
+ * stamp of its archive, its complete manifest, the names of its local packages
+ * and the contents of its <code>.api_description</code> file. A baseline can
+ * therefore be restored without opening any of its archives: the bundle
+ * descriptions, the package exports and the resolved state are rebuilt in
+ * memory from the stored manifests. A component whose archive has been
+ * modified since the snapshot was written is created from its location again.
+ * </p>
+ */
+public final class BaselineSnapshot {
+
+	/**
+	 * File extension of baseline snapshots
+	 */
+	public static final String FILE_EXTENSION = ".snapshot"; //$NON-NLS-1$
+
+	/**
+	 * Header of each snapshot file
+	 */
+	private static final int MAGIC = 0x41504253;
+
+	/**
+	 * Current version of the encoding, snapshots with another version are
+	 * ignored
+	 */
+	private static final short VERSION = 1;
+
+	/**
+	 * The snapshot of one bundle component
+	 *
+	 * @param location the location of the component
+	 * @param length the size of the file identifying the contents of the
+	 *            component
+	 * @param lastModified the time stamp of the file identifying the contents
+	 *            of the component
+	 * @param manifest the complete manifest of the component
+	 * @param packageNames the names of the packages originating from the
+	 *            component
+	 * @param apiDescription the contents of the <code>.api_description</code>
+	 *            file or <code>null</code> if there is none
+	 */
+	record Entry(String location, long length, long lastModified, Map<String, String> manifest, Set<String> packageNames,
+			String apiDescription) {
+
+		/**
+		 * @return if the component has not been modified since this entry was
+		 *         created
+		 */
+		boolean isCurrent() {
+			File stamp = getStampFile(location);
+			return stamp.length() == length && stamp.lastModified() == lastModified;
+		}
+	}
+
+	private BaselineSnapshot() {
+	}
+
+	/**
+	 * Returns the file whose size and time stamp identify the contents of the
+	 * component at the given location: the archive itself or the manifest of a
+	 * component in a directory.
+	 */
+	static File getStampFile(String location) {
+		File file = new File(location);
+		if (file.isDirectory()) {
+			return new File(file, JarFile.MANIFEST_NAME);
+		}
+		return file;
+	}
+
+	/**
+	 * Restores the components of the given baseline from the given snapshot.
+	 * Components modified since the snapshot was written are created from
+	 * their location.
+	 *
+	 * @param baseline the baseline to restore the components for
+	 * @param file the snapshot file
+	 * @return the restored components sorted by name, or <code>null</code> if
+	 *         the file is not a snapshot of the baseline
+	 * @throws CoreException if the snapshot cannot be read
+	 */
+	public static IApiComponent[] read(ApiBaseline baseline, File file) throws CoreException {
+		long start = System.currentTimeMillis();
+		List<IApiComponent> components = new ArrayList<>();
+		int stale = 0;
+		boolean complete = false;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION || !baseline.getName().equals(in.readUTF())) {
+				return null;
+			}
+			if (in.readBoolean()) {
+				baseline.setLocation(in.readUTF());
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				Entry entry = readEntry(in);
+				IApiComponent component;
+				if (entry.isCurrent()) {
+					component = ApiModelFactory.newApiComponent(baseline, entry);
+				} else {
+					stale++;
+					component = ApiModelFactory.newApiComponent(baseline, entry.location());
+				}
+				if (component != null) {
+					components.add(component);
+				}
+			}
+			complete = true;
+		} catch (IOException | RuntimeException e) {
+			throw new CoreException(Status.error("Error restoring API baseline snapshot", e)); //$NON-NLS-1$
+		} finally {
+			if (!complete) {
+				for (IApiComponent component : components) {
+					component.dispose();
+				}
+			}
+		}
+		IApiComponent[] restored = components.toArray(new IApiComponent[components.size()]);
+		// same order as components restored from the profile
+		Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to restore a baseline snapshot : " + (System.currentTimeMillis() - start) + "ms, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ stale + " of " + restored.length + " components modified"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return restored;
+	}
+
+	/**
+	 * Writes a snapshot of the given components of the given baseline, unless
+	 * the existing snapshot already describes exactly these unmodified
+	 * components.
+	 *
+	 * @param baseline the baseline to write the snapshot for
+	 * @param components the components to persist
+	 * @param file the snapshot file
+	 * @throws CoreException if the snapshot cannot be written, the snapshot
+	 *             file is deleted then
+	 */
+	public static void write(IApiBaseline baseline, List<IApiComponent> components, File file) throws CoreException {
+		List<BundleComponent> bundles = new ArrayList<>(components.size());
+		for (IApiComponent component : components) {
+			if (component instanceof BundleComponent bundle && !(component instanceof ProjectComponent)) {
+				bundles.add(bundle);
+			}
+		}
+		if (isCurrent(baseline, bundles, file)) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		File folder = file.getParentFile();
+		try {
+			folder.mkdirs();
+			File temp = File.createTempFile(file.getName(), null, folder);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					out.writeInt(MAGIC);
+					out.writeShort(VERSION);
+					out.writeUTF(baseline.getName());
+					String location = baseline.getLocation();
+					out.writeBoolean(location != null);
+					if (location != null) {
+						out.writeUTF(location);
+					}
+					out.writeInt(bundles.size());
+					for (BundleComponent bundle : bundles) {
+						writeEntry(out, bundle.createSnapshotEntry());
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				temp.delete();
+			}
+		} catch (IOException | CoreException e) {
+			// never restore a snapshot that does not match the profile
+			file.delete();
+			throw new CoreException(Status.error("Error writing API baseline snapshot", e)); //$NON-NLS-1$
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to write a baseline snapshot : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Returns if the given snapshot file holds the given unmodified components
+	 * of the given baseline
+	 */
+	private static boolean isCurrent(IApiBaseline baseline, List<BundleComponent> bundles, File file) {
+		if (!file.isFile()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION || !baseline.getName().equals(in.readUTF())) {
+				return false;
+			}
+			String location = in.readBoolean() ? in.readUTF() : null;
+			if (!Objects.equals(location, baseline.getLocation()) || in.readInt() != bundles.size()) {
+				return false;
+			}
+			Set<String> locations = new HashSet<>();
+			for (BundleComponent bundle : bundles) {
+				locations.add(bundle.getLocation());
+			}
+			for (int i = 0; i < bundles.size(); i++) {
+				Entry entry = readEntry(in);
+				if (!locations.remove(entry.location()) || !entry.isCurrent()) {
+					return false;
+				}
+			}
+			return locations.isEmpty();
+		} catch (IOException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	private static Entry readEntry(DataInputStream in) throws IOException {
+		String location = in.readUTF();
+		long length = in.readLong();
+		long lastModified = in.readLong();
+		int size = in.readInt();
+		// manifest headers are case insensitive
+		Map<String, String> manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (int i = 0; i < size; i++) {
+			manifest.put(in.readUTF(), readLongString(in));
+		}
+		size = in.readInt();
+		Set<String> packageNames = new HashSet<>(size * 2);
+		for (int i = 0; i < size; i++) {
+			packageNames.add(in.readUTF());
+		}
+		String apiDescription = in.readBoolean() ? readLongString(in) : null;
+		return new Entry(location, length, lastModified, manifest, packageNames, apiDescription);
+	}
+
+	private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+		out.writeUTF(entry.location());
+		out.writeLong(entry.length());
+		out.writeLong(entry.lastModified());
+		Map<String, String> manifest = new LinkedHashMap<>(entry.manifest());
+		manifest.values().removeIf(Objects::isNull);
+		out.writeInt(manifest.size());
+		for (Map.Entry<String, String> header : manifest.entrySet()) {
+			out.writeUTF(header.getKey());
+			writeLongString(out, header.getValue());
+		}
+		out.writeInt(entry.packageNames().size());
+		for (String name : entry.packageNames()) {
+			out.writeUTF(name);
+		}
+		out.writeBoolean(entry.apiDescription() != null);
+		if (entry.apiDescription() != null) {
+			writeLongString(out, entry.apiDescription());
+		}
+	}
+
+	/**
+	 * Reads a string that may exceed the length supported by
+	 * {@link DataInputStream#readUTF()}
+	 */
+	private static String readLongString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeLongString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -161,6 +161,17 @@ public class BundleComponent extends Component {
 	 */
 	private volatile List<String> fdeclaredRequiredEE;
 
+	/**
+	 * Cached value of {@link #isSourceComponent()}
+	 */
+	private volatile Boolean fSourceComponent;
+
+	/**
+	 * The snapshot this component has been restored from until its API
+	 * description has been created, or <code>null</code>
+	 */
+	private volatile BaselineSnapshot.Entry fSnapshot;
+
 	/**
 	 * Constructs a new API component from the specified location in the file
 	 * system in the given baseline.
@@ -184,6 +195,24 @@ public class BundleComponent extends Component {
 				&& !new File(location).isFile();
 	}
 
+	/**
+	 * Constructs a new API component from the given snapshot in the given
+	 * baseline. The manifest, the package names and the API description are
+	 * taken from the snapshot instead of the component's location.
+	 *
+	 * @param baseline owning API baseline
+	 * @param snapshot the snapshot of the component
+	 * @exception CoreException if unable to create a component from the
+	 *                snapshot
+	 */
+	BundleComponent(IApiBaseline baseline, BaselineSnapshot.Entry snapshot, long bundleid) throws CoreException {
+		this(baseline, snapshot.location(), bundleid);
+		fManifest = snapshot.manifest();
+		// only components that are not source bundles are persisted
+		fSourceComponent = Boolean.FALSE;
+		fSnapshot = snapshot;
+	}
+
 	@Override
 	public void dispose() {
 		if (isDisposed()) {
@@ -195,6 +224,7 @@ public class BundleComponent extends Component {
 			synchronized (this) {
 				fManifest = null;
 				fBundleDescription = null;
+				fSnapshot = null;
 				String message = String.format("Component was disposed here [%s]", Thread.currentThread().getName()); //$NON-NLS-1$
 				disposeSource = new RuntimeException(message);
 			}
@@ -432,13 +462,17 @@ public class BundleComponent extends Component {
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			BaselineSnapshot.Entry snapshot = fSnapshot;
+			String xml = snapshot != null ? snapshot.apiDescription() : loadApiDescription(new File(fLocation));
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
 			}
 		} catch (IOException e) {
 			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
+		} finally {
+			// the snapshot is not needed any longer
+			fSnapshot = null;
 		}
 		return apiDesc;
 	}
@@ -450,6 +484,10 @@ public class BundleComponent extends Component {
 	 * @return local package names
 	 */
 	protected Set<String> getLocalPackageNames() throws CoreException {
+		BaselineSnapshot.Entry snapshot = fSnapshot;
+		if (snapshot != null) {
+			return new HashSet<>(snapshot.packageNames());
+		}
 		Set<String> names = new HashSet<>();
 		IApiTypeContainer[] containers = getApiTypeContainers();
 		for (IApiTypeContainer container : containers) {
@@ -957,11 +995,43 @@ public class BundleComponent extends Component {
 
 	@Override
 	public boolean isSourceComponent() throws CoreException {
+		Boolean sourceComponent = fSourceComponent;
+		if (sourceComponent != null) {
+			return sourceComponent.booleanValue();
+		}
 		Map<String, String> manifest = getManifest();
 		if (manifest == null) {
 			baselineDisposed(getBaseline());
 		}
-		return isSourceComponent(manifest, new File(getLocation()));
+		boolean result = isSourceComponent(manifest, new File(getLocation()));
+		fSourceComponent = Boolean.valueOf(result);
+		return result;
+	}
+
+	/**
+	 * Creates the snapshot of this component persisted with its baseline. The
+	 * manifest and the API description are read again from the component's
+	 * location, since only a part of the manifest is kept in memory.
+	 *
+	 * @return the snapshot of this component
+	 * @throws CoreException if the component cannot be read
+	 */
+	BaselineSnapshot.Entry createSnapshotEntry() throws CoreException {
+		File location = new File(fLocation);
+		File stamp = BaselineSnapshot.getStampFile(fLocation);
+		// take the stamp first, a concurrent modification invalidates it
+		long length = stamp.length();
+		long lastModified = stamp.lastModified();
+		Map<String, String> manifest = loadManifest(location, isWorkspaceBinary());
+		if (manifest == null) {
+			throw abortException("Unable to find a manifest for the component from: " + fLocation, null); //$NON-NLS-1$
+		}
+		try {
+			return new BaselineSnapshot.Entry(fLocation, length, lastModified, manifest, getLocalPackageNames(),
+					loadApiDescription(location));
+		} catch (IOException e) {
+			throw abortException("Unable to load .api_description file ", e); //$NON-NLS-1$
+		}
 	}
 
 	private static boolean isSourceComponent(Map<String, String> manifest, File location) {
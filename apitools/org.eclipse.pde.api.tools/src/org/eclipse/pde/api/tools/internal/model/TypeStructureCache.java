@@ -0,0 +1,588 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * Persistent store of the type structures built from the class files of one
+ * archive. The structures are written to the plug-in state location when the
+ * owning {@link ArchiveApiTypeContainer} is closed, so that the class files of
+ * an unchanged baseline do not have to be parsed again after a restart.
+ * <p>
+ * A store is only used as long as the digest of its archive, that is the
+ * archive location, size and time stamp, matches the one it was written for.
+ * Once per session the stores of archives that no longer exist or have
+ * changed, and stores that have not been used for {@link #MAX_UNUSED_DAYS}
+ * days, for example those of removed baselines, are deleted.
+ * Setting the system property {@link #DISABLE_PROPERTY} to <code>true</code>
+ * turns the persistent store off.
+ * </p>
+ */
+public final class TypeStructureCache {
+
+	/**
+	 * System property to disable persisting type structures
+	 */
+	public static final String DISABLE_PROPERTY = "org.eclipse.pde.api.tools.disableTypeStructureCache"; //$NON-NLS-1$
+
+	/**
+	 * Name of the folder in the plug-in state location holding the stores
+	 */
+	private static final String CACHE_FOLDER = ".type_structures"; //$NON-NLS-1$
+
+	/**
+	 * Header of each store file
+	 */
+	private static final int MAGIC = 0x41504954;
+
+	/**
+	 * Current version of the encoding, stores with another version are ignored
+	 */
+	private static final short VERSION = 1;
+
+	/**
+	 * Number of days after which a store that has not been used is deleted
+	 */
+	private static final int MAX_UNUSED_DAYS = 60;
+
+	private static final String STORE_EXTENSION = ".bin"; //$NON-NLS-1$
+
+	private static final AtomicBoolean fCleanupScheduled = new AtomicBoolean();
+
+	/**
+	 * Number of type structures restored from a store file
+	 */
+	private static final AtomicInteger fRestoredCount = new AtomicInteger();
+
+	private static final byte NONE = 0;
+	private static final byte INTEGER = 1;
+	private static final byte LONG = 2;
+	private static final byte FLOAT = 3;
+	private static final byte DOUBLE = 4;
+	private static final byte STRING = 5;
+
+	private static final int ANONYMOUS = 0x1;
+	private static final int LOCAL = 0x2;
+	private static final int MEMBER = 0x4;
+	private static final int ENCLOSING_METHOD = 0x8;
+
+	private final String fArchive;
+	private final File fStampFile;
+	private final File fStore;
+
+	/**
+	 * Shared string pool of all encoded structures, in index order
+	 */
+	private List<String> fStrings;
+	private Map<String, Integer> fStringIndex;
+
+	/**
+	 * Offsets of the encoded structures in the store file by type name
+	 */
+	private Map<String, long[]> fOffsets;
+
+	/**
+	 * Structures encoded since the store was last written by type name
+	 */
+	private final Map<String, byte[]> fPending = new LinkedHashMap<>();
+
+	private RandomAccessFile fReader;
+
+	private TypeStructureCache(String archive, File stampFile, File store) {
+		fArchive = archive;
+		fStampFile = stampFile;
+		fStore = store;
+	}
+
+	/**
+	 * Returns the persistent store for the archive at the given location or
+	 * <code>null</code> if type structures are not persisted, for example
+	 * because the framework is not running.
+	 *
+	 * @param location the location of the archive in the local file system
+	 * @return the store for the archive or <code>null</code>
+	 */
+	static TypeStructureCache forArchive(String location) {
+		File stampFile = getStampFile(location);
+		if (Boolean.getBoolean(DISABLE_PROPERTY) || !ApiPlugin.isRunningInFramework() || !stampFile.isFile()) {
+			return null;
+		}
+		if (fCleanupScheduled.compareAndSet(false, true)) {
+			Job.createSystem("Delete stale API type structures", monitor -> { //$NON-NLS-1$
+				deleteStaleStores();
+			}).schedule();
+		}
+		return new TypeStructureCache(location, stampFile, getStoreFile(location));
+	}
+
+	/**
+	 * Returns the file holding the store for the archive at the given
+	 * location. Visible for testing.
+	 *
+	 * @param location the location of the archive in the local file system
+	 * @return the store file, which may not exist
+	 */
+	public static File getStoreFile(String location) {
+		String name = new File(location).getName() + '_' + Integer.toHexString(location.hashCode()) + STORE_EXTENSION;
+		return new File(getStoreFolder(), name);
+	}
+
+	/**
+	 * Returns the number of type structures restored from stores in this
+	 * session. Visible for testing.
+	 *
+	 * @return the number of restored type structures
+	 */
+	public static int getRestoredCount() {
+		return fRestoredCount.get();
+	}
+
+	/**
+	 * Deletes the stores of archives that no longer exist or have changed
+	 * since the store was written, and the stores that have not been used
+	 * for {@link #MAX_UNUSED_DAYS} days.
+	 */
+	public static void deleteStaleStores() {
+		File[] stores = getStoreFolder().listFiles((dir, name) -> name.endsWith(STORE_EXTENSION));
+		if (stores == null) {
+			return;
+		}
+		long unusedSince = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_UNUSED_DAYS);
+		for (File store : stores) {
+			if (store.lastModified() < unusedSince || !isCurrent(store)) {
+				try {
+					Files.deleteIfExists(store.toPath());
+				} catch (IOException e) {
+					ApiPlugin.log(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return if the given store has been written by this version for an
+	 *         archive that still has the contents it was written for
+	 */
+	private static boolean isCurrent(File store) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(store.toPath())))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+				return false;
+			}
+			File stampFile = getStampFile(in.readUTF());
+			return in.readLong() == stampFile.length() && in.readLong() == stampFile.lastModified() && stampFile.isFile();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the file whose size and time stamp identify the contents of the
+	 * archive at the given location.
+	 */
+	@SuppressWarnings("restriction")
+	private static File getStampFile(String location) {
+		File stampFile = new File(location);
+		if (location.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			// the classes of a modular JRE are in lib/modules next to
+			// lib/jrt-fs.jar
+			stampFile = new File(stampFile.getParentFile(), "modules"); //$NON-NLS-1$
+		}
+		return stampFile;
+	}
+
+	private static File getStoreFolder() {
+		return ApiPlugin.getDefault().getStateLocation().append(CACHE_FOLDER).toFile();
+	}
+
+	/**
+	 * Returns the type structure stored for the given type or
+	 * <code>null</code> if none has been stored yet.
+	 *
+	 * @param typeName the fully qualified name of the type
+	 * @param component the component the type belongs to
+	 * @param root the type root the type originates from
+	 * @return the stored structure or <code>null</code>
+	 */
+	synchronized IApiType getStructure(String typeName, IApiComponent component, IApiTypeRoot root) {
+		load();
+		try {
+			byte[] bytes = fPending.get(typeName);
+			if (bytes == null) {
+				long[] position = fOffsets.get(typeName);
+				if (position == null) {
+					return null;
+				}
+				bytes = read(position);
+				fRestoredCount.incrementAndGet();
+			}
+			return decode(bytes, component, root);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			// do not use a corrupt store any longer
+			fOffsets.clear();
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the given type structure to the store. It is written to disk on the
+	 * next {@link #save()}.
+	 *
+	 * @param type the type structure to store
+	 */
+	synchronized void putStructure(ApiType type) {
+		load();
+		try {
+			fPending.put(type.getName(), encode(type));
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Writes all structures added since the last save to disk and releases
+	 * the resources held by this store.
+	 */
+	synchronized void save() {
+		if (fStrings == null) {
+			return;
+		}
+		try {
+			if (!fPending.isEmpty()) {
+				write();
+			}
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		} finally {
+			closeReader();
+			fStrings = null;
+			fStringIndex = null;
+			fOffsets = null;
+			fPending.clear();
+		}
+	}
+
+	private void load() {
+		if (fStrings != null) {
+			return;
+		}
+		fStrings = new ArrayList<>();
+		fStringIndex = new HashMap<>();
+		fOffsets = new HashMap<>();
+		if (!fStore.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fStore.toPath())))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION || !fArchive.equals(in.readUTF())
+					|| in.readLong() != fStampFile.length() || in.readLong() != fStampFile.lastModified()) {
+				return;
+			}
+			int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				addString(in.readUTF());
+			}
+			long offset = in.readLong();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String typeName = fStrings.get(in.readInt());
+				int length = in.readInt();
+				fOffsets.put(typeName, new long[] { offset, length });
+				offset += length;
+			}
+			// mark the store as used, unused stores are deleted eventually
+			fStore.setLastModified(System.currentTimeMillis());
+		} catch (IOException | IndexOutOfBoundsException e) {
+			ApiPlugin.log(e);
+			fStrings.clear();
+			fStringIndex.clear();
+			fOffsets.clear();
+		}
+	}
+
+	private byte[] read(long[] position) throws IOException {
+		if (fReader == null) {
+			fReader = new RandomAccessFile(fStore, "r"); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[(int) position[1]];
+		fReader.seek(position[0]);
+		fReader.readFully(bytes);
+		return bytes;
+	}
+
+	private void closeReader() {
+		if (fReader != null) {
+			try {
+				fReader.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fReader = null;
+		}
+	}
+
+	/**
+	 * Writes the store file: the header, the string pool, the index of all
+	 * structures and then the encoded structures in index order.
+	 */
+	private void write() throws IOException {
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		for (Map.Entry<String, long[]> entry : fOffsets.entrySet()) {
+			if (!fPending.containsKey(entry.getKey())) {
+				entries.put(entry.getKey(), read(entry.getValue()));
+			}
+		}
+		closeReader();
+		entries.putAll(fPending);
+		for (String typeName : entries.keySet()) {
+			addString(typeName);
+		}
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(header)) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeUTF(fArchive);
+			out.writeLong(fStampFile.length());
+			out.writeLong(fStampFile.lastModified());
+			out.writeInt(fStrings.size());
+			for (String string : fStrings) {
+				out.writeUTF(string);
+			}
+		}
+		// offset of the first structure: header + offset + count + index
+		long offset = header.size() + Long.BYTES + Integer.BYTES + (long) entries.size() * 2 * Integer.BYTES;
+		File folder = fStore.getParentFile();
+		folder.mkdirs();
+		File temp = File.createTempFile(fStore.getName(), null, folder);
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+				header.writeTo(out);
+				out.writeLong(offset);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+					out.writeInt(fStringIndex.get(entry.getKey()).intValue());
+					out.writeInt(entry.getValue().length);
+				}
+				for (byte[] bytes : entries.values()) {
+					out.write(bytes);
+				}
+			}
+			Files.move(temp.toPath(), fStore.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			temp.delete();
+		}
+	}
+
+	private int addString(String string) {
+		Integer index = fStringIndex.get(string);
+		if (index == null) {
+			index = Integer.valueOf(fStrings.size());
+			fStrings.add(string);
+			fStringIndex.put(string, index);
+		}
+		return index.intValue();
+	}
+
+	private void writeString(DataOutputStream out, String string) throws IOException {
+		out.writeInt(string == null ? -1 : addString(string));
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		int index = in.readInt();
+		return index == -1 ? null : fStrings.get(index);
+	}
+
+	private void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+		if (strings == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(strings.length);
+		for (String string : strings) {
+			writeString(out, string);
+		}
+	}
+
+	private String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		String[] strings = new String[length];
+		for (int i = 0; i < length; i++) {
+			strings[i] = readString(in);
+		}
+		return strings;
+	}
+
+	private byte[] encode(ApiType type) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			writeString(out, type.getName());
+			writeString(out, type.getSignature());
+			writeString(out, type.getGenericSignature());
+			out.writeInt(type.getModifiers());
+			writeString(out, type.getEnclosingTypeName());
+			writeString(out, type.getSuperclassName());
+			writeStrings(out, type.getSuperInterfaceNames());
+			writeStrings(out, type.getMemberTypeNames().toArray(String[]::new));
+			writeString(out, type.getDeclaredSimpleName());
+			int flags = 0;
+			if (type.isAnonymous()) {
+				flags |= ANONYMOUS;
+			}
+			if (type.isLocal()) {
+				flags |= LOCAL;
+			}
+			if (type.isMemberType()) {
+				flags |= MEMBER;
+			}
+			if (type.getEnclosingMethodName() != null) {
+				flags |= ENCLOSING_METHOD;
+			}
+			out.writeByte(flags);
+			if ((flags & ENCLOSING_METHOD) != 0) {
+				// the empty string marks a type without enclosing method
+				String name = type.getEnclosingMethodName();
+				String signature = type.getEnclosingMethodSignature();
+				writeString(out, name.isEmpty() ? null : name);
+				writeString(out, signature == null || signature.isEmpty() ? null : signature);
+			}
+			IApiField[] fields = type.getFields();
+			out.writeInt(fields.length);
+			for (IApiField field : fields) {
+				writeString(out, field.getName());
+				writeString(out, field.getSignature());
+				writeString(out, field.getGenericSignature());
+				out.writeInt(field.getModifiers());
+				writeConstant(out, field.getConstantValue());
+			}
+			IApiMethod[] methods = type.getMethods();
+			out.writeInt(methods.length);
+			for (IApiMethod method : methods) {
+				writeString(out, method.getName());
+				writeString(out, method.getSignature());
+				writeString(out, method.getGenericSignature());
+				out.writeInt(method.getModifiers());
+				writeStrings(out, method.getExceptionNames());
+				writeString(out, method.getDefaultValue());
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private IApiType decode(byte[] bytes, IApiComponent component, IApiTypeRoot root) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			String name = readString(in);
+			String signature = readString(in);
+			String genericSignature = readString(in);
+			int modifiers = in.readInt();
+			String enclosingName = readString(in);
+			ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingName, root);
+			type.setSuperclassName(readString(in));
+			String[] interfaces = readStrings(in);
+			if (interfaces != null) {
+				type.setSuperInterfaceNames(interfaces);
+			}
+			for (String memberType : readStrings(in)) {
+				type.addMemberType(memberType);
+			}
+			type.setSimpleName(readString(in));
+			int flags = in.readByte();
+			if ((flags & ANONYMOUS) != 0) {
+				type.setAnonymous();
+			}
+			if ((flags & LOCAL) != 0) {
+				type.setLocal();
+			}
+			if ((flags & MEMBER) != 0) {
+				type.setMemberType();
+			}
+			if ((flags & ENCLOSING_METHOD) != 0) {
+				type.setEnclosingMethodInfo(readString(in), readString(in));
+			}
+			int fields = in.readInt();
+			for (int i = 0; i < fields; i++) {
+				type.addField(readString(in), readString(in), readString(in), in.readInt(), readConstant(in));
+			}
+			int methods = in.readInt();
+			for (int i = 0; i < methods; i++) {
+				ApiMethod method = type.addMethod(readString(in), readString(in), readString(in), in.readInt(), readStrings(in));
+				method.setDefaultValue(readString(in));
+			}
+			return type;
+		} catch (IndexOutOfBoundsException e) {
+			throw new IOException("Corrupt type structure store: " + fStore, e); //$NON-NLS-1$
+		}
+	}
+
+	private void writeConstant(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof Integer i) {
+			out.writeByte(INTEGER);
+			out.writeInt(i.intValue());
+		} else if (value instanceof Long l) {
+			out.writeByte(LONG);
+			out.writeLong(l.longValue());
+		} else if (value instanceof Float f) {
+			out.writeByte(FLOAT);
+			out.writeFloat(f.floatValue());
+		} else if (value instanceof Double d) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(d.doubleValue());
+		} else if (value instanceof String s) {
+			out.writeByte(STRING);
+			writeString(out, s);
+		} else {
+			out.writeByte(NONE);
+		}
+	}
+
+	private Object readConstant(DataInputStream in) throws IOException {
+		return switch (in.readByte()) {
+			case INTEGER -> Integer.valueOf(in.readInt());
+			case LONG -> Long.valueOf(in.readLong());
+			case FLOAT -> Float.valueOf(in.readFloat());
+			case DOUBLE -> Double.valueOf(in.readDouble());
+			case STRING -> readString(in);
+			default -> null;
+		};
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -23,6 +26,7 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
 import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.comparator.ComparisonExecutor;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -107,40 +111,23 @@ public class ApiComparator {
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
-		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
+		List<IApiComponent> components = new ArrayList<>(apiComponents.length);
+		for (IApiComponent apiComponent : apiComponents) {
 			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
-					}
+				components.add(apiComponent);
+				if (baseline.getApiComponent(apiComponent.getSymbolicName()) != null) {
+					apiComponentsIds.add(apiComponent.getSymbolicName());
 				}
+			}
+		}
+		// components are compared concurrently, their deltas are added in the
+		// order of the reference baseline
+		List<IDelta[]> componentDeltas = ComparisonExecutor.computeAll(components,
+				(apiComponent, cancellation) -> compareComponent(apiComponent, referenceBaseline, baseline,
+						visibilityModifiers, force, cancellation),
+				localmonitor.split(1));
+		for (IDelta[] deltas : componentDeltas) {
+			for (IDelta delta : deltas) {
 				if (delta != null && delta != NO_DELTA) {
 					globalDelta.add(delta);
 				}
@@ -162,6 +149,39 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Returns the version change delta and the delta of the given component of
+	 * the reference baseline compared to the component with the same id in the
+	 * given baseline.
+	 */
+	private static IDelta[] compareComponent(IApiComponent apiComponent, IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, boolean force, IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new IDelta[] { new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED,
+					IDelta.API_COMPONENT, null, id, id) };
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+				versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+						monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new IDelta[] { bundleVersionChangesDelta, delta };
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -598,6 +618,146 @@ public class ApiComparator {
 		return false;
 	}
 
+	/**
+	 * A type root together with the name of the package it was visited in
+	 */
+	private record VisitedTypeRoot(String packageName, IApiTypeRoot typeRoot) {
+	}
+
+	/**
+	 * Compares the given type root of the reference component with the type of
+	 * the same name in the other component or in one of its providers.
+	 *
+	 * @return the deltas for the type in the order they are added to the
+	 *         global delta, never <code>null</code>
+	 */
+	private static List<IDelta> compareTypeRoot(String packageName, IApiTypeRoot typeRoot, IApiTypeContainer container, IApiComponent component, IApiComponent component2, IApiBaseline referenceBaseline, IApiBaseline baseline, IApiDescription apiDescription, IApiDescription apiDescription2, int visibilityModifiers, Set<String> typeRootBaseLineNames, IProgressMonitor monitor) {
+		List<IDelta> deltas = new ArrayList<>(2);
+		String id = component.getSymbolicName();
+		String typeName = typeRoot.getTypeName();
+		try {
+			IApiType typeDescriptor = typeRoot.getStructure();
+			IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
+			if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
+				// we skip nested types (member, local and
+				// anonymous)
+				return deltas;
+			}
+			int visibility;
+			if (elementDescription != null) {
+				visibility = elementDescription.getVisibility();
+			} else {
+				// Annotation is missing, not an API?
+				visibility = 0;
+			}
+			IApiTypeRoot typeRoot2 = component2.findTypeRoot(typeName, id);
+			IApiComponent provider = null;
+			IApiDescription providerApiDesc = null;
+			boolean reexported = false;
+			if (typeRoot2 == null) {
+				// check if the type is provided by a
+				// required component (it could have been
+				// moved/re-exported)
+				IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
+				int index = 0;
+				while (typeRoot2 == null && index < providers.length) {
+					if (monitor.isCanceled()) {
+						return deltas;
+					}
+					IApiComponent p = providers[index];
+					if (!p.equals(component2)) {
+						String id2 = p.getSymbolicName();
+						typeRoot2 = p.findTypeRoot(typeName, id2);
+						if (typeRoot2 != null) {
+							provider = p;
+							providerApiDesc = p.getApiDescription();
+							IRequiredComponentDescription[] required = component2.getRequiredComponents();
+							for (IRequiredComponentDescription description : required) {
+								if (description.getId().equals(id2)) {
+									reexported = description.isExported();
+									break;
+								}
+							}
+						}
+					}
+					index++;
+				}
+			} else {
+				provider = component2;
+				providerApiDesc = apiDescription2;
+			}
+			String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
+			if (typeRoot2 == null) {
+				if ((visibility & visibilityModifiers) == 0) {
+					// we skip the class file according to
+					// their visibility
+					return deltas;
+				}
+				if (visibilityModifiers == VisibilityModifiers.API) {
+					// if the visibility is API, we only
+					// consider public and protected types
+					if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+						return deltas;
+					}
+				}
+				deltas.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
+						typeName,
+								component2.isFragment()
+										? Util.getComponentVersionsId(component2.getHost())
+										: Util.getComponentVersionsId(component2) }));
+			} else {
+				if ((visibility & visibilityModifiers) == 0) {
+					// we skip the class file according to
+					// their visibility
+					return deltas;
+				}
+				IApiType typeDescriptor2 = typeRoot2.getStructure();
+				IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
+				int visibility2 = 0;
+				if (elementDescription2 != null) {
+					visibility2 = elementDescription2.getVisibility();
+				}
+				if (visibilityModifiers == VisibilityModifiers.API) {
+					// if the visibility is API, we only
+					// consider public and protected types
+					if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+						return deltas;
+					}
+				}
+				if (Util.isAPI(visibility, typeDescriptor)) {
+					if (!Util.isAPI(visibility2, typeDescriptor2)) {
+						deltas.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+								typeName,
+								Util.getComponentVersionsId(component2) }));
+						return deltas;
+					}
+				}
+				if ((visibility2 & visibilityModifiers) == 0) {
+					// we simply report a changed visibility
+					deltas.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+							typeName,
+							Util.getComponentVersionsId(component2) }));
+				}
+				typeRootBaseLineNames.add(typeName);
+				ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
+				IDelta delta = comparator.getDelta();
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					IStatus status = comparator.getStatus();
+					if (status != null) {
+						ApiPlugin.log(status);
+					}
+				}
+				if (delta != null && delta != NO_DELTA) {
+					deltas.add(delta);
+				}
+			}
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+			AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), monitor);
+		}
+		return deltas;
+	}
+
 	/**
 	 * Performs the internal compare of the given {@link IApiComponent}s using
 	 * their type containers
@@ -607,7 +767,7 @@ public class ApiComparator {
 	 * @return a delta of changed API elements
 	 */
 	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final Delta globalDelta, final IProgressMonitor monitor) throws CoreException {
-		final Set<String> typeRootBaseLineNames = new HashSet<>();
+		final Set<String> typeRootBaseLineNames = ConcurrentHashMap.newKeySet();
 		final String id = component.getSymbolicName();
 		final SubMonitor localmonitor = SubMonitor.convert(monitor, 4);
 		IApiTypeContainer[] typeRootContainers = component.getApiTypeContainers(id);
@@ -617,139 +777,30 @@ public class ApiComparator {
 		if (typeRootContainers != null) {
 			SubMonitor loopMonitor = localmonitor.split(1).setWorkRemaining(typeRootContainers.length);
 			for (IApiTypeContainer container : typeRootContainers) {
-				SubMonitor iterationMonitor = loopMonitor.split(1);
+				SubMonitor iterationMonitor = loopMonitor.split(1).setWorkRemaining(2);
+				List<VisitedTypeRoot> typeRoots = new ArrayList<>();
 				try {
 					container.accept(new ApiTypeContainerVisitor() {
 						@Override
 						public void visit(String packageName, IApiTypeRoot typeRoot) {
-							SubMonitor visitMonitor = iterationMonitor.setWorkRemaining(50).split(1).setWorkRemaining(2);
-							String typeName = typeRoot.getTypeName();
-							try {
-								IApiType typeDescriptor = typeRoot.getStructure();
-								IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
-								if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
-									// we skip nested types (member, local and
-									// anonymous)
-									return;
-								}
-								int visibility;
-								if (elementDescription != null) {
-									visibility = elementDescription.getVisibility();
-								} else {
-									// Annotation is missing, not an API?
-									visibility = 0;
-								}
-								IApiTypeRoot typeRoot2 = component2.findTypeRoot(typeName, id);
-								IApiComponent provider = null;
-								IApiDescription providerApiDesc = null;
-								boolean reexported = false;
-								if (typeRoot2 == null) {
-									// check if the type is provided by a
-									// required component (it could have been
-									// moved/re-exported)
-									IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
-									SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
-									int index = 0;
-									while (typeRoot2 == null && index < providers.length) {
-										providerMonitor.split(1);
-										IApiComponent p = providers[index];
-										if (!p.equals(component2)) {
-											String id2 = p.getSymbolicName();
-											typeRoot2 = p.findTypeRoot(typeName, id2);
-											if (typeRoot2 != null) {
-												provider = p;
-												providerApiDesc = p.getApiDescription();
-												IRequiredComponentDescription[] required = component2.getRequiredComponents();
-												for (IRequiredComponentDescription description : required) {
-													if (description.getId().equals(id2)) {
-														reexported = description.isExported();
-														break;
-													}
-												}
-											}
-										}
-										index++;
-									}
-								} else {
-									provider = component2;
-									providerApiDesc = apiDescription2;
-								}
-								visitMonitor.setWorkRemaining(1).split(1);
-								String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
-								if (typeRoot2 == null) {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
-										}
-									}
-									globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
-											typeName,
-													component2.isFragment()
-															? Util.getComponentVersionsId(component2.getHost())
-															: Util.getComponentVersionsId(component2) }));
-								} else {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									IApiType typeDescriptor2 = typeRoot2.getStructure();
-									IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
-									int visibility2 = 0;
-									if (elementDescription2 != null) {
-										visibility2 = elementDescription2.getVisibility();
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
-										}
-									}
-									if (Util.isAPI(visibility, typeDescriptor)) {
-										if (!Util.isAPI(visibility2, typeDescriptor2)) {
-											globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-													typeName,
-													Util.getComponentVersionsId(component2) }));
-											return;
-										}
-									}
-									if ((visibility2 & visibilityModifiers) == 0) {
-										// we simply report a changed visibility
-										globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-												typeName,
-												Util.getComponentVersionsId(component2) }));
-									}
-									typeRootBaseLineNames.add(typeName);
-									ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
-									IDelta delta = comparator.getDelta();
-									if (ApiPlugin.DEBUG_API_COMPARATOR) {
-										IStatus status = comparator.getStatus();
-										if (status != null) {
-											ApiPlugin.log(status);
-										}
-									}
-									if (delta != null && delta != NO_DELTA) {
-										globalDelta.add(delta);
-									}
-								}
-							} catch (CoreException e) {
-								ApiPlugin.log(e);
-								AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), iterationMonitor);
-							}
+							typeRoots.add(new VisitedTypeRoot(packageName, typeRoot));
 						}
 					});
 				} catch (CoreException e) {
 					ApiPlugin.log(e);
 					AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), loopMonitor);
 				}
+				iterationMonitor.split(1);
+				// types are compared concurrently, their deltas are added in the
+				// order of the container
+				List<List<IDelta>> typeDeltas = ComparisonExecutor.computeAll(typeRoots,
+						(typeRoot, cancellation) -> compareTypeRoot(typeRoot.packageName(), typeRoot.typeRoot(), container, component, component2, referenceBaseline, baseline, apiDescription, apiDescription2, visibilityModifiers, typeRootBaseLineNames, cancellation),
+						iterationMonitor.split(1));
+				for (List<IDelta> deltas : typeDeltas) {
+					for (IDelta delta : deltas) {
+						globalDelta.add(delta);
+					}
+				}
 			}
 		}
 		localmonitor.setWorkRemaining(3);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -416,14 +418,25 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		ListConsumersVisitor listVisitor = new ListConsumersVisitor();
 		UseScanParser lparser = new UseScanParser();
 		lparser.parse(getXmlLocation(), subMon.split(5), listVisitor);
-		List<Consumer> consumerReports = new ArrayList<>();
-
-		ConsumerReportVisitor visitor = null;
+		// every consumer needs its own pass over the scan, run them
+		// concurrently each with its own parser
+		List<Callable<Consumer>> passes = new ArrayList<>(listVisitor.consumers.size());
 		for (IComponentDescriptor consumer : listVisitor.consumers) {
-			visitor = new ConsumerReportVisitor(consumer);
-			lparser.parse(getXmlLocation(), null, visitor);
-			if (visitor.consumer.counts.getTotalRefCount() > 0) {
-				consumerReports.add(visitor.consumer);
+			passes.add(() -> {
+				if (subMon.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				ConsumerReportVisitor visitor = new ConsumerReportVisitor(consumer);
+				new UseScanParser().parse(getXmlLocation(), null, visitor);
+				return visitor.consumer;
+			});
+		}
+		List<Consumer> consumerReports = new ArrayList<>();
+		try (ReportPageWriter writer = new ReportPageWriter()) {
+			for (Consumer consumer : writer.computeAll(passes)) {
+				if (consumer.counts.getTotalRefCount() > 0) {
+					consumerReports.add(consumer);
+				}
 			}
 		}
 		return consumerReports;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ public class MissingRefReportConverter extends UseReportConverter {
 
 	class MissingRefVisitor {
 		public List<Report> reports;
+		ReportPageWriter writer = null;
 
 		public void visitScan() {
 			reports = new ArrayList<>();
@@ -67,8 +68,21 @@ public class MissingRefReportConverter extends UseReportConverter {
 		}
 
 		public void endVisitComponent() {
+			final Report report = currentreport;
+			if (writer != null) {
+				// the index page only needs the problem counts, release the
+				// problems once the page of the component is written
+				writer.write(() -> {
+					try {
+						writeIndexFileForComponent(report);
+					} finally {
+						report.apiProblems.clear();
+					}
+				});
+				return;
+			}
 			try {
-				writeIndexFileForComponent(currentreport);
+				writeIndexFileForComponent(report);
 			} catch (Exception e) {
 				ApiPlugin.log(e);
 			}
@@ -483,7 +497,10 @@ public class MissingRefReportConverter extends UseReportConverter {
 	protected List<Report> parse() throws Exception {
 		MissingRefParser lparser = new MissingRefParser();
 		MissingRefVisitor visitor = new MissingRefVisitor();
-		lparser.parse(getXmlLocation(), visitor);
+		try (ReportPageWriter writer = new ReportPageWriter()) {
+			visitor.writer = writer;
+			lparser.parse(getXmlLocation(), visitor);
+		}
 		return visitor.reports;
 	}
 
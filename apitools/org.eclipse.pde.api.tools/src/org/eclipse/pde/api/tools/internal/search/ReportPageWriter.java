@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Writes the HTML pages of a use report concurrently while the scan is still
+ * being parsed.
+ * <p>
+ * The number of threads is bounded by the available processors and the system
+ * property {@value #THREADS_PROPERTY}; a value of <code>1</code> writes every
+ * page on the calling thread. At most two pages per thread are pending at any
+ * time, the caller blocks until a page is written otherwise, so the data of
+ * pages not yet written does not pile up in memory.
+ * </p>
+ */
+final class ReportPageWriter implements AutoCloseable {
+
+	/**
+	 * System property to set the number of threads writing report pages
+	 */
+	static final String THREADS_PROPERTY = "org.eclipse.pde.api.tools.useReportConverter.threads"; //$NON-NLS-1$
+
+	/**
+	 * A page writing task
+	 */
+	interface Page {
+		void write() throws Exception;
+	}
+
+	private final ExecutorService fExecutor;
+	private final Semaphore fPending;
+	private final List<Future<?>> fFutures = new ArrayList<>();
+
+	ReportPageWriter() {
+		int threads = Math.max(1, Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()).intValue());
+		if (threads > 1) {
+			AtomicInteger count = new AtomicInteger();
+			fExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "Use Report Writer " + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			fPending = new Semaphore(threads * 2);
+		} else {
+			fExecutor = null;
+			fPending = null;
+		}
+	}
+
+	/**
+	 * Writes the given page, on another thread if possible. Failures are
+	 * logged.
+	 */
+	void write(Page page) {
+		if (fExecutor == null) {
+			run(page);
+			return;
+		}
+		fPending.acquireUninterruptibly();
+		try {
+			fFutures.add(fExecutor.submit(() -> {
+				try {
+					run(page);
+				} finally {
+					fPending.release();
+				}
+			}));
+		} catch (RuntimeException e) {
+			fPending.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Computes the given results, concurrently if possible, and returns them
+	 * in the order of the given computations.
+	 */
+	<T> List<T> computeAll(List<Callable<T>> computations) throws Exception {
+		List<T> results = new ArrayList<>(computations.size());
+		if (fExecutor == null) {
+			for (Callable<T> computation : computations) {
+				results.add(computation.call());
+			}
+			return results;
+		}
+		List<Future<T>> futures = fExecutor.invokeAll(computations);
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof Exception exception) {
+					throw exception;
+				}
+				throw e;
+			}
+		}
+		return results;
+	}
+
+	private static void run(Page page) {
+		try {
+			page.write();
+		} catch (Exception e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Waits for all pages to be written and releases the threads.
+	 */
+	@Override
+	public void close() throws InterruptedException {
+		if (fExecutor == null) {
+			return;
+		}
+		try {
+			for (Future<?> future : fFutures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					ApiPlugin.log(e.getCause());
+				}
+			}
+		} finally {
+			fFutures.clear();
+			fExecutor.shutdown();
+		}
+	}
+}
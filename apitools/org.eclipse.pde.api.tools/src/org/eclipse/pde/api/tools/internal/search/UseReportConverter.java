@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,7 @@ public class UseReportConverter extends HTMLConvertor {
 		Member currentmember = null;
 		Map<IReferenceTypeDescriptor, Type> keys = new HashMap<>();
 		List<Type> referees = new ArrayList<>();
+		ReportPageWriter writer = null;
 
 		/**
 		 * Returns if the reference should be reported or not
@@ -140,7 +141,21 @@ public class UseReportConverter extends HTMLConvertor {
 					start = System.currentTimeMillis();
 				}
 				if (this.currentreport.counts.getTotalRefCount() > 0) {
-					writeReferencedMemberPage(this.currentreport, this.referees);
+					if (this.writer != null) {
+						// the page is written while the next component is
+						// parsed, hand over what is still needed for it
+						final Report report = this.currentreport;
+						final List<Type> refs = new ArrayList<>(this.referees);
+						this.writer.write(() -> {
+							try {
+								writeReferencedMemberPage(report, refs);
+							} finally {
+								report.children.clear();
+							}
+						});
+					} else {
+						writeReferencedMemberPage(this.currentreport, this.referees);
+					}
 				} else {
 					this.reports.remove(this.currentreport);
 				}
@@ -152,7 +167,9 @@ public class UseReportConverter extends HTMLConvertor {
 			} finally {
 				// clear any children as we have written them out - keep the
 				// report object to write a sorted index page
-				this.currentreport.children.clear();
+				if (this.writer == null) {
+					this.currentreport.children.clear();
+				}
 				this.keys.clear();
 				this.referees.clear();
 			}
@@ -709,7 +726,10 @@ public class UseReportConverter extends HTMLConvertor {
 	protected List<?> parse(IProgressMonitor monitor) throws Exception {
 		UseScanParser lparser = new UseScanParser();
 		Visitor convertor = new Visitor();
-		lparser.parse(getXmlLocation(), monitor, convertor);
+		try (ReportPageWriter writer = new ReportPageWriter()) {
+			convertor.writer = writer;
+			lparser.parse(getXmlLocation(), monitor, convertor);
+		}
 		return convertor.reports;
 	}
 
@@ -1053,7 +1073,7 @@ public class UseReportConverter extends HTMLConvertor {
 		buffer.append(W3C_FOOTER);
 
 		try {
-			Files.writeString(typefile, buffer);
+			writeString(typefile, buffer);
 		} catch (IOException ioe) {
 			throw new Exception(NLS.bind(SearchMessages.ioexception_writing_html_file, typefile.toAbsolutePath()));
 		}
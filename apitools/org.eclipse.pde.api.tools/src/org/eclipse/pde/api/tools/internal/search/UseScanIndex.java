@@ -0,0 +1,606 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Binary index of an API use scan, stored in the state location of the API
+ * tools plug-in so that the folders of the scan are never written to.
+ * <p>
+ * The index holds one block per referenced component. Each block has its own
+ * string pool followed by the stream of referencing components, referenced
+ * members and references, in the order the XML reports are visited by the
+ * {@link UseScanParser}. A table at the end of the file maps the folder names
+ * of the referenced components to the offsets of their blocks, so a query for
+ * the references to one component only reads the bytes of that component.
+ * </p>
+ * <p>
+ * The table also records a fingerprint of the XML reports of each component. A
+ * block whose reports have changed since the index was written is ignored and
+ * the reports are parsed instead. The reports of a component are only checked
+ * the first time its block is read after the index has been opened; opened
+ * indices are kept until {@link #flush()}. Blocks are read into memory unless
+ * the system property {@value #MMAP_PROPERTY} is set to <code>true</code>, in
+ * which case they are memory mapped.
+ * </p>
+ */
+public final class UseScanIndex {
+
+	/**
+	 * System property to memory map the blocks of the index
+	 */
+	public static final String MMAP_PROPERTY = "org.eclipse.pde.api.tools.useScanIndex.mmap"; //$NON-NLS-1$
+
+	/**
+	 * Folder of the indices in the state location
+	 */
+	private static final String INDEX_FOLDER = ".use_scan_indices"; //$NON-NLS-1$
+	private static final String INDEX_EXTENSION = ".index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41505553;
+	private static final short VERSION = 2;
+
+	static final byte END = 0;
+	static final byte ORIGIN = 1;
+	static final byte MEMBER = 2;
+	static final byte REFERENCE = 3;
+
+	private static final byte NO_MEMBER = 0;
+
+	/**
+	 * The indices opened in this session, by the folder of their scan
+	 */
+	private static final Map<File, UseScanIndex> fOpened = new ConcurrentHashMap<>();
+
+	private final File fFile;
+	private final Map<String, Entry> fEntries;
+
+	/**
+	 * Whether the block of a referenced component is current, by folder name
+	 */
+	private final Map<String, Boolean> fCurrent = new ConcurrentHashMap<>();
+
+	/**
+	 * Location and fingerprint of the block of one referenced component
+	 */
+	private record Entry(long offset, int length, int fileCount, long fingerprint) {
+	}
+
+	/**
+	 * The decoded content of the block of one referenced component
+	 */
+	static final class Block {
+		private final String[] fStrings;
+		private final DataInputStream fInput;
+
+		Block(String[] strings, DataInputStream input) {
+			fStrings = strings;
+			fInput = input;
+		}
+
+		byte readTag() throws IOException {
+			return fInput.readByte();
+		}
+
+		int readInt() throws IOException {
+			return fInput.readInt();
+		}
+
+		String readString() throws IOException {
+			int index = fInput.readInt();
+			return index < 0 ? null : fStrings[index];
+		}
+
+		String[] readStrings() throws IOException {
+			int count = fInput.readInt();
+			if (count < 0) {
+				return null;
+			}
+			String[] strings = new String[count];
+			for (int i = 0; i < count; i++) {
+				strings[i] = readString();
+			}
+			return strings;
+		}
+
+		IMemberDescriptor readMember() throws IOException {
+			int type = fInput.readByte();
+			return switch (type)
+				{
+				case IElementDescriptor.TYPE -> Factory.typeDescriptor(readString());
+				case IElementDescriptor.METHOD -> Factory.methodDescriptor(readString(), readString(), readString());
+				case IElementDescriptor.FIELD -> Factory.fieldDescriptor(readString(), readString());
+				default -> null;
+				};
+		}
+	}
+
+	private UseScanIndex(File file, Map<String, Entry> entries) {
+		fFile = file;
+		fEntries = entries;
+	}
+
+	/**
+	 * Returns the file of the index of the use scan in the given folder.
+	 *
+	 * @param scanRoot the folder holding the referenced component folders
+	 * @return the index file or <code>null</code> if indices cannot be stored
+	 *         because the API tools plug-in is not running
+	 */
+	public static File getIndexFile(File scanRoot) {
+		if (!ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		File root = scanRoot.getAbsoluteFile();
+		String name = root.getName() + '_' + Integer.toHexString(root.getPath().hashCode()) + INDEX_EXTENSION;
+		return ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).append(name).toFile();
+	}
+
+	/**
+	 * Forgets the indices opened so far, so the next look ups check again
+	 * whether the XML reports have changed.
+	 */
+	public static void flush() {
+		fOpened.clear();
+	}
+
+	/**
+	 * Opens the index of the use scan in the given folder.
+	 *
+	 * @param scanRoot the folder holding the referenced component folders
+	 * @param referees the referenced component folders of the scan
+	 * @return the index or <code>null</code> if there is no index, it cannot
+	 *         be read or it does not list the same components as the folder
+	 */
+	public static UseScanIndex open(File scanRoot, File[] referees) {
+		File root = scanRoot.getAbsoluteFile();
+		UseScanIndex index = fOpened.get(root);
+		if (index == null) {
+			File file = getIndexFile(root);
+			if (file == null || !file.isFile()) {
+				return null;
+			}
+			index = readTable(file, root);
+			if (index == null) {
+				return null;
+			}
+			fOpened.put(root, index);
+		}
+		Set<String> names = new HashSet<>();
+		if (referees != null) {
+			for (File referee : referees) {
+				names.add(referee.getName());
+			}
+		}
+		return names.equals(index.fEntries.keySet()) ? index : null;
+	}
+
+	/**
+	 * Reads the table of the given index file of the given scan folder
+	 */
+	private static UseScanIndex readTable(File file, File scanRoot) {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			if (raf.readInt() != MAGIC || raf.readShort() != VERSION) {
+				return null;
+			}
+			long tableOffset = raf.readLong();
+			if (!scanRoot.getPath().equals(raf.readUTF())) {
+				return null;
+			}
+			raf.seek(tableOffset);
+			int count = raf.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String name = raf.readUTF();
+				entries.put(name, new Entry(raf.readLong(), raf.readInt(), raf.readInt(), raf.readLong()));
+			}
+			return new UseScanIndex(file, entries);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to read use scan index " + file, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the block of the given referenced component folder.
+	 *
+	 * @param referee the folder of the referenced component
+	 * @return the block or <code>null</code> if the reports of the component
+	 *         changed after the index was written
+	 */
+	Block read(File referee) throws IOException {
+		Entry entry = fEntries.get(referee.getName());
+		if (entry == null || entry.length() == 0) {
+			return null;
+		}
+		Boolean current = fCurrent.computeIfAbsent(referee.getName(), name -> {
+			long[] fingerprint = fingerprint(referee);
+			return Boolean.valueOf(fingerprint[0] == entry.fileCount() && fingerprint[1] == entry.fingerprint());
+		});
+		if (!current.booleanValue()) {
+			return null;
+		}
+		InputStream in;
+		try (RandomAccessFile raf = new RandomAccessFile(fFile, "r"); FileChannel channel = raf.getChannel()) { //$NON-NLS-1$
+			if (Boolean.getBoolean(MMAP_PROPERTY)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, entry.offset(), entry.length());
+				in = new ByteBufferInputStream(buffer);
+			} else {
+				byte[] bytes = new byte[entry.length()];
+				raf.seek(entry.offset());
+				raf.readFully(bytes);
+				in = new ByteArrayInputStream(bytes);
+			}
+		}
+		DataInputStream data = new DataInputStream(in);
+		String[] strings = new String[data.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = data.readUTF();
+		}
+		return new Block(strings, data);
+	}
+
+	/**
+	 * Returns a visitor that passes the references it visits on to the given
+	 * visitor, as the {@link UseScanParser} would, and writes them into a new
+	 * index of the use scan in the given folder. The visitor asks the parser for
+	 * all references of the scan. The index replaces an existing index when the
+	 * whole scan has been visited.
+	 *
+	 * @param scanRoot the folder holding the referenced component folders
+	 * @param referees the referenced component folders of the scan
+	 * @param visitor the visitor to pass the references on to
+	 * @return the indexing visitor or <code>null</code> if the index cannot be
+	 *         written
+	 */
+	static UseScanVisitor indexing(File scanRoot, File[] referees, UseScanVisitor visitor) {
+		File file = getIndexFile(scanRoot);
+		if (file == null) {
+			return null;
+		}
+		try {
+			Files.createDirectories(file.getParentFile().toPath());
+			return new IndexingVisitor(scanRoot.getAbsoluteFile(), file, referees, visitor);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to create use scan index " + file, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the number of XML reports of the given referenced component
+	 * folder and a fingerprint of their paths, sizes and time stamps.
+	 */
+	private static long[] fingerprint(File referee) {
+		File[] files = Util.getAllFiles(referee, pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
+		long fingerprint = 0;
+		int count = 0;
+		if (files != null) {
+			int prefix = referee.getPath().length();
+			for (File file : files) {
+				count++;
+				long hash = file.getPath().substring(prefix).hashCode();
+				hash = hash * 31 + file.length();
+				hash = hash * 31 + file.lastModified();
+				// independent of the order the files are listed in
+				fingerprint += hash;
+			}
+		}
+		return new long[] { count, fingerprint };
+	}
+
+	/**
+	 * Records the visited references of each referenced component into a
+	 * block of the index and passes them on to the visitor of the parse.
+	 */
+	private static final class IndexingVisitor extends UseScanVisitor {
+		private final File fScanRoot;
+		private final File fFile;
+		private final File fTemp;
+		private final RandomAccessFile fOut;
+		private final UseScanVisitor fVisitor;
+		private final Map<String, long[]> fFingerprints = new LinkedHashMap<>();
+		private final Map<IComponentDescriptor, String> fNames = new HashMap<>();
+		private final Map<String, long[]> fBlocks = new HashMap<>();
+		private final Map<String, Integer> fStrings = new LinkedHashMap<>();
+		private final ByteArrayOutputStream fBytes = new ByteArrayOutputStream();
+		private final DataOutputStream fBody = new DataOutputStream(fBytes);
+		private IOException fError;
+
+		// what the visitor of the parse asked for
+		private boolean fVisitReferencingComponent;
+		private boolean fVisitMembers;
+		private boolean fVisitReferences;
+
+		IndexingVisitor(File scanRoot, File file, File[] referees, UseScanVisitor visitor) throws IOException {
+			fScanRoot = scanRoot;
+			fFile = file;
+			fVisitor = visitor;
+			UseScanParser parser = new UseScanParser();
+			for (File referee : referees) {
+				if (referee.isDirectory()) {
+					// before parsing, so reports changed meanwhile are parsed
+					// again the next time
+					fFingerprints.put(referee.getName(), fingerprint(referee));
+					String[] idv = parser.getIdVersion(referee.getName());
+					fNames.put(Factory.componentDescriptor(idv[0], idv[1]), referee.getName());
+				}
+			}
+			fTemp = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp").toFile(); //$NON-NLS-1$
+			fOut = new RandomAccessFile(fTemp, "rw"); //$NON-NLS-1$
+			try {
+				fOut.writeInt(MAGIC);
+				fOut.writeShort(VERSION);
+				fOut.writeLong(0);
+				fOut.writeUTF(scanRoot.getPath());
+			} catch (IOException e) {
+				discard();
+				throw e;
+			}
+		}
+
+		@Override
+		public void visitScan() {
+			fVisitor.visitScan();
+		}
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fStrings.clear();
+			fBytes.reset();
+			fVisitReferencingComponent = fVisitor.visitComponent(target);
+			return true;
+		}
+
+		@Override
+		public void endVisitComponent(IComponentDescriptor target) {
+			try {
+				fBody.writeByte(END);
+				fBody.flush();
+				long offset = fOut.getFilePointer();
+				ByteArrayOutputStream block = new ByteArrayOutputStream(fBytes.size() + fStrings.size() * 16);
+				DataOutputStream data = new DataOutputStream(block);
+				data.writeInt(fStrings.size());
+				for (String string : fStrings.keySet()) {
+					data.writeUTF(string);
+				}
+				fBytes.writeTo(data);
+				data.flush();
+				fOut.write(block.toByteArray());
+				String name = fNames.get(target);
+				if (name != null) {
+					fBlocks.put(name, new long[] { offset, block.size() });
+				}
+			} catch (IOException e) {
+				fError = e;
+			}
+			fVisitor.endVisitComponent(target);
+		}
+
+		@Override
+		public boolean visitReferencingComponent(IComponentDescriptor component) {
+			try {
+				fBody.writeByte(ORIGIN);
+				writeString(component.getId());
+				writeString(component.getVersion());
+			} catch (IOException e) {
+				fError = e;
+			}
+			fVisitMembers = fVisitReferencingComponent && fVisitor.visitReferencingComponent(component);
+			return true;
+		}
+
+		@Override
+		public void endVisitReferencingComponent(IComponentDescriptor component) {
+			try {
+				fBody.writeByte(END);
+			} catch (IOException e) {
+				fError = e;
+			}
+			if (fVisitReferencingComponent) {
+				fVisitor.endVisitReferencingComponent(component);
+			}
+		}
+
+		@Override
+		public boolean visitMember(IMemberDescriptor referencedMember) {
+			try {
+				fBody.writeByte(MEMBER);
+				writeMember(referencedMember);
+			} catch (IOException e) {
+				fError = e;
+			}
+			fVisitReferences = fVisitMembers && fVisitor.visitMember(referencedMember);
+			return true;
+		}
+
+		@Override
+		public void endVisitMember(IMemberDescriptor referencedMember) {
+			if (fVisitMembers) {
+				fVisitor.endVisitMember(referencedMember);
+			}
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			try {
+				fBody.writeByte(REFERENCE);
+				writeMember(reference.getMember());
+				fBody.writeInt(reference.getLineNumber());
+				fBody.writeInt(reference.getReferenceKind());
+				fBody.writeInt(reference.getReferenceFlags());
+				fBody.writeInt(reference.getVisibility());
+				String[] messages = reference.getProblemMessages();
+				if (messages == null) {
+					fBody.writeInt(-1);
+				} else {
+					fBody.writeInt(messages.length);
+					for (String message : messages) {
+						writeString(message);
+					}
+				}
+			} catch (IOException e) {
+				fError = e;
+			}
+			if (fVisitMembers && fVisitReferences) {
+				fVisitor.visitReference(reference);
+			}
+		}
+
+		@Override
+		public void endVisitScan() {
+			try {
+				fVisitor.endVisitScan();
+			} finally {
+				// a parse that was canceled or failed did not visit all
+				// components
+				if (fError == null && fBlocks.keySet().equals(fFingerprints.keySet())) {
+					commit();
+				} else {
+					discard();
+				}
+			}
+		}
+
+		/**
+		 * Writes the table and moves the index into place
+		 */
+		private void commit() {
+			try {
+				try (fOut) {
+					long tableOffset = fOut.getFilePointer();
+					fOut.writeInt(fFingerprints.size());
+					for (Map.Entry<String, long[]> entry : fFingerprints.entrySet()) {
+						long[] block = fBlocks.get(entry.getKey());
+						long[] fingerprint = entry.getValue();
+						fOut.writeUTF(entry.getKey());
+						fOut.writeLong(block[0]);
+						fOut.writeInt((int) block[1]);
+						fOut.writeInt((int) fingerprint[0]);
+						fOut.writeLong(fingerprint[1]);
+					}
+					fOut.seek(6);
+					fOut.writeLong(tableOffset);
+				}
+				Files.move(fTemp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				fOpened.remove(fScanRoot);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to write use scan index " + fFile, e); //$NON-NLS-1$
+				discard();
+			}
+		}
+
+		private void discard() {
+			try {
+				fOut.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fTemp.delete();
+		}
+
+		private void writeString(String string) throws IOException {
+			if (string == null) {
+				fBody.writeInt(-1);
+				return;
+			}
+			Integer index = fStrings.get(string);
+			if (index == null) {
+				index = Integer.valueOf(fStrings.size());
+				fStrings.put(string, index);
+			}
+			fBody.writeInt(index.intValue());
+		}
+
+		private void writeMember(IMemberDescriptor member) throws IOException {
+			if (member == null) {
+				fBody.writeByte(NO_MEMBER);
+				return;
+			}
+			int type = member.getElementType();
+			switch (type) {
+				case IElementDescriptor.TYPE -> {
+					fBody.writeByte(type);
+					writeString(((IReferenceTypeDescriptor) member).getQualifiedName());
+				}
+				case IElementDescriptor.METHOD -> {
+					fBody.writeByte(type);
+					writeString(member.getEnclosingType().getQualifiedName());
+					writeString(member.getName());
+					writeString(((IMethodDescriptor) member).getSignature());
+				}
+				case IElementDescriptor.FIELD -> {
+					fBody.writeByte(type);
+					writeString(member.getEnclosingType().getQualifiedName());
+					writeString(member.getName());
+				}
+				default -> fBody.writeByte(NO_MEMBER);
+			}
+		}
+	}
+
+	/**
+	 * Reads a mapped block without copying it
+	 */
+	private static final class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer fBuffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			fBuffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return fBuffer.hasRemaining() ? fBuffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!fBuffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(length, fBuffer.remaining());
+			fBuffer.get(bytes, offset, count);
+			return count;
+		}
+	}
+}
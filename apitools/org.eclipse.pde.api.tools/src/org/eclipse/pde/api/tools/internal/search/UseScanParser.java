@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,7 +39,8 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Parses a use scan (XML) to visit a {@link UseScanVisitor}
+ * Parses a use scan (XML) to visit a {@link UseScanVisitor}. If the scan has a
+ * {@link UseScanIndex}, the references are read from the index instead.
  */
 public class UseScanParser {
 
@@ -222,21 +223,54 @@ public class UseScanParser {
 	 * @param monitor progress monitor
 	 */
 	public void parse(String xmlLocation, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
+		parse(xmlLocation, monitor, usv, false);
+	}
+
+	/**
+	 * Resolves references from an API use scan rooted at the specified location
+	 * in the file system in the given baseline. If asked to index a scan that
+	 * has no {@link UseScanIndex} yet, all of its reports are parsed once to
+	 * write the index while the references are passed on to the visitor.
+	 *
+	 * @param xmlLocation root of API use scan (XML directory).
+	 * @param monitor progress monitor
+	 * @param index whether to write the index of a scan that has none
+	 */
+	public void parse(String xmlLocation, IProgressMonitor monitor, UseScanVisitor usv, boolean index) throws Exception {
 		if (xmlLocation == null) {
 			throw new Exception(SearchMessages.missing_xml_files_location);
 		}
-		visitor = usv;
 		File reportsRoot = new File(xmlLocation);
 		if (!reportsRoot.exists() || !reportsRoot.isDirectory()) {
 			throw new Exception(NLS.bind(SearchMessages.invalid_directory_name, xmlLocation));
 		}
-		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, 8);
-		localmonitor.subTask(SearchMessages.UseReportConverter_collecting_dir_info);
 		File[] referees = getDirectories(reportsRoot);
-		localmonitor.split(1);
+		UseScanIndex scanIndex = UseScanIndex.open(reportsRoot, referees);
+		if (scanIndex == null && index) {
+			UseScanVisitor indexing = UseScanIndex.indexing(reportsRoot, referees, usv);
+			if (indexing != null) {
+				parseReports(referees, null, indexing, monitor);
+				return;
+			}
+		}
+		parseReports(referees, scanIndex, usv, monitor);
+	}
+
+	/**
+	 * Visits the references of the given referenced component folders. The
+	 * references of a component are read from the given index if it is
+	 * current for the component, otherwise from its XML reports.
+	 *
+	 * @param referees the referenced component folders of the scan
+	 * @param index the index of the scan or <code>null</code>
+	 * @param usv the visitor
+	 * @param monitor progress monitor
+	 */
+	void parseReports(File[] referees, UseScanIndex index, UseScanVisitor usv, IProgressMonitor monitor) throws Exception {
+		visitor = usv;
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, referees.length);
 		File[] origins = null;
 		File[] xmlfiles = null;
-		localmonitor.setWorkRemaining(referees.length);
 		visitor.visitScan();
 		try {
 			@SuppressWarnings("restriction")
@@ -248,7 +282,18 @@ public class UseScanParser {
 					String[] idv = getIdVersion(referee.getName());
 					IComponentDescriptor tcomp = Factory.componentDescriptor(idv[0], idv[1]);
 					enterTargetComponent(tcomp);
-					if (visitReferencingComponent) {
+					UseScanIndex.Block block = null;
+					if (visitReferencingComponent && index != null) {
+						try {
+							block = index.read(referee);
+						} catch (IOException e) {
+							ApiPlugin.log(e);
+						}
+					}
+					if (block != null) {
+						localmonitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { referee.getName() }));
+						visitBlock(block);
+					} else if (visitReferencingComponent) {
 
 						// If the visitor returned true, treat sub-directories
 						// as consumer components
@@ -296,6 +341,41 @@ public class UseScanParser {
 		}
 	}
 
+	/**
+	 * Visits the referencing components, members and references of the
+	 * current referenced component from the given block of a
+	 * {@link UseScanIndex}, in the order they were read from the XML reports.
+	 */
+	private void visitBlock(UseScanIndex.Block block) throws IOException {
+		for (byte tag = block.readTag(); tag == UseScanIndex.ORIGIN; tag = block.readTag()) {
+			enterReferencingComponent(Factory.componentDescriptor(block.readString(), block.readString()));
+			for (tag = block.readTag(); tag != UseScanIndex.END; tag = block.readTag()) {
+				if (tag == UseScanIndex.MEMBER) {
+					IMemberDescriptor member = block.readMember();
+					if (visitMembers) {
+						enterTargetMember(member);
+					}
+				} else {
+					IMemberDescriptor origin = block.readMember();
+					int line = block.readInt();
+					int kind = block.readInt();
+					int flags = block.readInt();
+					int vis = block.readInt();
+					String[] messages = block.readStrings();
+					if (visitMembers) {
+						enterVisibility(vis);
+						enterReferenceKind(kind);
+						setReference(Factory.referenceDescriptor(referencingComponent, origin, line, targetComponent, targetMember, kind, flags, vis, messages));
+					}
+				}
+			}
+			if (visitMembers) {
+				endMember();
+			}
+			endReferencingComponent();
+		}
+	}
+
 	/**
 	 * @return the referencingComponent or <code>null</code>
 	 */
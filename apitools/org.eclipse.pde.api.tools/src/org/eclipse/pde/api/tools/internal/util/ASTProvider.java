@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.util;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Shares the ASTs of workspace sources between the consumers of an API
+ * analysis, so that a compilation unit is parsed only once per analysis with
+ * and without bindings.
+ * <p>
+ * A provider is bound to the thread that opened it with {@link #open()} until
+ * it is closed. Only the most recently used ASTs are kept, at most
+ * {@value #DEFAULT_SIZE} unless set by the system property
+ * {@value #SIZE_PROPERTY}, and they can be reclaimed when memory is low. An
+ * AST is parsed again once the source of its type root changed. ASTs are
+ * created with the options of their project and Javadoc comment support
+ * enabled. The shared ASTs must not be modified.
+ * </p>
+ */
+public final class ASTProvider implements AutoCloseable {
+
+	/**
+	 * System property to set the maximum number of ASTs kept by a provider
+	 */
+	public static final String SIZE_PROPERTY = "org.eclipse.pde.api.tools.astCache.size"; //$NON-NLS-1$
+
+	/**
+	 * Default maximum number of ASTs kept by a provider
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	private static final ThreadLocal<ASTProvider> fCurrent = new ThreadLocal<>();
+
+	private record Key(ITypeRoot root, boolean bindings) {
+	}
+
+	/**
+	 * A shared AST with the source it was parsed from
+	 */
+	private record Entry(SoftReference<CompilationUnit> ast, String source) {
+	}
+
+	private final Map<Key, Entry> fASTs;
+	private int fDepth = 1;
+
+	private ASTProvider(int size) {
+		fASTs = new LinkedHashMap<>(size, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > size;
+			}
+		};
+	}
+
+	/**
+	 * Opens a provider for the calling thread, or returns the one already open
+	 * for it. Every provider returned must be closed.
+	 *
+	 * @return the provider of the calling thread
+	 */
+	public static ASTProvider open() {
+		ASTProvider provider = fCurrent.get();
+		if (provider != null) {
+			provider.fDepth++;
+			return provider;
+		}
+		provider = new ASTProvider(Math.max(1, Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE).intValue()));
+		fCurrent.set(provider);
+		return provider;
+	}
+
+	/**
+	 * @return the provider open for the calling thread or <code>null</code>
+	 */
+	public static ASTProvider getCurrent() {
+		return fCurrent.get();
+	}
+
+	/**
+	 * Returns the AST of the given type root, shared by the provider of the
+	 * calling thread if one is open.
+	 *
+	 * @param root the type root to get the AST for
+	 * @param resolveBindings if the AST needs bindings
+	 * @return the AST, never <code>null</code>
+	 */
+	public static CompilationUnit getAST(ITypeRoot root, boolean resolveBindings) {
+		ASTProvider provider = fCurrent.get();
+		if (provider != null) {
+			return provider.get(root, resolveBindings);
+		}
+		return createAST(root, resolveBindings);
+	}
+
+	/**
+	 * Passes the ASTs without bindings of all given compilation units to the
+	 * given requestor. The units not shared yet are parsed in one batch.
+	 *
+	 * @param units the compilation units, all of the same project
+	 * @param requestor the requestor to pass the units and their ASTs to
+	 * @param monitor the monitor to report progress to
+	 */
+	public static void acceptASTs(ICompilationUnit[] units, BiConsumer<ICompilationUnit, CompilationUnit> requestor, IProgressMonitor monitor) {
+		if (units.length == 0) {
+			return;
+		}
+		ASTProvider provider = fCurrent.get();
+		List<ICompilationUnit> remaining = new ArrayList<>(units.length);
+		for (ICompilationUnit unit : units) {
+			CompilationUnit ast = provider != null ? provider.lookup(new Key(unit, false)) : null;
+			if (ast != null) {
+				requestor.accept(unit, ast);
+			} else {
+				remaining.add(unit);
+			}
+		}
+		if (remaining.isEmpty()) {
+			return;
+		}
+		IJavaProject project = remaining.get(0).getJavaProject();
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(project);
+		parser.setCompilerOptions(getOptions(project));
+		parser.setResolveBindings(false);
+		parser.createASTs(remaining.toArray(new ICompilationUnit[remaining.size()]), new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				if (provider != null) {
+					provider.put(new Key(source, false), ast);
+				}
+				requestor.accept(source, ast);
+			}
+		}, monitor);
+	}
+
+	/**
+	 * Returns the shared AST of the given type root, creating it if required
+	 *
+	 * @param root the type root to get the AST for
+	 * @param resolveBindings if the AST needs bindings
+	 * @return the AST, never <code>null</code>
+	 */
+	public CompilationUnit get(ITypeRoot root, boolean resolveBindings) {
+		Key key = new Key(root, resolveBindings);
+		CompilationUnit ast = lookup(key);
+		if (ast == null && !resolveBindings) {
+			// an AST with bindings has the same structure
+			ast = lookup(new Key(root, true));
+		}
+		if (ast == null) {
+			ast = createAST(root, resolveBindings);
+			put(key, ast);
+		}
+		return ast;
+	}
+
+	private void put(Key key, CompilationUnit ast) {
+		fASTs.put(key, new Entry(new SoftReference<>(ast), getSource(key.root())));
+	}
+
+	private CompilationUnit lookup(Key key) {
+		Entry entry = fASTs.get(key);
+		if (entry == null) {
+			return null;
+		}
+		CompilationUnit ast = entry.ast().get();
+		if (ast == null || !Objects.equals(entry.source(), getSource(key.root()))) {
+			fASTs.remove(key);
+			return null;
+		}
+		return ast;
+	}
+
+	/**
+	 * Returns the current source of the given type root, including the
+	 * unsaved changes of a working copy, or <code>null</code> if it has none
+	 */
+	private static String getSource(ITypeRoot root) {
+		try {
+			return root.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a new AST of the given type root that is not shared
+	 */
+	static CompilationUnit createAST(ITypeRoot root, boolean resolveBindings) {
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		// the source sets the options of its project, override them after
+		parser.setSource(root);
+		parser.setCompilerOptions(getOptions(root.getJavaProject()));
+		parser.setResolveBindings(resolveBindings);
+		return (CompilationUnit) parser.createAST(new NullProgressMonitor());
+	}
+
+	private static Map<String, String> getOptions(IJavaProject project) {
+		Map<String, String> options = project != null ? project.getOptions(true) : JavaCore.getOptions();
+		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		return options;
+	}
+
+	/**
+	 * Closes this provider, once it has been closed as often as it has been
+	 * opened all shared ASTs are released.
+	 */
+	@Override
+	public void close() {
+		if (--fDepth == 0) {
+			fASTs.clear();
+			if (fCurrent.get() == this) {
+				fCurrent.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.Attributes;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.eclipse.pde.internal.build.builder.ClasspathCache;
+import org.eclipse.pde.internal.build.site.PDEState;
+import org.junit.Test;
+
+public class ClasspathCacheTests extends PDETestCase {
+
+	@Test
+	public void testCacheReused() throws Exception {
+		PDEState state = createState("ClasspathCacheReused");
+		BundleDescription a = state.getState().getBundle("a", null);
+		BundleDescription b = state.getState().getBundle("b", null);
+
+		ClasspathCache cache = ClasspathCache.get(state);
+		assertSame(cache, ClasspathCache.get(state));
+
+		AtomicInteger reads = new AtomicInteger();
+		Properties properties = cache.getBuildProperties(b, bundle -> {
+			reads.incrementAndGet();
+			return new Properties();
+		});
+		assertSame(properties, cache.getBuildProperties(b, bundle -> {
+			reads.incrementAndGet();
+			return new Properties();
+		}));
+		assertEquals(1, reads.get());
+
+		AtomicInteger computations = new AtomicInteger();
+		Map<String, String> packages = cache.getVisiblePackages(b, bundle -> {
+			computations.incrementAndGet();
+			return Map.of("a_1.0.0", "+a/*");
+		});
+		assertSame(packages, cache.getVisiblePackages(b, bundle -> {
+			computations.incrementAndGet();
+			return Map.of();
+		}));
+		assertEquals(1, computations.get());
+		assertEquals(Map.of("a_1.0.0", "+a/*"), packages);
+
+		BundleDescription[] dependents = cache.getDependentBundles(b);
+		assertArrayEquals(new BundleDescription[] { a }, dependents);
+		assertSame(dependents, cache.getDependentBundles(b));
+	}
+
+	@Test
+	public void testCacheDiscardedOnStateChange() throws Exception {
+		IFolder buildFolder = newTest("ClasspathCacheDiscarded");
+		PDEState state = createState(buildFolder);
+		BundleDescription b = state.getState().getBundle("b", null);
+
+		AtomicInteger reads = new AtomicInteger();
+		ClasspathCache.PropertiesReader reader = bundle -> {
+			reads.incrementAndGet();
+			return new Properties();
+		};
+		ClasspathCache cache = ClasspathCache.get(state);
+		cache.getBuildProperties(b, reader);
+		assertEquals(1, reads.get());
+
+		// adding a bundle changes the time stamp of the state
+		IFolder c = Utils.createFolder(buildFolder, "plugins/c");
+		Utils.generateBundle(c, "c");
+		state.addBundle(c.getLocation().toFile());
+		ClasspathCache added = ClasspathCache.get(state);
+		assertNotSame(cache, added);
+		added.getBuildProperties(b, reader);
+		assertEquals(2, reads.get());
+		assertSame(added, ClasspathCache.get(state));
+
+		// as does removing one
+		state.getState().removeBundle(state.getState().getBundle("c", null));
+		ClasspathCache removed = ClasspathCache.get(state);
+		assertNotSame(added, removed);
+		removed.getBuildProperties(b, reader);
+		assertEquals(3, reads.get());
+	}
+
+	private PDEState createState(String testName) throws Exception {
+		return createState(newTest(testName));
+	}
+
+	private PDEState createState(IFolder buildFolder) throws Exception {
+		IFolder a = Utils.createFolder(buildFolder, "plugins/a");
+		Attributes additional = new Attributes();
+		additional.put(new Attributes.Name("Export-Package"), "a");
+		Utils.generateBundleManifest(a, "a", "1.0.0", additional);
+
+		IFolder b = Utils.createFolder(buildFolder, "plugins/b");
+		additional = new Attributes();
+		additional.put(new Attributes.Name("Require-Bundle"), "a");
+		Utils.generateBundleManifest(b, "b", "1.0.0", additional);
+
+		PDEState state = new PDEState();
+		state.addBundle(a.getLocation().toFile());
+		state.addBundle(b.getLocation().toFile());
+		state.getState().resolve();
+		return state;
+	}
+}
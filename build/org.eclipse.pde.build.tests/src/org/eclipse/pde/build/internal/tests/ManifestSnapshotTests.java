@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.build.site.ManifestSnapshot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ManifestSnapshotTests {
+
+	private Path root;
+	private File snapshotFile;
+
+	@Before
+	public void setUp() throws IOException {
+		root = Files.createTempDirectory("manifestSnapshot");
+		snapshotFile = root.resolve("snapshot/state.snapshot").toFile();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(root)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void testUnchangedBundlesReused() throws IOException, CoreException {
+		File folder = createFolderBundle("a", "1.0.0.qualifier", "qualifier=v20260101");
+		File jar = createJarBundle("b", "2.0.0");
+		ManifestSnapshot snapshot = ManifestSnapshot.read(snapshotFile);
+		assertNull(snapshot.get(folder));
+		snapshot.put(folder, manifest("a", "1.0.0.qualifier"));
+		snapshot.put(jar, manifest("b", "2.0.0"));
+		snapshot.write();
+
+		snapshot = ManifestSnapshot.read(snapshotFile);
+		assertEquals(manifest("a", "1.0.0.qualifier"), snapshot.get(folder));
+		assertEquals(manifest("b", "2.0.0"), snapshot.get(jar));
+		// the returned manifests are copies
+		snapshot.get(folder).put("Bundle-Version", "1.0.0.v20260101");
+		assertEquals(manifest("a", "1.0.0.qualifier"), snapshot.get(folder));
+
+		long written = snapshotFile.lastModified();
+		snapshotFile.setLastModified(written - 10000);
+		snapshot.write();
+		assertEquals("an unchanged snapshot should not be written", written - 10000, snapshotFile.lastModified());
+	}
+
+	@Test
+	public void testModifiedInputsInvalidate() throws IOException, CoreException {
+		File manifestChanged = createFolderBundle("a", "1.0.0", null);
+		File propertiesChanged = createFolderBundle("b", "1.0.0", "qualifier=v1");
+		File propertiesAdded = createFolderBundle("c", "1.0.0", null);
+		File propertiesRemoved = createFolderBundle("d", "1.0.0", "qualifier=v1");
+		File jarChanged = createJarBundle("e", "1.0.0");
+		File unchanged = createFolderBundle("f", "1.0.0", "qualifier=v1");
+		ManifestSnapshot snapshot = ManifestSnapshot.read(snapshotFile);
+		for (File bundle : new File[] {manifestChanged, propertiesChanged, propertiesAdded, propertiesRemoved, jarChanged, unchanged}) {
+			snapshot.put(bundle, manifest(bundle.getName(), "1.0.0"));
+		}
+		snapshot.write();
+
+		touch(new File(manifestChanged, "META-INF/MANIFEST.MF"));
+		touch(new File(propertiesChanged, "build.properties"));
+		Files.writeString(propertiesAdded.toPath().resolve("build.properties"), "qualifier=v2");
+		Files.delete(propertiesRemoved.toPath().resolve("build.properties"));
+		touch(jarChanged);
+
+		snapshot = ManifestSnapshot.read(snapshotFile);
+		assertNull(snapshot.get(manifestChanged));
+		assertNull(snapshot.get(propertiesChanged));
+		assertNull(snapshot.get(propertiesAdded));
+		assertNull(snapshot.get(propertiesRemoved));
+		assertNull(snapshot.get(jarChanged));
+		assertEquals(manifest("f", "1.0.0"), snapshot.get(unchanged));
+	}
+
+	@Test
+	public void testMissingManifestNotRecorded() throws IOException, CoreException {
+		File bundle = createFolderBundle("a", "1.0.0", "qualifier=v1");
+		ManifestSnapshot snapshot = ManifestSnapshot.read(snapshotFile);
+		snapshot.put(bundle, manifest("a", "1.0.0"));
+		snapshot.write();
+
+		Files.delete(bundle.toPath().resolve("META-INF/MANIFEST.MF"));
+		snapshot = ManifestSnapshot.read(snapshotFile);
+		assertNull(snapshot.get(bundle));
+		snapshot.put(bundle, manifest("a", "1.0.0"));
+		snapshot.write();
+		assertNull(ManifestSnapshot.read(snapshotFile).get(bundle));
+
+		File missingJar = root.resolve("missing.jar").toFile();
+		snapshot.put(missingJar, manifest("missing", "1.0.0"));
+		snapshot.write();
+		assertNull(ManifestSnapshot.read(snapshotFile).get(missingJar));
+	}
+
+	@Test
+	public void testUnreadableSnapshotIgnored() throws IOException {
+		File bundle = createFolderBundle("a", "1.0.0", null);
+		Files.createDirectories(snapshotFile.toPath().getParent());
+		Files.writeString(snapshotFile.toPath(), "not a snapshot");
+		assertNull(ManifestSnapshot.read(snapshotFile).get(bundle));
+		assertNull(ManifestSnapshot.read(root.resolve("missing").toFile()).get(bundle));
+	}
+
+	private File createFolderBundle(String name, String version, String buildProperties) throws IOException {
+		Path location = Files.createDirectories(root.resolve(name).resolve("META-INF"));
+		try (OutputStream out = Files.newOutputStream(location.resolve("MANIFEST.MF"))) {
+			createManifest(name, version).write(out);
+		}
+		if (buildProperties != null)
+			Files.writeString(location.resolveSibling("build.properties"), buildProperties);
+		return location.getParent().toFile();
+	}
+
+	private File createJarBundle(String name, String version) throws IOException {
+		File jar = root.resolve(name + "_" + version + ".jar").toFile();
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()), createManifest(name, version))) {
+			// only the manifest
+		}
+		return jar;
+	}
+
+	private static Manifest createManifest(String name, String version) {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Bundle-SymbolicName", name);
+		attributes.putValue("Bundle-Version", version);
+		return manifest;
+	}
+
+	private static Dictionary<String, String> manifest(String name, String version) {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put("Bundle-SymbolicName", name);
+		manifest.put("Bundle-Version", version);
+		return manifest;
+	}
+
+	/**
+	 * Changes the time stamp of the given file without changing its size
+	 */
+	private static void touch(File file) {
+		file.setLastModified(file.lastModified() - 10000);
+	}
+}
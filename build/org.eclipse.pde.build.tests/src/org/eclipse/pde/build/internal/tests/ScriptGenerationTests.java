@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -21,12 +21,14 @@ import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -2452,4 +2454,134 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	// Test that generating the scripts of the bundles in parallel results in the
+	// same scripts as generating them one after the other
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("ParallelScriptGeneration");
+		IFolder plugins = Utils.createFolder(buildFolder, "plugins");
+
+		// two binary bundles with a nested jar of the same name, the one extracted first
+		// keeps the name of the jar
+		for (String lib : new String[] { "lib1", "lib2" }) {
+			Manifest manifest = new Manifest();
+			Attributes attributes = manifest.getMainAttributes();
+			attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+			attributes.put(new Attributes.Name("Bundle-ManifestVersion"), "2");
+			attributes.put(new Attributes.Name("Bundle-SymbolicName"), lib);
+			attributes.put(new Attributes.Name("Bundle-Version"), "1.0.0");
+			attributes.put(new Attributes.Name("Bundle-ClassPath"), "a.jar");
+			ByteArrayOutputStream nestedJar = new ByteArrayOutputStream();
+			try (ZipOutputStream nested = new ZipOutputStream(nestedJar)) {
+				nested.putNextEntry(new ZipEntry(lib + "/A.class"));
+			}
+			try (ZipOutputStream jar = new ZipOutputStream(
+					new FileOutputStream(plugins.getFile(lib + "_1.0.0.jar").getLocation().toFile()))) {
+				jar.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+				manifest.write(jar);
+				jar.putNextEntry(new ZipEntry("a.jar"));
+				nestedJar.writeTo(jar);
+			}
+		}
+
+		String[] bundles = { "a", "b", "c", "d", "e", "f", "g", "h" };
+		String[] requires = { "lib2", "lib1", "a,lib1", "b,c", "lib2,d", "", "a,b,c,d,e", "g,lib1,lib2" };
+		for (int i = 0; i < bundles.length; i++) {
+			IFolder bundle = Utils.createFolder(plugins, bundles[i]);
+			Attributes additional = new Attributes();
+			if (requires[i].length() > 0)
+				additional.put(new Attributes.Name("Require-Bundle"), requires[i]);
+			Utils.generateBundleManifest(bundle, bundles[i], "1.0.0", additional);
+			Utils.generatePluginBuildProperties(bundle, null);
+			Utils.writeBuffer(bundle.getFile("src/" + bundles[i] + "/A.java"),
+					new StringBuffer("package " + bundles[i] + "; public class A { }"));
+		}
+		Utils.generateFeature(buildFolder, "F", null, bundles);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "F");
+		properties.put("baseLocation", " ");
+		properties.put("pluginPath", FileLocator.getBundleFileLocation(Platform.getBundle(OSGI)).get().getAbsolutePath());
+		generateScripts(buildFolder, properties);
+		Map<String, String> sequential = readScripts(buildFolder, bundles);
+
+		properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION, "true");
+		for (int i = 0; i < 5; i++) {
+			generateScripts(buildFolder, properties);
+			assertEquals(sequential, readScripts(buildFolder, bundles));
+		}
+	}
+
+	// Test the assemble script of a product whose configs are assembled concurrently
+	@Test
+	public void testParallelAssembly() throws Exception {
+		IFolder buildFolder = newTest("ParallelAssembly");
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		Utils.generateBundle(a, "A");
+		Utils.generateFeature(buildFolder, "F", null, new String[] { "A" });
+		IFile product = buildFolder.getFile("foo.product");
+		Utils.generateProduct(product, null, "1.0.0", new String[] { "F" }, true);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "F");
+		properties.put("product", product.getLocation().toOSString());
+		properties.put("configs", "win32,win32,x86_64 & linux,gtk,x86_64");
+		properties.put("p2.gathering", "true");
+		properties.put("baseLocation", " ");
+		properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY, "true");
+		generateScripts(buildFolder, properties);
+
+		String[] configs = { "win32.win32.x86_64", "linux.gtk.x86_64" };
+		IFile assembleScript = buildFolder.getFile("assemble.F.all.xml");
+		String content = Files.readString(assembleScript.getLocation().toFile().toPath());
+		// the temporary directory of each config is passed as a property of its own
+		assertTrue(content.contains("<property name=\"assemblyConfigTempDir\" value=\"${assemblyTempDir}/@{config}\""));
+		assertFalse(content.contains("<property name=\"assemblyTempDir\" value=\"${assemblyTempDir}"));
+		assertTrue(content.contains("<property name=\"skipMirroring\" value=\"true\""));
+
+		Project antProject = assertValidAntScript(assembleScript);
+		Target main = antProject.getTargets().get("main");
+		Object[] parallel = AntUtils.getChildrenByName(main, "parallel");
+		assertEquals(1, parallel.length);
+		Task[] tasks = AntUtils.getParallelTasks((Parallel) parallel[0]);
+		assertEquals(configs.length, tasks.length);
+		for (int i = 0; i < configs.length; i++) {
+			assertEquals("assembleInParallel", tasks[i].getTaskName());
+			assertEquals(configs[i], tasks[i].getRuntimeConfigurableWrapper().getAttributeMap().get("config"));
+		}
+
+		// the products are mirrored one after the other with the properties of their config
+		int mirrored = 0;
+		for (Task task : main.getTasks()) {
+			RuntimeConfigurable wrapper = task.getRuntimeConfigurableWrapper();
+			if (!task.getTaskName().equals("ant") || !"mirrorProduct".equals(wrapper.getAttributeMap().get("target")))
+				continue;
+			String config = configs[mirrored++];
+			assertEquals("assemble.F." + config + ".xml", wrapper.getAttributeMap().get("antfile"));
+			Map<String, String> forwarded = new HashMap<>();
+			for (Enumeration<RuntimeConfigurable> children = wrapper.getChildren(); children.hasMoreElements();) {
+				Map<String, Object> attributes = children.nextElement().getAttributeMap();
+				forwarded.put((String) attributes.get("name"), (String) attributes.get("value"));
+			}
+			assertEquals("${assemblyTempDir}/" + config, forwarded.get("assemblyConfigTempDir"));
+			assertEquals(config, forwarded.get("config"));
+			assertFalse(forwarded.containsKey("skipMirroring"));
+		}
+		assertEquals(configs.length, mirrored);
+
+		String configScript = Files.readString(buildFolder.getFile("assemble.F.linux.gtk.x86_64.xml").getLocation().toFile().toPath());
+		assertTrue(configScript.contains("<property name=\"assemblyConfigTempDir\" value=\"${assemblyTempDir}\"/>"));
+		assertTrue(configScript.contains("<property name=\"eclipse.base\" value=\"${assemblyConfigTempDir}/${collectingFolder}\"/>"));
+	}
+
+	private Map<String, String> readScripts(IFolder buildFolder, String[] bundles) throws Exception {
+		Map<String, String> scripts = new HashMap<>();
+		scripts.put("F", Files.readString(buildFolder.getFile("features/F/build.xml").getLocation().toFile().toPath()));
+		for (String bundle : bundles) {
+			IFile script = buildFolder.getFile("plugins/" + bundle + "/build.xml");
+			String content = Files.readString(script.getLocation().toFile().toPath());
+			script.getLocation().toFile().delete();
+			scripts.put(bundle, content);
+		}
+		return scripts;
+	}
 }
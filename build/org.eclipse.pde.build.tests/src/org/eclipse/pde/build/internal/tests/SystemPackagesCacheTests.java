@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.eclipse.pde.internal.build.site.SystemPackagesCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SystemPackagesCacheTests {
+
+	private Path root;
+	private File cacheFile;
+
+	@Before
+	public void setUp() throws IOException {
+		root = Files.createTempDirectory("systemPackages");
+		cacheFile = root.resolve("cache/systemPackages.properties").toFile();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(root)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void testReleaseOfNonModularVMIgnored() throws IOException {
+		File vm = createVM("vm8", "JAVA_VERSION=\"1.8.0\"");
+		SystemPackagesCache cache = new SystemPackagesCache(cacheFile);
+		cache.put(vm, false, "11", List.of("java.lang", "javax.swing"));
+		assertEquals(List.of("java.lang", "javax.swing"), cache.get(vm, false, null));
+		assertEquals(List.of("java.lang", "javax.swing"), cache.get(vm, false, "17"));
+		assertEquals(List.of("java.lang", "javax.swing"),
+				new SystemPackagesCache(cacheFile).get(vm, false, null));
+
+		File modular = createVM("vm17", "JAVA_VERSION=\"17\"");
+		cache.put(modular, true, "11", List.of("java.lang"));
+		assertEquals(List.of("java.lang"), cache.get(modular, true, "11"));
+		assertNull(cache.get(modular, true, "17"));
+		assertNull(cache.get(modular, true, null));
+	}
+
+	@Test
+	public void testConcurrentBuildsMerged() throws IOException {
+		File vm1 = createVM("vm1", "JAVA_VERSION=\"17\"");
+		File vm2 = createVM("vm2", "JAVA_VERSION=\"21\"");
+		SystemPackagesCache build1 = new SystemPackagesCache(cacheFile);
+		SystemPackagesCache build2 = new SystemPackagesCache(cacheFile);
+		// both builds read the cache before any of them stores packages
+		assertNull(build1.get(vm1, true, "17"));
+		assertNull(build2.get(vm2, true, "21"));
+
+		build1.put(vm1, true, "17", List.of("java.lang"));
+		build2.put(vm2, true, "21", List.of("java.io", "java.lang"));
+
+		SystemPackagesCache build3 = new SystemPackagesCache(cacheFile);
+		assertEquals(List.of("java.lang"), build3.get(vm1, true, "17"));
+		assertEquals(List.of("java.io", "java.lang"), build3.get(vm2, true, "21"));
+		// the second build has merged the packages of the first one
+		assertEquals(List.of("java.lang"), build2.get(vm1, true, "17"));
+		assertEquals(2, readCacheFile().size());
+	}
+
+	@Test
+	public void testReplacedVMForgotten() throws IOException {
+		File vm = createVM("vm", "JAVA_VERSION=\"17\"");
+		SystemPackagesCache cache = new SystemPackagesCache(cacheFile);
+		cache.put(vm, true, "11", List.of("java.lang"));
+		cache.put(vm, true, "17", List.of("java.lang"));
+
+		Files.writeString(vm.toPath().resolve("release"), "JAVA_VERSION=\"21.0.1\"");
+		assertNull(cache.get(vm, true, "17"));
+		cache.put(vm, true, "17", List.of("java.io"));
+
+		assertEquals(List.of("java.io"), new SystemPackagesCache(cacheFile).get(vm, true, "17"));
+		assertEquals(1, readCacheFile().size());
+	}
+
+	@Test
+	public void testVMWithoutReleaseFileNotPersisted() throws IOException {
+		File vm = Files.createDirectories(root.resolve("vm")).toFile();
+		SystemPackagesCache cache = new SystemPackagesCache(cacheFile);
+		cache.put(vm, true, "17", List.of());
+		assertEquals(List.of(), cache.get(vm, true, "17"));
+		assertNull(new SystemPackagesCache(cacheFile).get(vm, true, "17"));
+	}
+
+	private File createVM(String name, String release) throws IOException {
+		Path location = Files.createDirectories(root.resolve(name));
+		Files.writeString(location.resolve("release"), release);
+		return location.toFile();
+	}
+
+	private Properties readCacheFile() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(cacheFile.toPath())) {
+			properties.load(input);
+		}
+		return properties;
+	}
+}
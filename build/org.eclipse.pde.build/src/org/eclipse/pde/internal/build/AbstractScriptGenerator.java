@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,7 +71,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 
 	private static final FilenameFilter ARTIFACT_REPO_FILTER = (dir, name) -> name.startsWith("artifacts.") || name.startsWith("compositeArtifacts."); //$NON-NLS-1$ //$NON-NLS-2$
 
-	private static Properties immutableAntProperties = null;
+	private static volatile Properties immutableAntProperties = null;
 	protected static boolean embeddedSource = false;
 	protected static boolean forceUpdateJarFormat = false;
 	private static List<Config> configInfos;
@@ -116,18 +116,20 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 	public abstract void generate() throws CoreException;
 
 	protected static void setStaticAntProperties(Properties properties) {
-		if (properties == null) {
-			immutableAntProperties = new Properties();
+		//Only publish the properties once they are complete, the scripts of the bundles may be generated concurrently
+		Properties antProperties = properties;
+		if (antProperties == null) {
+			antProperties = new Properties();
 			BuildDirector.p2Gathering = false;
-		} else
-			immutableAntProperties = properties;
-		if (getImmutableAntProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE) == null) {
-			immutableAntProperties.setProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE, "false"); //$NON-NLS-1$
+		}
+		if (antProperties.get(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE) == null) {
+			antProperties.setProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE, "false"); //$NON-NLS-1$
 		}
 		//When we are generating build scripts, the normalization needs to be set, and when doing packaging the default is to set normalization to true for backward compatibility 
-		if (!getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE) || getImmutableAntProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_AS_NORMALIZER) == null) {
-			immutableAntProperties.setProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_AS_NORMALIZER, "true"); //$NON-NLS-1$
+		if (!"true".equalsIgnoreCase(antProperties.getProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_MODE)) || antProperties.get(IBuildPropertiesConstants.PROPERTY_PACKAGER_AS_NORMALIZER) == null) { //$NON-NLS-1$
+			antProperties.setProperty(IBuildPropertiesConstants.PROPERTY_PACKAGER_AS_NORMALIZER, "true"); //$NON-NLS-1$
 		}
+		immutableAntProperties = antProperties;
 
 		if (getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_P2_GATHERING))
 			BuildDirector.p2Gathering = true;
@@ -145,9 +147,10 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 	}
 
 	public static String getImmutableAntProperty(String key, String defaultValue) {
-		if (immutableAntProperties == null || !immutableAntProperties.containsKey(key))
+		Properties antProperties = immutableAntProperties;
+		if (antProperties == null || !antProperties.containsKey(key))
 			return defaultValue;
-		Object obj = immutableAntProperties.get(key);
+		Object obj = antProperties.get(key);
 		return (obj instanceof String) ? (String) obj : null;
 	}
 
@@ -197,7 +200,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 
 	static public class MissingProperties extends Properties {
 		private static final long serialVersionUID = 3546924667060303927L;
-		private static MissingProperties singleton;
+		private static final MissingProperties singleton = new MissingProperties();
 
 		private MissingProperties() {
 			//nothing to do;
@@ -214,8 +217,6 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		}
 
 		public static MissingProperties getInstance() {
-			if (singleton == null)
-				singleton = new MissingProperties();
 			return singleton;
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,9 @@ import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 
 public class AssembleScriptGenerator extends AbstractScriptGenerator {
+	private static final String ASSEMBLE_MACRO = "assemble"; //$NON-NLS-1$
+	private static final String PARALLEL_ASSEMBLE_MACRO = "assembleInParallel"; //$NON-NLS-1$
+
 	protected String directory; // representing the directory where to generate the file
 	protected AssemblyInformation assemblageInformation;
 	protected String featureId;
@@ -35,6 +39,9 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 	protected boolean groupConfigs = false;
 	protected boolean versionsList = false;
 	protected String productLocation = null;
+	protected boolean parallelAssembly = false;
+	/** The scripts of the configs assembled concurrently, with the properties they are called with */
+	protected Map<String, Map<String, String>> parallelScripts = new LinkedHashMap<>();
 
 	protected AssembleConfigScriptGenerator configScriptGenerator;
 
@@ -61,6 +68,8 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 	public void generate() throws CoreException {
 		//make sure the script generator is initialized with the site before we try doing anything with it.
 		configScriptGenerator.setBuildSiteFactory(siteFactory);
+		parallelAssembly = shouldAssembleInParallel();
+		parallelScripts.clear();
 
 		try {
 			openScript(directory, getScriptName());
@@ -85,6 +94,8 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 	protected void generatePrologue() {
 		if (productQualifier != null)
 			script.printProperty(PROPERTY_P2_PRODUCT_QUALIFIER, productQualifier);
+		if (parallelAssembly)
+			script.printProperty(PROPERTY_ASSEMBLY_TMP, Utils.getPropertyFormat(PROPERTY_BUILD_DIRECTORY) + "/tmp"); //$NON-NLS-1$
 		script.println();
 	}
 
@@ -94,18 +105,31 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 	}
 
 	protected void printAssembleMacroDef() {
+		printAssembleMacroDef(ASSEMBLE_MACRO, null);
+		if (parallelAssembly) {
+			//concurrent configs are assembled in their own temporary directory and publish into the shared repository afterwards
+			Map<String, String> properties = getParallelConfigProperties("@{config}"); //$NON-NLS-1$
+			if (shouldDeferMirroring())
+				properties.put(PROPERTY_SKIP_MIRRORING, TRUE);
+			printAssembleMacroDef(PARALLEL_ASSEMBLE_MACRO, properties);
+		}
+	}
+
+	private void printAssembleMacroDef(String name, Map<String, String> configProperties) {
 		List<String> attributes = new ArrayList<>(4);
 		attributes.add("config"); //$NON-NLS-1$
 		attributes.add("element"); //$NON-NLS-1$
 		attributes.add("dot"); //$NON-NLS-1$
 		attributes.add("scriptPrefix"); //$NON-NLS-1$
-		script.printMacroDef("assemble", attributes); //$NON-NLS-1$
+		script.printMacroDef(name, attributes);
 		printDefaultAssembleCondition();
 		script.printConditionIsSet("customOrDefault.@{config}", "assemble.@{element}@{dot}@{config}", "assemble.@{element}@{dot}@{config}", "${defaultAssemble.@{config}}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 		Map<String, String> properties = new HashMap<>();
 		properties.put("assembleScriptName", "@{scriptPrefix}.@{element}@{dot}@{config}.xml"); //$NON-NLS-1$ //$NON-NLS-2$
 		properties.put("element", "@{element}"); //$NON-NLS-1$//$NON-NLS-2$
 		properties.put("config", "@{config}"); //$NON-NLS-1$//$NON-NLS-2$
+		if (configProperties != null)
+			properties.putAll(configProperties);
 		script.printAntTask(Utils.getPropertyFormat(DEFAULT_CUSTOM_TARGETS), null, "${customOrDefault.@{config}}", null, null, properties); //$NON-NLS-1$
 		script.printEndMacroDef();
 	}
@@ -135,11 +159,20 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 			}
 			basicGenerateAssembleConfigFileTargetCall(new Config("group", "group", "group"), allPlugins, allFeatures, features, rootFiles); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		} else {
+			if (parallelAssembly)
+				printParallel();
 			for (Config current : getConfigInfos()) {
 				@SuppressWarnings("rawtypes")
 				Collection[] configInfo = getConfigInfos(current);
 				basicGenerateAssembleConfigFileTargetCall(current, configInfo[0], configInfo[1], configInfo[2], configInfo[3]);
 			}
+			if (parallelAssembly) {
+				script.printEndParallel();
+				if (shouldDeferMirroring()) {
+					for (Map.Entry<String, Map<String, String>> parallelScript : parallelScripts.entrySet())
+						script.printAntTask(parallelScript.getKey(), Utils.getPropertyFormat(PROPERTY_BUILD_DIRECTORY), TARGET_MIRROR_PRODUCT, null, null, parallelScript.getValue());
+				}
+			}
 		}
 		if (configScriptGenerator.haveP2Bundles() && !BuildDirector.p2Gathering)
 			script.printAntCallTask(TARGET_P2_METADATA, true, null);
@@ -157,6 +190,83 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 		return true;
 	}
 
+	/**
+	 * Returns whether the configs are assembled concurrently. Configs are only
+	 * assembled concurrently when they do not write to the same location: they
+	 * must not be assembled into folders and must not generate metadata into the
+	 * same repository.
+	 */
+	protected boolean shouldAssembleInParallel() {
+		if (!getPropertyAsBoolean(PROPERTY_PARALLEL_ASSEMBLY) || getConfigInfos().size() < 2 || shouldGroupConfigs())
+			return false;
+		if (configScriptGenerator.haveP2Bundles() && !BuildDirector.p2Gathering)
+			return false;
+		for (Config config : getConfigInfos()) {
+			if (FORMAT_FOLDER.equalsIgnoreCase(archivesFormat.get(config)))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the properties of a config assembled concurrently. The temporary
+	 * directory is passed as a property of its own, as the assemblyTempDir
+	 * property cannot be redefined when it is set on the command line.
+	 */
+	private Map<String, String> getParallelConfigProperties(String config) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(PROPERTY_ASSEMBLY_CONFIG_TMP, Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP) + '/' + config);
+		return properties;
+	}
+
+	/**
+	 * Products mirror the installation of each config into the same repository,
+	 * which is done one config after the other once all are assembled.
+	 */
+	private boolean shouldDeferMirroring() {
+		return BuildDirector.p2Gathering && configScriptGenerator.getProductFile() != null;
+	}
+
+	private void printParallel() {
+		int threadCount = 0;
+		String count = getImmutableAntProperty(PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT);
+		if (count != null) {
+			try {
+				threadCount = Integer.parseInt(count.trim());
+			} catch (NumberFormatException e) {
+				//one config per processor
+			}
+		}
+		if (threadCount > 0)
+			script.printParallel(threadCount, 0);
+		else
+			script.printParallel(0, 1);
+	}
+
+	/**
+	 * Prints the call to the script generated for the current config
+	 */
+	protected void printAssembleCall(String scriptPrefix) {
+		String config = configScriptGenerator.getTargetConfig();
+		String element = configScriptGenerator.getTargetElement();
+		String dot = config.length() > 0 ? "." : ""; //$NON-NLS-1$ //$NON-NLS-2$
+		script.printTab();
+		script.print('<' + (parallelAssembly ? PARALLEL_ASSEMBLE_MACRO : ASSEMBLE_MACRO) + ' ');
+		script.printAttribute("config", config, true); //$NON-NLS-1$
+		script.printAttribute("element", element, true); //$NON-NLS-1$
+		script.printAttribute("dot", dot, true); //$NON-NLS-1$
+		script.printAttribute("scriptPrefix", scriptPrefix, true); //$NON-NLS-1$
+		script.println("/>"); //$NON-NLS-1$
+		if (parallelAssembly) {
+			String scriptName = scriptPrefix + '.' + element + dot + config + ".xml"; //$NON-NLS-1$
+			Map<String, String> properties = getParallelConfigProperties(config);
+			properties.put("assembleScriptName", scriptName); //$NON-NLS-1$
+			properties.put("element", element); //$NON-NLS-1$
+			properties.put("config", config); //$NON-NLS-1$
+			parallelScripts.put(scriptName, properties);
+		}
+	}
+
 	/**
 	 * Returns an array of collections containing the plug-ins, compiled features, all features 
 	 * and root file providers known to this generator for the given config.
@@ -199,14 +309,7 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 		configScriptGenerator.setProductQualifier(productQualifier);
 		configScriptGenerator.generate();
 
-		script.printTab();
-		script.print("<assemble "); //$NON-NLS-1$
-		String config = configScriptGenerator.getTargetConfig();
-		script.printAttribute("config", config, true); //$NON-NLS-1$
-		script.printAttribute("element", configScriptGenerator.getTargetElement(), true); //$NON-NLS-1$
-		script.printAttribute("dot", config.length() > 0 ? "." : "", true); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		script.printAttribute("scriptPrefix", "assemble", true); //$NON-NLS-1$ //$NON-NLS-2$
-		script.println("/>"); //$NON-NLS-1$
+		printAssembleCall("assemble"); //$NON-NLS-1$
 	}
 
 	protected void generateReplaceProductTarget() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2013 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,7 @@ public class Config {
 	private final String os;
 	private final String arch;
 
-	private static Config genericConfig; //singleton
+	private static final Config genericConfig = new Config(ANY, ANY, ANY); //singleton
 
 	public Config(String os, String ws, String arch) {
 		this.ws = ws;
@@ -107,9 +107,6 @@ public class Config {
 	}
 
 	public static Config genericConfig() {
-		if (genericConfig == null)
-			genericConfig = new Config(ANY, ANY, ANY);
-
 		return genericConfig;
 	}
 
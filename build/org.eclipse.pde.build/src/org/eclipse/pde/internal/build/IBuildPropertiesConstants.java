@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,10 @@ public interface IBuildPropertiesConstants {
 	public static final String RESOLVER_DEV_MODE = "resolution.devMode"; //$NON-NLS-1$
 	public static final String PROPERTY_INDIVIDUAL_SOURCE = "individualSourceBundles"; //$NON-NLS-1$
 	public static final String PROPERTY_ALLOW_BINARY_CYCLES = "allowBinaryCycles"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_SCRIPT_GENERATION = "parallelScriptGeneration"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_ASSEMBLY = "parallelAssembly"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT = "parallelAssemblyThreadCount"; //$NON-NLS-1$
+	public static final String PROPERTY_STATE_SNAPSHOT = "stateSnapshot"; //$NON-NLS-1$
 
 	public static final String PROPERTY_TRANSFORMED_REPO = "transformedRepoLocation"; //$NON-NLS-1$
 	public static final String PROPERTY_P2_METADATA_REPO = "p2.metadata.repo"; //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -163,6 +163,7 @@ public interface IXMLConstants {
 	public static final String PROPERTY_CLASSPATH = ".classpath"; //$NON-NLS-1$
 	public static final String PROPERTY_RUN_PACKAGER = "runPackager"; //$NON-NLS-1$
 	public static final String PROPERTY_ASSEMBLY_TMP = "assemblyTempDir"; //$NON-NLS-1$
+	public static final String PROPERTY_ASSEMBLY_CONFIG_TMP = "assemblyConfigTempDir"; //$NON-NLS-1$
 	public static final String PROPERTY_CUSTOM_ASSEMBLY = "customAssembly"; //$NON-NLS-1$
 	public static final String PROPERTY_CUSTOM_GATHER = "customGather"; //$NON-NLS-1$
 	public static final String PROPERTY_PROJECT_LOCATION = "projectLocation"; //$NON-NLS-1$
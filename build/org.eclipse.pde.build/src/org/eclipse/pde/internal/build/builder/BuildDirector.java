@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -99,14 +104,25 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	}
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
+	/** The nested jars requested by the bundle script generated on the current thread, when generating in parallel */
+	private final ThreadLocal<List<String>> extractedRequests = new ThreadLocal<>();
 
 	public String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null)
 			return element.getPath();
 
 		String absolute = element.getAbsolutePath();
-		if (extractedLocations.containsKey(absolute)) {
-			return extractedLocations.get(absolute);
+		List<String> requests = extractedRequests.get();
+		if (requests != null)
+			requests.add(absolute);
+		synchronized (extractedLocations) {
+			return getExtractedRoot(extractedLocations, absolute);
+		}
+	}
+
+	private static String getExtractedRoot(Map<String, String> locations, String absolute) {
+		if (locations.containsKey(absolute)) {
+			return locations.get(absolute);
 		}
 
 		//Use the jar name, append a suffix if that name is already taken
@@ -114,11 +130,11 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		if (name.endsWith(".jar")) //$NON-NLS-1$
 			name = name.substring(0, name.length() - 4);
 		String destination = name;
-		while (extractedLocations.containsValue(destination)) {
+		while (locations.containsValue(destination)) {
 			destination = name + '_' + Integer.toHexString(destination.hashCode());
 		}
 
-		extractedLocations.put(absolute, destination);
+		locations.put(absolute, destination);
 		return destination;
 	}
 
@@ -520,6 +536,9 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		if (binaryFeature == false || models.isEmpty())
 			return;
 
+		boolean parallel = getPropertyAsBoolean(PROPERTY_PARALLEL_SCRIPT_GENERATION);
+		List<BundleDescription> parallelModels = new ArrayList<>(models.size());
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
@@ -532,7 +551,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty())
-				return;
+				break;
 
 			@SuppressWarnings("rawtypes")
 			Iterator entryIter = matchingEntries.iterator();
@@ -541,21 +560,115 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			if (list.size() == 0)
 				continue;
 
-			ModelBuildScriptGenerator generator = new ModelBuildScriptGenerator();
-			generator.setBuildSiteFactory(siteFactory);
-			generator.setCompiledElements(getCompiledElements());
-			generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
-			generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
-			generator.setFeatureGenerator(this);
-			generator.setPluginPath(getPluginPath());
-			generator.setDevEntries(devEntries);
-			generator.includePlatformIndependent(isPlatformIndependentIncluded());
-			generator.setSignJars(signJars);
-			generator.setAssociatedEntry(correspondingEntry);
-			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			ModelBuildScriptGenerator generator = createModelGenerator(model, correspondingEntry);
+			if (parallel) {
+				//The classpath of a bundle only refers to the elements compiled before it, as when generating one script after the other
+				generator.setCompiledElements(new HashSet<>(getCompiledElements()));
+				parallelModels.add(model);
+				generators.add(generator);
+			} else {
+				generator.generate();
+			}
+		}
+		if (!generators.isEmpty())
+			generateInParallel(parallelModels, generators);
+	}
+
+	private ModelBuildScriptGenerator createModelGenerator(BundleDescription model, FeatureEntry correspondingEntry) throws CoreException {
+		ModelBuildScriptGenerator generator = new ModelBuildScriptGenerator();
+		generator.setBuildSiteFactory(siteFactory);
+		generator.setCompiledElements(getCompiledElements());
+		generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
+		generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
+		generator.setFeatureGenerator(this);
+		generator.setPluginPath(getPluginPath());
+		generator.setDevEntries(devEntries);
+		generator.includePlatformIndependent(isPlatformIndependentIncluded());
+		generator.setSignJars(signJars);
+		generator.setAssociatedEntry(correspondingEntry);
+		generator.setGenerateSourceReferences(sourceReferences);
+		return generator;
+	}
+
+	/**
+	 * Generates the scripts of the given bundles concurrently. The scripts are identical to the ones 
+	 * generated one after the other in the given order: the only state shared between them are the 
+	 * locations nested jars are extracted to, which are named in the order they are first requested. 
+	 * If the concurrent generation has named them differently, the scripts referring to them are 
+	 * generated again.
+	 */
+	private void generateInParallel(List<BundleDescription> parallelModels, List<ModelBuildScriptGenerator> generators) throws CoreException {
+		Map<String, String> initialLocations;
+		synchronized (extractedLocations) {
+			initialLocations = new HashMap<>(extractedLocations);
+		}
+		int threads = Math.min(generators.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<List<String>> requests = new ArrayList<>(generators.size());
+		try {
+			List<Future<List<String>>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					List<String> requested = new ArrayList<>();
+					extractedRequests.set(requested);
+					try {
+						generator.generate();
+					} finally {
+						extractedRequests.remove();
+					}
+					return requested;
+				}));
+			}
+			Throwable failure = null;
+			for (Future<List<String>> result : results) {
+				try {
+					requests.add(result.get());
+				} catch (ExecutionException e) {
+					//Report the failure of the first bundle, as when generating one script after the other
+					if (failure == null)
+						failure = e.getCause();
+				}
+			}
+			if (failure instanceof CoreException coreException)
+				throw coreException;
+			if (failure instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			if (failure instanceof Error error)
+				throw error;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(Status.CANCEL_STATUS);
+		} finally {
+			executor.shutdownNow();
 		}
 
+		//Name the extracted locations in the order a sequential generation would have requested them
+		Map<String, String> locations = new HashMap<>(initialLocations);
+		for (List<String> requested : requests) {
+			for (String absolute : requested) {
+				getExtractedRoot(locations, absolute);
+			}
+		}
+		Set<String> renamed = new HashSet<>();
+		synchronized (extractedLocations) {
+			for (Map.Entry<String, String> location : locations.entrySet()) {
+				if (!location.getValue().equals(extractedLocations.get(location.getKey())))
+					renamed.add(location.getKey());
+			}
+			if (renamed.isEmpty())
+				return;
+			extractedLocations.clear();
+			extractedLocations.putAll(locations);
+		}
+		for (int i = 0; i < generators.size(); i++) {
+			List<String> requested = requests.get(i);
+			if (requested.stream().anyMatch(renamed::contains)) {
+				ModelBuildScriptGenerator generator = generators.get(i);
+				ModelBuildScriptGenerator regenerator = createModelGenerator(parallelModels.get(i), generator.getAssociatedEntry());
+				regenerator.setCompiledElements(generator.getCompiledElements());
+				regenerator.generate();
+			}
+		}
 	}
 
 	/**
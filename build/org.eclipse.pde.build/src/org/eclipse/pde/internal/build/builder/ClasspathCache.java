@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.build.site.PDEState;
+
+/**
+ * Build-wide cache of the information {@link ClasspathComputer3_0} computes
+ * for the bundles of a resolved state. The classpath of every compiled bundle
+ * refers to many of the same prerequisites; with this cache their build
+ * properties are read, their dependencies are looked up and their visible
+ * packages are converted to access rules only once per build.
+ * <p>
+ * A cache is bound to a {@link PDEState} and discarded when the state is
+ * modified. It can be used by concurrent script generators.
+ * </p>
+ */
+public class ClasspathCache {
+	private static final Map<PDEState, ClasspathCache> caches = new WeakHashMap<>();
+
+	private final long timeStamp;
+	/** The packages visible to a bundle with their access rules, keyed by exporter */
+	private final Map<BundleDescription, Map<String, String>> visiblePackages = new ConcurrentHashMap<>();
+	/** The bundles imported or required by a bundle */
+	private final Map<BundleDescription, BundleDescription[]> dependentBundles = new ConcurrentHashMap<>();
+	/** The content of the build.properties file of a bundle */
+	private final Map<BundleDescription, Properties> buildProperties = new ConcurrentHashMap<>();
+
+	private ClasspathCache(long timeStamp) {
+		this.timeStamp = timeStamp;
+	}
+
+	/**
+	 * Returns the cache for the current content of the given state
+	 */
+	public static synchronized ClasspathCache get(PDEState registry) {
+		long stamp = registry.getState().getTimeStamp();
+		ClasspathCache cache = caches.get(registry);
+		if (cache == null || cache.timeStamp != stamp) {
+			cache = new ClasspathCache(stamp);
+			caches.put(registry, cache);
+		}
+		return cache;
+	}
+
+	public Map<String, String> getVisiblePackages(BundleDescription bundle, Function<BundleDescription, Map<String, String>> compute) {
+		return visiblePackages.computeIfAbsent(bundle, b -> Collections.unmodifiableMap(compute.apply(b)));
+	}
+
+	public BundleDescription[] getDependentBundles(BundleDescription bundle) {
+		return dependentBundles.computeIfAbsent(bundle, PDEState::getDependentBundles);
+	}
+
+	/**
+	 * Returns the content of the build.properties file of the given bundle. The
+	 * returned properties are shared and must not be modified.
+	 */
+	public Properties getBuildProperties(BundleDescription bundle, PropertiesReader reader) throws CoreException {
+		Properties properties = buildProperties.get(bundle);
+		if (properties == null) {
+			properties = reader.read(bundle);
+			Properties existing = buildProperties.putIfAbsent(bundle, properties);
+			if (existing != null)
+				properties = existing;
+		}
+		return properties;
+	}
+
+	public interface PropertiesReader {
+		Properties read(BundleDescription bundle) throws CoreException;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,7 +48,6 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.IXMLConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
-import org.eclipse.pde.internal.build.site.PDEState;
 import org.osgi.framework.Filter;
 
 public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConstants, IXMLConstants, IBuildPropertiesConstants {
@@ -154,6 +153,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	private Map<String, ClasspathElement> pathElements = null;
 	private boolean allowBinaryCycles = false;
 	private Set<Long> requiredIds = null;
+	private ClasspathCache cache = null;
 	protected String modelLocation = null;
 
 	public ClasspathComputer3_0(ModelBuildScriptGenerator modelGenerator) {
@@ -173,6 +173,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 		List<Object> classpath = new ArrayList<>(20);
 		List<BundleDescription> pluginChain = new ArrayList<>(10); //The list of plugins added to detect cycle
 		modelLocation = generator.getLocation(model);
+		cache = ClasspathCache.get(generator.getSite(false).getRegistry());
 		Set<BundleDescription> addedPlugins = new HashSet<>(10); //The set of all the plugins already added to the classpath (this allows for optimization)
 		pathElements = new HashMap<>();
 		visiblePackages = getVisiblePackages(model);
@@ -207,6 +208,10 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	}
 
 	private Map<String, String> getVisiblePackages(BundleDescription model) {
+		return cache.getVisiblePackages(model, this::computeVisiblePackages);
+	}
+
+	private Map<String, String> computeVisiblePackages(BundleDescription model) {
 		Map<String, String> packages = new HashMap<>(20);
 		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
 		addVisiblePackagesFromState(helper, model, packages);
@@ -223,7 +228,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 				continue;
 
 			boolean discouraged = helper.getAccessCode(model, export) == StateHelper.ACCESS_DISCOURAGED;
-			String pattern = export.getName().replaceAll("\\.", "/") + "/*"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			String pattern = export.getName().replace('.', '/') + "/*"; //$NON-NLS-1$
 			String rule = (discouraged ? '~' : '+') + pattern;
 
 			String packagesKey = exporter.getSymbolicName() + "_" + exporter.getVersion(); //$NON-NLS-1$
@@ -328,7 +333,11 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 	private Properties getBuildPropertiesFor(BundleDescription bundle) {
 		try {
-			Properties bundleProperties = AbstractScriptGenerator.readProperties(generator.getLocation(bundle), PROPERTIES_FILE, IStatus.OK);
+			Properties bundleProperties = cache.getBuildProperties(bundle, b -> AbstractScriptGenerator.readProperties(generator.getLocation(b), PROPERTIES_FILE, IStatus.OK));
+			if (bundleProperties == AbstractScriptGenerator.MissingProperties.getInstance())
+				return bundleProperties;
+			//the cached properties are shared, the callers may modify their copy
+			bundleProperties = (Properties) bundleProperties.clone();
 			if (Utils.isStringIn(generator.getClasspathEntries(bundle), ModelBuildScriptGenerator.DOT) != -1) {
 				String sourceFolder = bundleProperties.getProperty(PROPERTY_SOURCE_PREFIX + ModelBuildScriptGenerator.DOT);
 				if (sourceFolder != null) {
@@ -570,7 +579,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 		// add libraries from pre-requisite plug-ins.  Don't worry about the export flag
 		// as all required plugins may be required for compilation.
-		BundleDescription[] requires = PDEState.getDependentBundles(target);
+		BundleDescription[] requires = cache.getDependentBundles(target);
 		pluginChain.add(target);
 		for (BundleDescription require : requires) {
 			addPluginAndPrerequisites(require, classpath, baseLocation, pluginChain, addedPlugins);
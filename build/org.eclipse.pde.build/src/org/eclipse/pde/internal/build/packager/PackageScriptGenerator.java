@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -88,14 +88,7 @@ public class PackageScriptGenerator extends AssembleScriptGenerator {
 		configScriptGenerator.setProductQualifier(productQualifier);
 		configScriptGenerator.generate();
 
-		script.printTab();
-		script.print("<assemble "); //$NON-NLS-1$
-		String config = configScriptGenerator.getTargetConfig();
-		script.printAttribute("config", config, true); //$NON-NLS-1$
-		script.printAttribute("element", configScriptGenerator.getTargetElement(), true); //$NON-NLS-1$
-		script.printAttribute("dot", config.length() > 0 ? "." : "", true); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		script.printAttribute("scriptPrefix", "package", true); //$NON-NLS-1$//$NON-NLS-2$
-		script.println("/>"); //$NON-NLS-1$
+		printAssembleCall("package"); //$NON-NLS-1$
 	}
 
 	public void setBackwardCompatibleName(boolean value) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -157,7 +157,20 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 				state.setPlatformProperties(platformProperties);
 
 			Collection<File> bundles = removeDuplicates(provider.getPluginPaths());
-			state.addBundles(bundles);
+			String snapshotLocation = AbstractScriptGenerator.getImmutableAntProperty(IBuildPropertiesConstants.PROPERTY_STATE_SNAPSHOT);
+			if (snapshotLocation != null && snapshotLocation.length() > 0) {
+				ManifestSnapshot snapshot = ManifestSnapshot.read(new File(snapshotLocation));
+				state.setManifestSnapshot(snapshot);
+				state.addBundles(bundles);
+				state.setManifestSnapshot(null);
+				try {
+					snapshot.write();
+				} catch (CoreException e) {
+					BundleHelper.getDefault().getLog().log(e.getStatus());
+				}
+			} else {
+				state.addBundles(bundles);
+			}
 			state.setEESources(eeSources);
 
 			//Once all the elements have been added to the state, the filter is removed to allow for the generated plug-ins to be added
@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Messages;
+
+/**
+ * Snapshot of the manifests of the bundles added to a {@link PDEState}, reused
+ * by subsequent builds.
+ * <p>
+ * Reading the manifests means opening every bundle of the base platform and
+ * the repositories, which dominates the construction of the state when the
+ * base does not change between builds. A manifest is recorded with the
+ * qualifier the state read from the build.properties of its bundle, and taken
+ * from the snapshot as long as the size and time stamp of every file it was
+ * read from are unchanged: the jar of a bundle, or the manifest file and the
+ * build.properties of a bundle in a directory. A bundle without its manifest
+ * file is always read from disk. The bundles being built are read from disk
+ * whenever they have been modified and overlaid on the unchanged ones.
+ * Everything else derived from the manifests, like the patch data and the
+ * resolution, is computed from the restored manifests as before.
+ * </p>
+ */
+public class ManifestSnapshot {
+	private static final int MAGIC = 0x50444553;
+	private static final short VERSION = 2;
+
+	/**
+	 * A manifest with the sizes and time stamps of the files it was read from,
+	 * see {@link #getStamps(File)}
+	 */
+	private record Entry(long[] stamps, Dictionary<String, String> manifest) {
+	}
+
+	private final File file;
+	private final Map<String, Entry> previous = new HashMap<>();
+	private final Map<String, Entry> current = new HashMap<>();
+	private boolean modified = false;
+
+	private ManifestSnapshot(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Reads the snapshot stored in the given file, an empty snapshot is returned
+	 * if the file does not exist or cannot be read.
+	 */
+	public static ManifestSnapshot read(File file) {
+		ManifestSnapshot snapshot = new ManifestSnapshot(file);
+		if (!file.isFile())
+			return snapshot;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION)
+				return snapshot;
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				long[] stamps = new long[in.readInt()];
+				for (int j = 0; j < stamps.length; j++) {
+					stamps[j] = in.readLong();
+				}
+				int size = in.readInt();
+				Dictionary<String, String> manifest = new Hashtable<>(size * 2);
+				for (int j = 0; j < size; j++) {
+					manifest.put(in.readUTF(), readString(in));
+				}
+				snapshot.previous.put(location, new Entry(stamps, manifest));
+			}
+		} catch (IOException e) {
+			//start from an empty snapshot
+			snapshot.previous.clear();
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns a copy of the manifest of the given bundle if it has not been
+	 * modified since the snapshot was written, otherwise <code>null</code>.
+	 */
+	public Dictionary<String, String> get(File bundleLocation) {
+		String location = bundleLocation.getAbsolutePath();
+		Entry entry = previous.get(location);
+		if (entry == null)
+			return null;
+		long[] stamps = getStamps(bundleLocation);
+		if (stamps == null || !Arrays.equals(stamps, entry.stamps()))
+			return null;
+		current.put(location, entry);
+		return new Hashtable<>((Hashtable<String, String>) entry.manifest());
+	}
+
+	/**
+	 * Records the manifest read from the given bundle, unless the bundle has no
+	 * manifest file to check it against later
+	 */
+	public void put(File bundleLocation, Dictionary<String, String> manifest) {
+		long[] stamps = getStamps(bundleLocation);
+		if (stamps == null)
+			return;
+		current.put(bundleLocation.getAbsolutePath(), new Entry(stamps, new Hashtable<>((Hashtable<String, String>) manifest)));
+		modified = true;
+	}
+
+	/**
+	 * Returns the size and time stamp of each file the manifest of the given
+	 * bundle is read from, -1 for an optional file that does not exist, or
+	 * <code>null</code> if the jar or the manifest file does not exist.
+	 */
+	private static long[] getStamps(File bundleLocation) {
+		File[] inputs;
+		if (bundleLocation.isDirectory())
+			inputs = new File[] {new File(bundleLocation, JarFile.MANIFEST_NAME), new File(bundleLocation, IPDEBuildConstants.PROPERTIES_FILE)};
+		else
+			inputs = new File[] {bundleLocation};
+		if (!inputs[0].isFile())
+			return null;
+		long[] stamps = new long[inputs.length * 2];
+		for (int i = 0; i < inputs.length; i++) {
+			boolean exists = inputs[i].isFile();
+			stamps[2 * i] = exists ? inputs[i].length() : -1;
+			stamps[2 * i + 1] = exists ? inputs[i].lastModified() : -1;
+		}
+		return stamps;
+	}
+
+	/**
+	 * Writes the manifests of all the bundles added since this snapshot was
+	 * read, unless they are exactly the ones of the snapshot.
+	 */
+	public void write() throws CoreException {
+		if (!modified && current.size() == previous.size())
+			return;
+		try {
+			File folder = file.getAbsoluteFile().getParentFile();
+			folder.mkdirs();
+			File temp = File.createTempFile(file.getName(), null, folder);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					out.writeInt(MAGIC);
+					out.writeShort(VERSION);
+					out.writeInt(current.size());
+					for (Map.Entry<String, Entry> bundle : current.entrySet()) {
+						Entry entry = bundle.getValue();
+						out.writeUTF(bundle.getKey());
+						out.writeInt(entry.stamps().length);
+						for (long stamp : entry.stamps()) {
+							out.writeLong(stamp);
+						}
+						out.writeInt(entry.manifest().size());
+						for (Enumeration<String> keys = entry.manifest().keys(); keys.hasMoreElements();) {
+							String key = keys.nextElement();
+							out.writeUTF(key);
+							writeString(out, entry.manifest().get(key));
+						}
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				temp.delete();
+			}
+		} catch (IOException e) {
+			file.delete();
+			String message = NLS.bind(Messages.exception_writingFile, file);
+			throw new CoreException(new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, IPDEBuildConstants.EXCEPTION_WRITING_FILE, message, e));
+		}
+	}
+
+	/**
+	 * Reads a string that may exceed the length supported by {@link DataInputStream#readUTF()}
+	 */
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -89,6 +89,16 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private final Set<Dictionary<String, String>> convertedManifests;
 	private long lastSortingDate = 0L;
 	private String[] eeSources;
+	private ManifestSnapshot manifestSnapshot;
+
+	/**
+	 * Sets the snapshot the manifests of the bundles added to this state, with
+	 * their qualifier, are taken from and recorded in, <code>null</code> to
+	 * always read them from disk
+	 */
+	void setManifestSnapshot(ManifestSnapshot snapshot) {
+		this.manifestSnapshot = snapshot;
+	}
 
 	protected long getNextId() {
 		return ++id;
@@ -252,7 +262,10 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
+		Dictionary<String, String> manifest = manifestSnapshot != null ? manifestSnapshot.get(bundleLocation) : null;
+		if (manifest != null)
+			return addBundle(manifest, bundleLocation);
+
 		manifest = loadManifest(bundleLocation);
 		if (manifest == null) {
 			return addFlexibleRoot(bundleLocation);
@@ -262,6 +275,8 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		} catch (BundleException e) {
 			//should not happen since we know the header
 		}
+		if (manifestSnapshot != null)
+			manifestSnapshot.put(bundleLocation, manifest);
 		return addBundle(manifest, bundleLocation);
 	}
 
@@ -622,7 +637,13 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private static Collection<String> querySystemPackages(IVMInstall vm, IExecutionEnvironment environment) {
 		try {
 			String release = environment != null ? environment.getProfileProperties().getProperty(JavaCore.COMPILER_COMPLIANCE) : null;
-			return JavaRuntime.getProvidedVMPackages(vm, release);
+			SystemPackagesCache cache = SystemPackagesCache.getDefault();
+			Collection<String> systemPackages = cache.get(vm, release);
+			if (systemPackages == null) {
+				systemPackages = JavaRuntime.getProvidedVMPackages(vm, release);
+				cache.put(vm, release, systemPackages);
+			}
+			return systemPackages;
 		} catch (CoreException e) {
 			ILog.of(PDEState.class).log(Status.error("Failed to read system packages for " + environment, e)); //$NON-NLS-1$
 		}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.pde.internal.build.BundleHelper;
+
+/**
+ * Persistent cache of the packages provided by the installed VMs.
+ * <p>
+ * Computing the system packages of a VM means reading its class library, the
+ * whole module image of a modular JDK. The packages are therefore stored in the
+ * state location of this bundle, keyed by the install location of the VM, the
+ * size and time stamp of its <code>release</code> file and the requested
+ * release, so that subsequent builds never introspect an unchanged VM again.
+ * VMs without a <code>release</code> file are only cached in memory. If there
+ * is no state location, the cache is not persisted.
+ * </p>
+ * <p>
+ * Concurrent builds share the cache file. Each one merges its packages with
+ * the ones stored by the others while holding a lock on the cache, and
+ * replaces the file atomically.
+ * </p>
+ */
+public class SystemPackagesCache {
+	private static final String CACHE_FILE = "systemPackages.properties"; //$NON-NLS-1$
+	private static final String LOCK_FILE = ".lock"; //$NON-NLS-1$
+	private static final String RELEASE_FILE = "release"; //$NON-NLS-1$
+	private static final Pattern COMMA = Pattern.compile(","); //$NON-NLS-1$
+
+	private static SystemPackagesCache defaultCache;
+
+	private final File cacheFile;
+	private Properties packages;
+	private final Properties transientPackages = new Properties();
+
+	/**
+	 * Creates a cache stored in the given file
+	 *
+	 * @param cacheFile the file or <code>null</code> to keep the cache in memory
+	 */
+	public SystemPackagesCache(File cacheFile) {
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Returns the cache stored in the state location of this bundle
+	 */
+	static synchronized SystemPackagesCache getDefault() {
+		if (defaultCache == null) {
+			File file = null;
+			try {
+				file = BundleHelper.getDefault().getStateLocation().append(CACHE_FILE).toFile();
+			} catch (RuntimeException e) {
+				//no state location, keep the cache in memory
+			}
+			defaultCache = new SystemPackagesCache(file);
+		}
+		return defaultCache;
+	}
+
+	/**
+	 * Returns the cached system packages of the given VM for the given release
+	 *
+	 * @return the packages or <code>null</code> if they are not cached
+	 */
+	Collection<String> get(IVMInstall vm, String release) {
+		return get(vm.getInstallLocation(), JavaRuntime.isModularJava(vm), release);
+	}
+
+	/**
+	 * Records the system packages of the given VM for the given release
+	 */
+	void put(IVMInstall vm, String release, Collection<String> systemPackages) {
+		put(vm.getInstallLocation(), JavaRuntime.isModularJava(vm), release, systemPackages);
+	}
+
+	/**
+	 * Returns the cached system packages of the VM installed at the given
+	 * location for the given release
+	 *
+	 * @param location the install location of the VM
+	 * @param modular whether the VM is modular, the release is ignored otherwise
+	 * @param release the release or <code>null</code>
+	 * @return the packages or <code>null</code> if they are not cached
+	 */
+	public synchronized Collection<String> get(File location, boolean modular, String release) {
+		String key = getKey(location, modular, release);
+		if (key == null)
+			return null;
+		String value = (hasReleaseFile(location) ? getPackages() : transientPackages).getProperty(key);
+		if (value == null)
+			return null;
+		return value.isEmpty() ? List.of() : COMMA.splitAsStream(value).toList();
+	}
+
+	/**
+	 * Records the system packages of the VM installed at the given location for
+	 * the given release
+	 *
+	 * @param location the install location of the VM
+	 * @param modular whether the VM is modular, the release is ignored otherwise
+	 * @param release the release or <code>null</code>
+	 * @param systemPackages the packages provided by the VM
+	 */
+	public synchronized void put(File location, boolean modular, String release, Collection<String> systemPackages) {
+		String key = getKey(location, modular, release);
+		if (key == null)
+			return;
+		String value = String.join(",", systemPackages); //$NON-NLS-1$
+		if (!hasReleaseFile(location)) {
+			transientPackages.setProperty(key, value);
+			return;
+		}
+		Properties persisted = getPackages();
+		if (cacheFile != null) {
+			try {
+				persisted = save(location, key, value);
+			} catch (IOException e) {
+				//the packages are computed again by the next build
+			}
+		}
+		removeReplaced(persisted, location, key);
+		persisted.setProperty(key, value);
+		packages = persisted;
+	}
+
+	private static boolean hasReleaseFile(File location) {
+		return location != null && new File(location, RELEASE_FILE).isFile();
+	}
+
+	private static String getKey(File location, boolean modular, String release) {
+		if (location == null)
+			return null;
+		File releaseFile = new File(location, RELEASE_FILE);
+		//the packages of a non-modular VM do not depend on the release
+		String normalizedRelease = modular && release != null ? release : ""; //$NON-NLS-1$
+		return location.getAbsolutePath() + '|' + releaseFile.length() + '|' + releaseFile.lastModified() + '|' + normalizedRelease;
+	}
+
+	/**
+	 * Forgets the packages of a VM that has been replaced at the same location
+	 */
+	private static void removeReplaced(Properties properties, File location, String key) {
+		String prefix = location.getAbsolutePath() + '|';
+		String stamp = key.substring(0, key.lastIndexOf('|') + 1);
+		properties.keySet().removeIf(k -> ((String) k).startsWith(prefix) && !((String) k).startsWith(stamp));
+	}
+
+	private Properties getPackages() {
+		if (packages == null)
+			packages = cacheFile != null ? load() : new Properties();
+		return packages;
+	}
+
+	private Properties load() {
+		Properties result = new Properties();
+		if (cacheFile.isFile()) {
+			try (InputStream input = new BufferedInputStream(Files.newInputStream(cacheFile.toPath()))) {
+				result.load(input);
+			} catch (IOException e) {
+				//start with an empty cache
+				result.clear();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the given packages to the ones stored by all builds and returns the
+	 * stored packages
+	 */
+	private Properties save(File location, String key, String value) throws IOException {
+		File folder = cacheFile.getParentFile();
+		folder.mkdirs();
+		File lockFile = new File(folder, CACHE_FILE + LOCK_FILE);
+		try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+			//merge with the packages other builds have stored since this one has read the cache
+			Properties merged = load();
+			removeReplaced(merged, location, key);
+			merged.setProperty(key, value);
+			File temp = File.createTempFile(CACHE_FILE, null, folder);
+			try {
+				try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp.toPath()))) {
+					merged.store(output, null);
+				}
+				Files.move(temp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				temp.delete();
+			}
+			return merged;
+		}
+	}
+}
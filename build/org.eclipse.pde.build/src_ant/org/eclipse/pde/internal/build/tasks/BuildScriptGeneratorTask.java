@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,6 +131,22 @@ public class BuildScriptGeneratorTask extends Task {
 		if (Boolean.valueOf(value).booleanValue())
 			properties.put(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES, "true"); //$NON-NLS-1$
 
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT, value);
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_STATE_SNAPSHOT);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_STATE_SNAPSHOT, value);
+
 		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_P2_GATHERING);
 		if (Boolean.valueOf(value).booleanValue())
 			properties.put(IBuildPropertiesConstants.PROPERTY_P2_GATHERING, "true"); //$NON-NLS-1$ 
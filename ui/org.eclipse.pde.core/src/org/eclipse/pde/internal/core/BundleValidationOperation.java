@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -36,9 +43,24 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * The state of the last validation, reused by the next validation with the
+	 * same platform properties
+	 *
+	 * @param state the resolved state
+	 * @param bundles the copies in the state of the validated bundles
+	 * @param properties the platform properties of the state
+	 */
+	private record ValidationState(State state, Map<BundleDescription, BundleDescription> bundles,
+			List<Map<String, Object>> properties) {
+	}
+
+	private static ValidationState fLastValidation;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
-	private State fState;
+	private Map<Object, Object[]> fErrors;
+	private Set<String> fSymbolicNames;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -56,28 +78,128 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
+		Set<BundleDescription> bundles = Collections.newSetFromMap(new IdentityHashMap<>());
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				bundles.add(bundle);
 			}
-			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
+		List<Map<String, Object>> properties = toMaps(fProperties);
+		synchronized (BundleValidationOperation.class) {
+			ValidationState last = fLastValidation;
+			if (last == null || !last.properties().equals(properties) || !update(last, bundles, subMonitor)) {
+				last = createState(bundles, properties, subMonitor);
+				fLastValidation = last;
+			}
+			// the state is modified by the next validation, keep a snapshot of the results
+			State state = last.state();
+			fErrors = Collections.unmodifiableMap(computeResolverErrors(state));
+			Set<String> symbolicNames = new HashSet<>();
+			for (BundleDescription bundle : state.getBundles()) {
+				symbolicNames.add(bundle.getSymbolicName());
+			}
+			fSymbolicNames = Collections.unmodifiableSet(symbolicNames);
+		}
 		subMonitor.split(1);
 	}
 
-	public Map<Object, Object[]> getResolverErrors() {
+	/**
+	 * Forgets the state of the last validation, called when the target
+	 * platform is reloaded
+	 */
+	public static synchronized void targetReloaded() {
+		fLastValidation = null;
+	}
+
+	private ValidationState createState(Set<BundleDescription> bundles, List<Map<String, Object>> properties,
+			SubMonitor subMonitor) {
+		State state = FACTORY.createState(true);
+		Map<BundleDescription, BundleDescription> copies = new IdentityHashMap<>();
+		for (BundleDescription bundle : bundles) {
+			BundleDescription copy = FACTORY.createBundleDescription(bundle);
+			state.addBundle(copy);
+			copies.put(bundle, copy);
+			subMonitor.split(1);
+		}
+		state.setPlatformProperties(fProperties);
+		state.resolve(false);
+		return new ValidationState(state, copies, properties);
+	}
+
+	/**
+	 * Brings the state of the last validation up to date with the given
+	 * bundles. Removed bundles are taken out of the state, added or modified
+	 * bundles are added and resolved together with the bundles of the same
+	 * name. As only unresolved bundles and duplicate singletons are reported,
+	 * this yields the same problems as resolving the whole state again.
+	 *
+	 * @return <code>false</code> if the state could not be updated, it must be
+	 *         created again then
+	 */
+	private boolean update(ValidationState last, Set<BundleDescription> bundles, SubMonitor subMonitor) {
+		Map<BundleDescription, BundleDescription> copies = last.bundles();
+		List<BundleDescription> added = new ArrayList<>();
+		for (BundleDescription bundle : bundles) {
+			if (!copies.containsKey(bundle)) {
+				added.add(bundle);
+			}
+		}
+		int removed = copies.size() - (bundles.size() - added.size());
+		if (added.size() + removed > bundles.size() / 2) {
+			return false;
+		}
+		subMonitor.split(fModels.size());
+		if (added.isEmpty() && removed == 0) {
+			return true;
+		}
+		State state = last.state();
+		for (Iterator<Entry<BundleDescription, BundleDescription>> it = copies.entrySet().iterator(); it.hasNext();) {
+			Entry<BundleDescription, BundleDescription> entry = it.next();
+			if (!bundles.contains(entry.getKey())) {
+				state.removeBundle(entry.getValue());
+				it.remove();
+			}
+		}
+		Map<Long, BundleDescription> reResolve = new HashMap<>();
+		for (BundleDescription bundle : added) {
+			BundleDescription copy = FACTORY.createBundleDescription(bundle);
+			if (!state.addBundle(copy)) {
+				return false;
+			}
+			copies.put(bundle, copy);
+			reResolve.put(copy.getBundleId(), copy);
+			if (copy.getSymbolicName() != null) {
+				for (BundleDescription sameName : state.getBundles(copy.getSymbolicName())) {
+					reResolve.put(sameName.getBundleId(), sameName);
+				}
+			}
+		}
+		state.resolve(reResolve.values().toArray(new BundleDescription[reResolve.size()]));
+		return true;
+	}
+
+	private static List<Map<String, Object>> toMaps(Dictionary<String, ?>[] dictionaries) {
+		List<Map<String, Object>> maps = new ArrayList<>(dictionaries.length);
+		for (Dictionary<String, ?> dictionary : dictionaries) {
+			Map<String, Object> map = new HashMap<>();
+			for (String key : Collections.list(dictionary.keys())) {
+				map.put(key, dictionary.get(key));
+			}
+			maps.add(map);
+		}
+		return maps;
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,26 +214,30 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
-	public State getState() {
-		return fState;
+	/**
+	 * Returns the unresolved bundles and duplicate singletons of the validated
+	 * bundles mapped to their problems. The returned map may be modified.
+	 */
+	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fErrors);
+	}
+
+	/**
+	 * Returns whether a bundle with the given symbolic name was validated
+	 */
+	public boolean containsBundle(String symbolicName) {
+		return fSymbolicNames.contains(symbolicName);
+	}
+
+	/**
+	 * Returns whether no bundle was validated
+	 */
+	public boolean isEmpty() {
+		return fSymbolicNames.isEmpty();
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
-			for (BundleDescription bundle : bundles) {
-				if (!bundle.isResolved()) {
-					return true;
-				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
-					if (dups.length > 1) {
-						// more than one singleton
-						return true;
-					}
-				}
-			}
-		}
-		return false;
+		return !fErrors.isEmpty();
 	}
 
 }
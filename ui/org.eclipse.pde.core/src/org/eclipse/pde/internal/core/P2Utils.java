@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,12 +25,16 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.StringTokenizer;
 import java.util.stream.Collectors;
 
@@ -291,14 +296,19 @@ public class P2Utils {
 		File bundlesTxt = new File(directory, SimpleConfiguratorManipulator.BUNDLES_INFO_PATH);
 		File srcBundlesTxt = new File(directory, SimpleConfiguratorManipulator.SOURCE_INFO_PATH);
 
-		BundleInfo[] infos = bundleInfo.toArray(new BundleInfo[bundleInfo.size()]);
-		BundleInfo[] sources = sourceInfo.toArray(new BundleInfo[sourceInfo.size()]);
+		// a stable order keeps the files identical as long as the same bundles are launched
+		Comparator<String> nullsFirst = Comparator.nullsFirst(Comparator.naturalOrder());
+		Comparator<BundleInfo> order = Comparator.comparing(BundleInfo::getSymbolicName, nullsFirst)
+				.thenComparing(BundleInfo::getVersion, nullsFirst)
+				.thenComparing(BundleInfo::getLocation, Comparator.nullsFirst(Comparator.naturalOrder()));
+		BundleInfo[] infos = bundleInfo.stream().sorted(order).toArray(BundleInfo[]::new);
+		BundleInfo[] sources = sourceInfo.stream().sorted(order).toArray(BundleInfo[]::new);
 
 		SimpleConfiguratorManipulator manipulator = BundleHelper.getDefault()
 				.acquireService(SimpleConfiguratorManipulator.class);
 		try {
-			manipulator.saveConfiguration(infos, bundlesTxt, null);
-			manipulator.saveConfiguration(sources, srcBundlesTxt, null);
+			saveConfiguration(manipulator, infos, bundlesTxt);
+			saveConfiguration(manipulator, sources, srcBundlesTxt);
 		} catch (IOException e) {
 			PDECore.logException(e);
 			return null;
@@ -315,6 +325,24 @@ public class P2Utils {
 		}
 	}
 
+	/**
+	 * Saves the given bundles to the given file unless it already contains
+	 * exactly these bundles. The simple configurator reconciles the installed
+	 * bundles with the file whenever it has been modified, which an unchanged
+	 * file avoids on relaunch.
+	 */
+	private static void saveConfiguration(SimpleConfiguratorManipulator manipulator, BundleInfo[] infos, File file)
+			throws IOException {
+		if (file.isFile()) {
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+			manipulator.saveConfiguration(infos, content, null);
+			if (Arrays.equals(content.toByteArray(), Files.readAllBytes(file.toPath()))) {
+				return;
+			}
+		}
+		manipulator.saveConfiguration(infos, file, null);
+	}
+
 	/**
 	 * Returns whether a profile with the given ID exists in a profile registry
 	 * stored in the give p2 data area.
@@ -350,7 +378,8 @@ public class P2Utils {
 	 *
 	 * @param profileID
 	 *            the ID to be used when creating the profile, if a profile with
-	 *            the same name exists, it will be overwritten
+	 *            the same name exists, it will be updated to contain exactly the
+	 *            given metadata
 	 * @param p2DataArea
 	 *            the directory which contains p2 data including the profile
 	 *            registry, if the directory path doesn't exist it will be
@@ -375,7 +404,8 @@ public class P2Utils {
 	 *
 	 * @param profileID
 	 *            the ID to be used when creating the profile, if a profile with
-	 *            the same name exists, it will be overwritten
+	 *            the same name exists, it will be updated to contain exactly the
+	 *            given metadata
 	 * @param p2DataArea
 	 *            the directory which contains p2 data including the profile
 	 *            registry, if the directory path doesn't exist it will be
@@ -414,9 +444,6 @@ public class P2Utils {
 			throw new CoreException(Status.error(PDECoreMessages.P2Utils_UnableToAcquireP2Service));
 		}
 
-		// Delete any previous profiles with the same ID
-		registry.removeProfile(profileID);
-
 		Map<String, String> props = new HashMap<>();
 //		props.setProperty(IProfile.PROP_INSTALL_FOLDER, registryArea.getAbsolutePath());
 		props.put(IProfile.PROP_INSTALL_FEATURES, Boolean.TRUE.toString());
@@ -424,20 +451,14 @@ public class P2Utils {
 		props.put(IProfile.PROP_ENVIRONMENTS, generateEnvironmentProperties());
 		props.put(IProfile.PROP_NL, TargetPlatform.getNL());
 
-		// Create the profile
-		IProfile profile = registry.addProfile(profileID, props);
-
 		// Create metadata for the bundles
 		Collection<IInstallableUnit> ius = bundles.stream().flatMap(Collection::stream)
 				.map(IPluginModelBase::getBundleDescription).map(P2Utils::createBundleIU) //
 				.collect(Collectors.toList());
 
-		// Add the metadata to the profile
-		ProvisioningContext context = new ProvisioningContext(agent);
-		IProvisioningPlan plan = engine.createPlan(profile, context);
+		ProfileContent content = new ProfileContent();
 		for (final IInstallableUnit iu : ius) {
-			plan.addInstallableUnit(iu);
-			plan.setInstallableUnitProfileProperty(iu, "org.eclipse.equinox.p2.internal.inclusion.rules", ProfileInclusionRules.createOptionalInclusionRule(iu)); //$NON-NLS-1$
+			content.setProperty(iu, "org.eclipse.equinox.p2.internal.inclusion.rules", ProfileInclusionRules.createOptionalInclusionRule(iu)); //$NON-NLS-1$
 		}
 		if (featureMap != null && !featureMap.isEmpty()) {
 			Map<String, List<IPluginBase>> plugins = bundles.stream().flatMap(Collection::stream)
@@ -446,7 +467,7 @@ public class P2Utils {
 			Map<String, List<IFeature>> features = featureMap.keySet().stream()
 					.collect(Collectors.groupingBy(IFeature::getId));
 			for (Entry<IFeature, Boolean> featureEntry : featureMap.entrySet()) {
-				createFeatureIUs(featureEntry.getKey(), featureEntry.getValue(), plan, plugins, features);
+				createFeatureIUs(featureEntry.getKey(), featureEntry.getValue(), content, plugins, features);
 			}
 		}
 		if (productInfo != null) {
@@ -599,9 +620,24 @@ public class P2Utils {
 			}, P2_FLAVOR_DEFAULT, null);
 			PublisherResult results = new PublisherResult();
 			productAction.perform(new PublisherInfo(), results, null);
-			results.query(QueryUtil.ALL_UNITS, null).forEach(plan::addInstallableUnit);
+			results.query(QueryUtil.ALL_UNITS, null).forEach(content::add);
+		}
+
+		// Reuse the profile of a previous launch with the same environment, replacing it otherwise
+		IProfile profile = registry.getProfile(profileID);
+		if (profile == null || !hasProperties(profile, props)) {
+			registry.removeProfile(profileID);
+			profile = registry.addProfile(profileID, props);
 		}
-		IPhaseSet phaseSet = PhaseSetFactory.createDefaultPhaseSetExcluding(new String[] {PhaseSetFactory.PHASE_CHECK_TRUST, PhaseSetFactory.PHASE_COLLECT, PhaseSetFactory.PHASE_CONFIGURE, PhaseSetFactory.PHASE_UNCONFIGURE, PhaseSetFactory.PHASE_UNINSTALL});
+
+		// Only apply the differences to the metadata in the profile
+		ProvisioningContext context = new ProvisioningContext(agent);
+		IProvisioningPlan plan = engine.createPlan(profile, context);
+		if (!addChanges(profile, content, plan)) {
+			return;
+		}
+		// the uninstall phase removes the units from the profile, the units themselves have no actions
+		IPhaseSet phaseSet = PhaseSetFactory.createDefaultPhaseSetExcluding(new String[] {PhaseSetFactory.PHASE_CHECK_TRUST, PhaseSetFactory.PHASE_COLLECT, PhaseSetFactory.PHASE_CONFIGURE, PhaseSetFactory.PHASE_UNCONFIGURE});
 		IStatus status = engine.perform(plan, phaseSet, new NullProgressMonitor());
 
 		if (!status.isOK() && status.getSeverity() != IStatus.CANCEL) {
@@ -610,6 +646,85 @@ public class P2Utils {
 
 	}
 
+	/**
+	 * The installable units of a profile and their profile properties
+	 */
+	private record ProfileContent(Map<IInstallableUnit, Map<String, String>> units) {
+		ProfileContent() {
+			this(new LinkedHashMap<>());
+		}
+
+		void add(IInstallableUnit iu) {
+			units.computeIfAbsent(iu, u -> new HashMap<>());
+		}
+
+		void setProperty(IInstallableUnit iu, String key, String value) {
+			units.computeIfAbsent(iu, u -> new HashMap<>()).put(key, value);
+		}
+	}
+
+	private static boolean hasProperties(IProfile profile, Map<String, String> properties) {
+		return properties.entrySet().stream()
+				.allMatch(property -> property.getValue().equals(profile.getProperty(property.getKey())));
+	}
+
+	/**
+	 * Adds the operations turning the units of the given profile into the given
+	 * content to the given plan.
+	 *
+	 * @return whether the profile differs from the content
+	 */
+	private static boolean addChanges(IProfile profile, ProfileContent content, IProvisioningPlan plan) {
+		Map<IInstallableUnit, IInstallableUnit> installed = new HashMap<>();
+		profile.query(QueryUtil.createIUAnyQuery(), null).forEach(iu -> installed.put(iu, iu));
+		boolean changed = false;
+		for (Entry<IInstallableUnit, Map<String, String>> unit : content.units().entrySet()) {
+			IInstallableUnit iu = unit.getKey();
+			IInstallableUnit existing = installed.remove(iu);
+			if (existing == null) {
+				plan.addInstallableUnit(iu);
+			} else if (!hasSameContent(existing, iu)) {
+				plan.updateInstallableUnit(existing, iu);
+			} else {
+				for (Entry<String, String> property : unit.getValue().entrySet()) {
+					if (!property.getValue().equals(profile.getInstallableUnitProperty(existing, property.getKey()))) {
+						plan.setInstallableUnitProfileProperty(existing, property.getKey(), property.getValue());
+						changed = true;
+					}
+				}
+				for (String key : profile.getInstallableUnitProperties(existing).keySet()) {
+					if (!unit.getValue().containsKey(key)) {
+						// a null value removes the property
+						plan.setInstallableUnitProfileProperty(existing, key, null);
+						changed = true;
+					}
+				}
+				continue;
+			}
+			unit.getValue().forEach((key, value) -> plan.setInstallableUnitProfileProperty(iu, key, value));
+			changed = true;
+		}
+		for (IInstallableUnit obsolete : installed.keySet()) {
+			plan.removeInstallableUnit(obsolete);
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns whether the given units with the same id and version also describe
+	 * the same metadata
+	 */
+	private static boolean hasSameContent(IInstallableUnit iu1, IInstallableUnit iu2) {
+		return Objects.equals(iu1.getFilter(), iu2.getFilter()) //
+				&& iu1.getProperties().equals(iu2.getProperties()) //
+				&& Objects.equals(iu1.getTouchpointType(), iu2.getTouchpointType()) //
+				&& new HashSet<>(iu1.getRequirements()).equals(new HashSet<>(iu2.getRequirements()))
+				&& new HashSet<>(iu1.getProvidedCapabilities()).equals(new HashSet<>(iu2.getProvidedCapabilities()))
+				&& new HashSet<>(iu1.getArtifacts()).equals(new HashSet<>(iu2.getArtifacts()))
+				&& new HashSet<>(iu1.getTouchpointData()).equals(new HashSet<>(iu2.getTouchpointData()));
+	}
+
 	/**
 	 * Generates the environment properties string for the self hosting p2 profile by looking up the current target platform properties.
 	 *
@@ -628,7 +743,7 @@ public class P2Utils {
 		return env.toString();
 	}
 
-	private static void createFeatureIUs(IFeature feature, boolean root, IProvisioningPlan plan,
+	private static void createFeatureIUs(IFeature feature, boolean root, ProfileContent content,
 			Map<String, List<IPluginBase>> plugins, Map<String, List<IFeature>> features) {
 		// see
 		// org.eclipse.equinox.p2.publisher.eclipse.FeaturesAction.createGroupIU(Feature,
@@ -709,9 +824,9 @@ public class P2Utils {
 						iu.getVersion()));
 		iu.setCapabilities(providedCapabilities.toArray(IProvidedCapability[]::new));
 		IInstallableUnit unit = MetadataFactory.createInstallableUnit(iu);
-		plan.addInstallableUnit(unit);
+		content.add(unit);
 		if (root) {
-			plan.setInstallableUnitProfileProperty(unit, IProfile.PROP_PROFILE_ROOT_IU, Boolean.TRUE.toString());
+			content.setProperty(unit, IProfile.PROP_PROFILE_ROOT_IU, Boolean.TRUE.toString());
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -610,6 +610,7 @@ public class PluginModelManager implements IModelProviderListener {
 		fEntries = entries;
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		BundleValidationOperation.targetReloaded();
 		if (oldState != null) {
 			// Need to update classpath entries
 			updateAffectedEntries(null);
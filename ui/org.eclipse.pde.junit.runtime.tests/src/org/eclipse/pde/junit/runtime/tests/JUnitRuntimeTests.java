@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2019 Julian Honnen
+ *  Copyright (c) 2019, 2026 Julian Honnen
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,8 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ JUnitExecutionTest.class, JUnit5SuiteExecutionTest.class })
+@SuiteClasses({ JUnitExecutionTest.class, JUnit5SuiteExecutionTest.class, MultiBundleClassLoaderTest.class,
+		WorkspaceBundleRefresherTest.class })
 public class JUnitRuntimeTests {
 
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.internal.junit.runtime.MultiBundleClassLoader;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+
+/**
+ * Tests the order in which the class loader of the test engines asks its
+ * bundles for classes
+ */
+public class MultiBundleClassLoaderTest {
+
+	private final List<String> lookups = new ArrayList<>();
+
+	@Test
+	public void testSplitPackageLoadedInBundleOrder() throws Exception {
+		// both bundles contribute to package p, the first one wins
+		Bundle first = createBundle("first", Map.of("p.Shared", String.class, "p.OnlyFirst", Long.class));
+		Bundle second = createBundle("second", Map.of("p.Shared", Integer.class, "p.OnlySecond", Short.class));
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(List.of(first, second));
+
+		assertSame(Short.class, loader.loadClass("p.OnlySecond"));
+		assertEquals(List.of("first:p.OnlySecond", "second:p.OnlySecond"), lookups);
+		// the bundle that provided a class of the package is not preferred for the others
+		assertSame(String.class, loader.loadClass("p.Shared"));
+		assertSame(Long.class, loader.loadClass("p.OnlyFirst"));
+		assertEquals(List.of("first:p.OnlySecond", "second:p.OnlySecond", "first:p.Shared", "first:p.OnlyFirst"), lookups);
+	}
+
+	@Test
+	public void testLookupsRemembered() throws Exception {
+		Bundle first = createBundle("first", Map.of("p.A", String.class));
+		Bundle second = createBundle("second", Map.of("q.B", Integer.class));
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(List.of(first, second));
+
+		assertSame(Integer.class, loader.loadClass("q.B"));
+		assertThrows(ClassNotFoundException.class, () -> loader.loadClass("p.Missing"));
+		lookups.clear();
+
+		assertSame(Integer.class, loader.loadClass("q.B"));
+		assertThrows(ClassNotFoundException.class, () -> loader.loadClass("p.Missing"));
+		assertEquals("Found and missing classes should not be looked up again", List.of(), lookups);
+	}
+
+	/**
+	 * Returns a bundle with the given name providing the given classes, which
+	 * records the classes it is asked for
+	 */
+	private Bundle createBundle(String name, Map<String, Class<?>> classes) {
+		return (Bundle) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Bundle.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "loadClass":
+							lookups.add(name + ':' + args[0]);
+							Class<?> c = classes.get(args[0]);
+							if (c == null) {
+								throw new ClassNotFoundException((String) args[0]);
+							}
+							return c;
+						case "getResource":
+						case "getResources":
+							return null;
+						case "toString":
+							return name;
+						default:
+							throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+}
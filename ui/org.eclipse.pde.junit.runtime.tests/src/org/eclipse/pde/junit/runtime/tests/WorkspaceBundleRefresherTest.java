@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.pde.internal.junit.runtime.WorkspaceBundleRefresher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.Version;
+
+/**
+ * Tests that the workspace bundles of a test runtime kept alive between runs
+ * are updated, and that failed updates are reported and retried
+ */
+public class WorkspaceBundleRefresherTest {
+
+	private static final String SYMBOLIC_NAME = "refresher.test.bundle";
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<String> failures = new ArrayList<>();
+	private Path location;
+	private Bundle bundle;
+	private WorkspaceBundleRefresher refresher;
+
+	@Before
+	public void setUp() throws Exception {
+		location = folder.newFolder("bundle").toPath();
+		Files.createDirectories(location.resolve("bin"));
+		writeManifest("Bundle-SymbolicName: " + SYMBOLIC_NAME + "\nBundle-Version: 1.0.0\n");
+		BundleContext context = FrameworkUtil.getBundle(getClass()).getBundleContext();
+		bundle = context.installBundle("reference:" + location.toUri());
+		Properties devProperties = new Properties();
+		devProperties.setProperty(SYMBOLIC_NAME, "bin");
+		refresher = new WorkspaceBundleRefresher(context, devProperties, (message, e) -> failures.add(message));
+		assertFalse("The first run should only record the bundles", refresher.refreshChangedBundles());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		bundle.uninstall();
+	}
+
+	@Test
+	public void testChangedBundleUpdated() throws Exception {
+		assertFalse("Unchanged bundles should not be refreshed", refresher.refreshChangedBundles());
+
+		writeManifest("Bundle-SymbolicName: " + SYMBOLIC_NAME + "\nBundle-Version: 1.0.1\n");
+		assertTrue("The changed bundle should be refreshed", refresher.refreshChangedBundles());
+		assertEquals(new Version(1, 0, 1), bundle.getVersion());
+		assertEquals(List.of(), failures);
+
+		assertFalse("The updated bundle should not be refreshed again", refresher.refreshChangedBundles());
+	}
+
+	@Test
+	public void testRemovedAndRestoredClassFilesSeen() throws Exception {
+		Path classes = Files.createDirectories(location.resolve("bin/a"));
+		Path classFile = classes.resolve("B.class");
+		long old = System.currentTimeMillis() - 60_000;
+		writeClassFile(classes.resolve("A.class"), old);
+		writeClassFile(classFile, old);
+		assertTrue("Added class files should be seen", refresher.refreshChangedBundles());
+		assertFalse(refresher.refreshChangedBundles());
+
+		// the times of the folders don't reveal the removal either
+		long folderTime = classes.toFile().lastModified();
+		Files.delete(classFile);
+		classes.toFile().setLastModified(folderTime);
+		assertTrue("A removed class file should be seen", refresher.refreshChangedBundles());
+
+		writeClassFile(classFile, old - 60_000);
+		classes.toFile().setLastModified(folderTime);
+		assertTrue("A class file restored with an older time should be seen", refresher.refreshChangedBundles());
+		assertFalse(refresher.refreshChangedBundles());
+		assertEquals(List.of(), failures);
+	}
+
+	@Test
+	public void testFailedUpdateReportedAndRetried() throws Exception {
+		// a manifest of version 2 without symbolic name cannot be installed
+		writeManifest("Bundle-Version: 1.0.1\n");
+		assertFalse("No bundle should be refreshed", refresher.refreshChangedBundles());
+		assertEquals(List.of("Failed to update bundle " + SYMBOLIC_NAME), failures);
+		assertEquals(new Version(1, 0, 0), bundle.getVersion());
+
+		assertFalse(refresher.refreshChangedBundles());
+		assertEquals("The failed update should be retried", 2, failures.size());
+
+		writeManifest("Bundle-SymbolicName: " + SYMBOLIC_NAME + "\nBundle-Version: 1.0.2\n");
+		assertTrue("The fixed bundle should be refreshed", refresher.refreshChangedBundles());
+		assertEquals(new Version(1, 0, 2), bundle.getVersion());
+		assertEquals(2, failures.size());
+	}
+
+	/**
+	 * Writes the manifest of the test bundle with the given headers, so that
+	 * its stamp differs from the previous one
+	 */
+	private void writeManifest(String headers) throws Exception {
+		File manifest = location.resolve("META-INF/MANIFEST.MF").toFile();
+		long previous = manifest.lastModified();
+		Files.createDirectories(manifest.toPath().getParent());
+		Files.writeString(manifest.toPath(), "Manifest-Version: 1.0\nBundle-ManifestVersion: 2\n" + headers);
+		manifest.setLastModified(Math.max(System.currentTimeMillis(), previous + 1000));
+	}
+
+	private static void writeClassFile(Path file, long lastModified) throws Exception {
+		Files.write(file, new byte[0]);
+		file.toFile().setLastModified(lastModified);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018, 2023 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,13 +19,31 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.osgi.framework.Bundle;
 
-class MultiBundleClassLoader extends ClassLoader {
+/**
+ * Loads classes and resources from a list of bundles, the first bundle
+ * providing a class or resource wins.
+ * <p>
+ * Test engines look up many classes and resources through this loader, most
+ * of which are provided by a single bundle or by none. The loader therefore
+ * remembers the classes and resources it found and the names it did not find
+ * in any bundle.
+ * </p>
+ */
+public class MultiBundleClassLoader extends ClassLoader {
 	private final List<Bundle> bundleList;
 
+	private final Map<String, Class<?>> foundClasses = new ConcurrentHashMap<>();
+	private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+	private final Map<String, Optional<URL>> foundResources = new ConcurrentHashMap<>();
+
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
 		this.bundleList = platformEngineBundles;
@@ -33,31 +51,49 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
-		for (Bundle temp : bundleList) {
-			try {
-				Class<?> c = temp.loadClass(name);
-				if (c != null) {
-					return c;
-				}
-			} catch (ClassNotFoundException e) {
-			}
+		Class<?> c = foundClasses.get(name);
+		if (c != null) {
+			return c;
+		}
+		if (missingClasses.contains(name)) {
+			throw new ClassNotFoundException(name);
+		}
+		for (int i = 0; c == null && i < bundleList.size(); i++) {
+			c = loadClass(bundleList.get(i), name);
+		}
+		if (c == null) {
+			missingClasses.add(name);
+			throw new ClassNotFoundException(name);
+		}
+		foundClasses.put(name, c);
+		return c;
+	}
+
+	private static Class<?> loadClass(Bundle bundle, String name) {
+		try {
+			return bundle.loadClass(name);
+		} catch (ClassNotFoundException e) {
+			return null;
 		}
-		throw new ClassNotFoundException(name);
 	}
 
 	@Override
 	protected URL findResource(String name) {
+		return foundResources.computeIfAbsent(name, this::findBundleResource).orElse(null);
+	}
+
+	private Optional<URL> findBundleResource(String name) {
 		for (Bundle temp : bundleList) {
 			URL url = temp.getResource(name);
 			if (url != null) {
 				try {
-					return FileLocator.resolve(url);
+					return Optional.of(FileLocator.resolve(url));
 				} catch (IOException e) {
-					return null;
+					return Optional.empty();
 				}
 			}
 		}
-		return null;
+		return Optional.empty();
 	}
 
 	@Override
@@ -71,4 +107,4 @@ class MultiBundleClassLoader extends ClassLoader {
 		}
 		return Collections.enumeration(merged);
 	}
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2023 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,8 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 
 	private String fTestPluginName;
 	private ClassLoader fLoaderClassLoader;
+	private WorkspaceBundleRefresher fBundleRefresher;
+	private boolean fJUnit5;
 
 	static class BundleClassLoader extends ClassLoader {
 		private final Bundle bundle;
@@ -72,8 +74,25 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 	 * @see RemoteTestRunner
 	 */
 	public static void main(String[] args) {
+		main(args, false);
+	}
+
+	/**
+	 * Runs the tests. If the runtime is kept alive for reruns and
+	 * <code>refreshWorkspaceBundles</code> is <code>true</code>, the workspace
+	 * bundles changed since the previous run are updated before each rerun.
+	 * This must only be requested by headless test applications, a refresh
+	 * would tear down the bundles of a running workbench.
+	 */
+	@SuppressWarnings("nls")
+	static void main(String[] args, boolean refreshWorkspaceBundles) {
 		RemotePluginTestRunner testRunner = new RemotePluginTestRunner();
 		testRunner.init(args);
+		testRunner.fJUnit5 = isJUnit5(args);
+		if (refreshWorkspaceBundles && indexOf(args, "-keepalive"::equalsIgnoreCase) > -1) {
+			BundleContext bundleContext = FrameworkUtil.getBundle(RemotePluginTestRunner.class).getBundleContext();
+			testRunner.fBundleRefresher = new WorkspaceBundleRefresher(bundleContext, testRunner::runFailed);
+		}
 		ClassLoader currentTCCL = Thread.currentThread().getContextClassLoader();
 		if (isJUnit5(args)) {
 			//change the classloader so that the test classes in testplugin are discoverable
@@ -187,6 +206,20 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		}
 	}
 
+	/**
+	 * Loads the test classes of a run or rerun, after updating the workspace
+	 * bundles changed since the previous run if the runtime is kept alive.
+	 * @see RemoteTestRunner#loadClasses(String[])
+	 */
+	@Override
+	protected Class<?>[] loadClasses(String[] testClassNames) {
+		if (fBundleRefresher != null && fBundleRefresher.refreshChangedBundles() && fJUnit5) {
+			// the test engines must see the refreshed test bundle
+			Thread.currentThread().setContextClassLoader(createJUnit5PluginClassLoader(getTestPluginName()));
+		}
+		return super.loadClasses(testClassNames);
+	}
+
 	@Override
 	protected Class<?> loadTestLoaderClass(String className) throws ClassNotFoundException {
 		return fLoaderClassLoader.loadClass(className);
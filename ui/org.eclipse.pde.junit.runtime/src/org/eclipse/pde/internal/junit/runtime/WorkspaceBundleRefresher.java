@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.junit.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkEvent;
+import org.osgi.framework.FrameworkListener;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+/**
+ * Updates the workspace bundles of a test runtime that is kept alive between
+ * test runs, so that a rerun sees the classes compiled since the previous run.
+ * <p>
+ * Workspace bundles are the bundles installed from a directory that have
+ * entries in the dev.properties file of the launch. A bundle is considered
+ * changed if a file in one of its output folders has been added, removed or
+ * modified, or if its manifest has been modified. Changed bundles are updated and refreshed together with their
+ * dependents through the framework, all other bundles remain untouched.
+ * Bundles that could not be updated or refreshed are reported to the test run
+ * and retried on the next run.
+ * </p>
+ */
+public class WorkspaceBundleRefresher {
+
+	private static final String REFERENCE_PREFIX = "reference:"; //$NON-NLS-1$
+	private static final String FILE_PREFIX = "file:"; //$NON-NLS-1$
+	private static final long REFRESH_TIMEOUT = 60;
+
+	private final BundleContext context;
+	private final Properties devProperties;
+	private final BiConsumer<String, Exception> failureReporter;
+	private Map<Bundle, Long> stamps;
+
+	WorkspaceBundleRefresher(BundleContext context, BiConsumer<String, Exception> failureReporter) {
+		this(context, readDevProperties(), failureReporter);
+	}
+
+	/**
+	 * Creates a refresher for the workspace bundles described by the given
+	 * dev.properties.
+	 *
+	 * @param failureReporter receives the message and cause of a failed update
+	 *            or refresh, the cause may be <code>null</code>
+	 */
+	public WorkspaceBundleRefresher(BundleContext context, Properties devProperties, BiConsumer<String, Exception> failureReporter) {
+		this.context = context;
+		this.devProperties = devProperties;
+		this.failureReporter = failureReporter;
+	}
+
+	/**
+	 * Updates and refreshes the workspace bundles changed since the previous
+	 * invocation. The first invocation only records the state of the
+	 * workspace bundles.
+	 *
+	 * @return <code>true</code> if bundles have been refreshed
+	 */
+	public boolean refreshChangedBundles() {
+		Map<Bundle, Long> current = computeStamps();
+		Map<Bundle, Long> previous = stamps;
+		stamps = current;
+		if (previous == null) {
+			return false;
+		}
+		List<Bundle> changed = new ArrayList<>();
+		current.forEach((bundle, stamp) -> {
+			if (!stamp.equals(previous.get(bundle))) {
+				changed.add(bundle);
+			}
+		});
+		List<Bundle> updated = new ArrayList<>();
+		for (Bundle bundle : changed) {
+			try {
+				bundle.update();
+				updated.add(bundle);
+			} catch (BundleException e) {
+				failureReporter.accept("Failed to update bundle " + bundle.getSymbolicName(), e); //$NON-NLS-1$
+				keepPreviousStamp(bundle, previous);
+			}
+		}
+		if (updated.isEmpty()) {
+			return false;
+		}
+		Set<Bundle> failed = refresh(updated);
+		stamps = computeStamps();
+		for (Bundle bundle : changed) {
+			if (!updated.contains(bundle) || failed.contains(bundle)) {
+				keepPreviousStamp(bundle, previous);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Refreshes the given bundles and their dependents and waits for the
+	 * refresh to complete.
+	 *
+	 * @return the given bundles whose refresh failed or did not complete
+	 */
+	private Set<Bundle> refresh(List<Bundle> bundles) {
+		Set<Bundle> failed = new HashSet<>();
+		CountDownLatch refreshed = new CountDownLatch(1);
+		// errors are published to the framework listeners, not to the listener of the refresh
+		FrameworkListener errorListener = event -> {
+			if (event.getType() == FrameworkEvent.ERROR && bundles.contains(event.getBundle())) {
+				Throwable cause = event.getThrowable();
+				failureReporter.accept("Failed to refresh bundle " + event.getBundle().getSymbolicName(), //$NON-NLS-1$
+						cause == null || cause instanceof Exception ? (Exception) cause : new Exception(cause));
+				synchronized (failed) {
+					failed.add(event.getBundle());
+				}
+			}
+		};
+		context.addFrameworkListener(errorListener);
+		boolean completed = false;
+		try {
+			context.getBundle(Constants.SYSTEM_BUNDLE_ID).adapt(FrameworkWiring.class).refreshBundles(bundles, event -> {
+				if (event.getType() == FrameworkEvent.PACKAGES_REFRESHED) {
+					refreshed.countDown();
+				}
+			});
+			completed = refreshed.await(REFRESH_TIMEOUT, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			context.removeFrameworkListener(errorListener);
+		}
+		synchronized (failed) {
+			if (!completed) {
+				failureReporter.accept("Refreshing the workspace bundles did not complete within " + REFRESH_TIMEOUT + " seconds", null); //$NON-NLS-1$ //$NON-NLS-2$
+				failed.addAll(bundles);
+			}
+			return new HashSet<>(failed);
+		}
+	}
+
+	/**
+	 * Restores the stamp of the given bundle from the given previous stamps,
+	 * so that the bundle is considered changed on the next invocation again
+	 */
+	private void keepPreviousStamp(Bundle bundle, Map<Bundle, Long> previous) {
+		Long stamp = previous.get(bundle);
+		if (stamp == null) {
+			stamps.remove(bundle);
+		} else {
+			stamps.put(bundle, stamp);
+		}
+	}
+
+	private Map<Bundle, Long> computeStamps() {
+		Map<Bundle, Long> result = new HashMap<>();
+		if (devProperties.isEmpty()) {
+			return result;
+		}
+		Bundle self = FrameworkUtil.getBundle(WorkspaceBundleRefresher.class);
+		for (Bundle bundle : context.getBundles()) {
+			if (bundle == self || bundle.getBundleId() == Constants.SYSTEM_BUNDLE_ID || bundle.getSymbolicName() == null) {
+				continue;
+			}
+			String devClasspath = devProperties.getProperty(bundle.getSymbolicName() + ';' + bundle.getVersion(), devProperties.getProperty(bundle.getSymbolicName()));
+			File location = getDirectory(bundle);
+			if (devClasspath == null || devClasspath.isEmpty() || location == null) {
+				continue;
+			}
+			long stamp = new File(location, "META-INF/MANIFEST.MF").lastModified(); //$NON-NLS-1$
+			for (String entry : devClasspath.split(",")) { //$NON-NLS-1$
+				File output = new File(entry.trim());
+				if (!output.isAbsolute()) {
+					output = new File(location, entry.trim());
+				}
+				stamp = 31 * stamp + getStamp(output.toPath());
+			}
+			result.put(bundle, stamp);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a stamp of the names and modification times of the files at or
+	 * below the given output. Unlike the latest modification time, the stamp
+	 * also changes if a file is removed or replaced by an older one.
+	 */
+	private static long getStamp(Path output) {
+		if (!Files.exists(output)) {
+			return 0;
+		}
+		try (Stream<Path> files = Files.walk(output)) {
+			return files.mapToLong(file -> 31L * file.hashCode() + file.toFile().lastModified()).sum();
+		} catch (IOException | RuntimeException e) {
+			return 0;
+		}
+	}
+
+	private static File getDirectory(Bundle bundle) {
+		String location = bundle.getLocation();
+		if (location.startsWith(REFERENCE_PREFIX)) {
+			location = location.substring(REFERENCE_PREFIX.length());
+		}
+		if (!location.startsWith(FILE_PREFIX)) {
+			return null;
+		}
+		File file = new File(location.substring(FILE_PREFIX.length()));
+		return file.isDirectory() ? file : null;
+	}
+
+	private static Properties readDevProperties() {
+		Properties properties = new Properties();
+		String osgiDev = System.getProperty("osgi.dev"); //$NON-NLS-1$
+		if (osgiDev != null) {
+			try (InputStream stream = new URL(osgiDev).openStream()) {
+				properties.load(stream);
+			} catch (IOException e) {
+				// not a dev.properties file, no workspace bundles can be identified
+				properties.clear();
+			}
+		}
+		return properties;
+	}
+}
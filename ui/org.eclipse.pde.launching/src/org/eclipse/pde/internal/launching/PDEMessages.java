@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,5 +48,6 @@ public class PDEMessages extends NLS {
 
 	public static String BundleLauncherHelper_workspaceFeatureWithIdNull;
 	public static String BundleLauncherHelper_targetFeatureWithIdNull;
+	public static String FeatureIndex_featureWithInvalidVersion;
 
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,7 +23,6 @@ package org.eclipse.pde.internal.launching.launcher;
 
 import static java.util.Collections.emptySet;
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.groupingBy;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -45,13 +44,10 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.osgi.service.resolver.BundleDescription;
-import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IMatchRules;
 import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -67,12 +63,9 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
 import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
-import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.util.VersionUtil;
 import org.eclipse.pde.internal.launching.IPDEConstants;
-import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
-import org.eclipse.pde.internal.launching.PDEMessages;
 import org.eclipse.pde.launching.IPDELauncherConstants;
 import org.osgi.framework.Version;
 import org.osgi.resource.Resource;
@@ -109,6 +102,12 @@ public class BundleLauncherHelper {
 	}
 
 	public static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		try (LaunchTiming.Phase phase = LaunchTiming.phase("mergeBundles")) { //$NON-NLS-1$
+			return computeMergedBundleMap(configuration, osgi, features);
+		}
+	}
+
+	private static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
 
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
@@ -247,11 +246,10 @@ public class BundleLauncherHelper {
 
 	private static Map<IFeature, String> getSelectedFeatures(ILaunchConfiguration configuration, ITargetDefinition target, boolean addRequirements) throws CoreException {
 		String featureLocation = configuration.getAttribute(IPDELauncherConstants.FEATURE_DEFAULT_LOCATION, IPDELauncherConstants.LOCATION_WORKSPACE);
+		boolean workspaceFirst = isWorkspace(featureLocation);
 
-		Predicate<IFeature> targetEnvironmentFilter = f -> f.matchesEnvironment(target);
-
-		// Get all available features
-		Map<String, List<List<IFeature>>> featureMaps = getPrioritizedAvailableFeatures(featureLocation);
+		// All available features, indexed once per target and feature change
+		FeatureIndex featureIndex = FeatureIndex.getDefault();
 
 		Set<String> selectedFeatures = configuration.getAttribute(IPDELauncherConstants.SELECTED_FEATURES, emptySet());
 
@@ -262,7 +260,7 @@ public class BundleLauncherHelper {
 			if (attributes.length > 1) {
 				String id = attributes[0];
 				String pluginResolution = attributes[1];
-				IFeature feature = getRequiredFeature(id, null, IMatchRules.GREATER_OR_EQUAL, targetEnvironmentFilter, featureMaps);
+				IFeature feature = featureIndex.getRequiredFeature(id, null, IMatchRules.GREATER_OR_EQUAL, workspaceFirst, target);
 				addFeatureIfAbsent(feature, pluginResolution, feature2pluginResolution, pendingFeatures); // feature should be absent
 			}
 		}
@@ -274,7 +272,7 @@ public class BundleLauncherHelper {
 			IFeatureChild[] includedFeatures = feature.getIncludedFeatures();
 			for (IFeatureChild featureChild : includedFeatures) {
 				if (featureChild.matchesEnvironment(target)) {
-					IFeature child = getIncludedFeature(featureChild.getId(), featureChild.getVersion(), targetEnvironmentFilter, featureMaps);
+					IFeature child = featureIndex.getIncludedFeature(featureChild.getId(), featureChild.getVersion(), workspaceFirst, target);
 					addFeatureIfAbsent(child, pluginResolution, feature2pluginResolution, pendingFeatures);
 				}
 			}
@@ -283,7 +281,7 @@ public class BundleLauncherHelper {
 				IFeatureImport[] featureImports = feature.getImports();
 				for (IFeatureImport featureImport : featureImports) {
 					if (featureImport.getType() == IFeatureImport.FEATURE) {
-						IFeature dependency = getRequiredFeature(featureImport.getId(), featureImport.getVersion(), featureImport.getMatch(), targetEnvironmentFilter, featureMaps);
+						IFeature dependency = featureIndex.getRequiredFeature(featureImport.getId(), featureImport.getVersion(), featureImport.getMatch(), workspaceFirst, target);
 						addFeatureIfAbsent(dependency, pluginResolution, feature2pluginResolution, pendingFeatures);
 					}
 				}
@@ -292,29 +290,6 @@ public class BundleLauncherHelper {
 		return feature2pluginResolution;
 	}
 
-	private static Map<String, List<List<IFeature>>> getPrioritizedAvailableFeatures(String featureLocation) {
-		FeatureModelManager fmm = PDECore.getDefault().getFeatureModelManager();
-		List<IFeatureModel[]> featureModelsPerLocation = isWorkspace(featureLocation) //
-				? List.of(fmm.getWorkspaceModels(), fmm.getExternalModels()) //
-				: Collections.singletonList(fmm.getExternalModels());
-
-		Map<String, List<List<IFeature>>> featureMaps = new HashMap<>();
-		for (IFeatureModel[] featureModels : featureModelsPerLocation) {
-			Map<String, List<IFeature>> id2feature = Arrays.stream(featureModels).map(IFeatureModel::getFeature).filter(f -> {
-				if (f.getId() == null) {
-					IResource resource = f.getModel().getUnderlyingResource();
-					PDELaunchingPlugin.log(Status.warning(resource != null //
-							? NLS.bind(PDEMessages.BundleLauncherHelper_workspaceFeatureWithIdNull, resource.getProject().getName(), resource.getProjectRelativePath())
-							: NLS.bind(PDEMessages.BundleLauncherHelper_targetFeatureWithIdNull, f.getModel().getInstallLocation())));
-					return false;
-				}
-				return true;
-			}).collect(groupingBy(IFeature::getId));
-			id2feature.forEach((id, features) -> featureMaps.computeIfAbsent(id, i -> new ArrayList<>()).add(features));
-		}
-		return featureMaps;
-	}
-
 	private static void addFeatureIfAbsent(IFeature feature, String resolution, Map<IFeature, String> featurePluginResolution, Queue<IFeature> pendingFeatures) {
 		if (feature != null && featurePluginResolution.putIfAbsent(feature, resolution) == null) {
 			// Don't add feature more than once to not override the resolution if already present (e.g. a child was specified explicitly)
@@ -331,18 +306,6 @@ public class BundleLauncherHelper {
 		throw new IllegalArgumentException("Unsupported location: " + location); //$NON-NLS-1$
 	}
 
-	private static final Comparator<IFeature> NEUTRAL_COMPARATOR = comparing(f -> 0);
-
-	private static IFeature getIncludedFeature(String id, String version, Predicate<IFeature> environmentFilter, Map<String, List<List<IFeature>>> prioritizedFeatures) {
-		List<List<IFeature>> features = prioritizedFeatures.get(id);
-		return getIncluded(features, environmentFilter, IFeature::getVersion, NEUTRAL_COMPARATOR, version);
-	}
-
-	private static IFeature getRequiredFeature(String id, String version, int versionMatchRule, Predicate<IFeature> environmentFilter, Map<String, List<List<IFeature>>> prioritizedFeatures) {
-		List<List<IFeature>> features = prioritizedFeatures.get(id);
-		return getRequired(features, environmentFilter, IFeature::getVersion, NEUTRAL_COMPARATOR, version, versionMatchRule);
-	}
-
 	private static final Predicate<IPluginModelBase> ENABLED_VALID_PLUGIN_FILTER = p -> p.getBundleDescription() != null && p.isEnabled();
 	private static final Function<IPluginModelBase, String> GET_PLUGIN_VERSION = m -> m.getPluginBase().getVersion();
 	private static final Comparator<IPluginModelBase> COMPARE_PLUGIN_RESOLVED = comparing(p -> p.getBundleDescription().isResolved());
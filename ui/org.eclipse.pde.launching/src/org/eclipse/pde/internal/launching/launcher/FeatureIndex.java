@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import static java.util.Comparator.comparing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.util.VersionUtil;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+import org.eclipse.pde.internal.launching.PDEMessages;
+import org.osgi.framework.Version;
+
+/**
+ * Index of the features available to feature based launches.
+ * <p>
+ * For each feature id the index holds one list per location, the preferred
+ * location first, that only contains the features matching the environment
+ * of the target and is sorted by descending version. Features without id or
+ * with an invalid version are ignored with a warning. An index is built once
+ * per location preference and target environment and discarded whenever the
+ * workspace or target features change.
+ * </p>
+ */
+public class FeatureIndex implements IFeatureModelListener {
+
+	private static FeatureIndex fInstance;
+
+	private record Key(boolean workspaceFirst, String os, String ws, String arch, String nl) {
+	}
+
+	private record IndexedFeature(IFeature feature, Version version) {
+	}
+
+	private static final Comparator<IndexedFeature> DESCENDING_VERSION = comparing(IndexedFeature::version, Comparator.reverseOrder());
+
+	private final Map<Key, Map<String, List<List<IndexedFeature>>>> fIndices = new ConcurrentHashMap<>();
+
+	private FeatureIndex() {
+	}
+
+	static synchronized FeatureIndex getDefault() {
+		if (fInstance == null) {
+			fInstance = new FeatureIndex();
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fInstance);
+		}
+		return fInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fInstance != null) {
+			PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(fInstance);
+			fInstance = null;
+		}
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		fIndices.clear();
+	}
+
+	/**
+	 * Returns the features with the given id, per location with the preferred
+	 * location first, that match the environment of the given target
+	 */
+	private List<List<IndexedFeature>> getFeatures(String id, boolean workspaceFirst, ITargetDefinition target) {
+		FeatureModelManager fmm = PDECore.getDefault().getFeatureModelManager();
+		if (!fmm.isInitialized()) {
+			// the target features are about to be reloaded
+			fIndices.clear();
+		}
+		Key key = new Key(workspaceFirst, target.getOS(), target.getWS(), target.getArch(), target.getNL());
+		Map<String, List<List<IndexedFeature>>> index = fIndices.computeIfAbsent(key, k -> createIndex(fmm, workspaceFirst, target));
+		return index.getOrDefault(id, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the included feature for the specified version: per location an
+	 * exactly matching version is preferred over a version with the same
+	 * major, minor and micro segments, which is preferred over the latest
+	 * version.
+	 */
+	IFeature getIncludedFeature(String id, String version, boolean workspaceFirst, ITargetDefinition target) {
+		Version includedVersion = Version.parseVersion(version);
+		for (List<IndexedFeature> features : getFeatures(id, workspaceFirst, target)) {
+			IndexedFeature candidate = null;
+			for (IndexedFeature feature : features) {
+				if (feature.version().equals(includedVersion)) {
+					return feature.feature();
+				} else if (candidate == null && VersionUtil.compareMacroMinorMicro(feature.version(), includedVersion) == 0) {
+					candidate = feature;
+				}
+			}
+			if (candidate != null) {
+				return candidate.feature();
+			} else if (!features.isEmpty()) {
+				return features.get(0).feature();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the latest feature of the first location that obeys the match
+	 * rule with respect to the required version, which may be
+	 * <code>null</code>.
+	 */
+	IFeature getRequiredFeature(String id, String version, int versionMatchRule, boolean workspaceFirst, ITargetDefinition target) {
+		boolean anyVersion = version == null || version.equals(Version.emptyVersion.toString());
+		for (List<IndexedFeature> features : getFeatures(id, workspaceFirst, target)) {
+			for (IndexedFeature feature : features) {
+				if (anyVersion || VersionUtil.compare(feature.feature().getVersion(), version, versionMatchRule)) {
+					return feature.feature();
+				}
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, List<List<IndexedFeature>>> createIndex(FeatureModelManager fmm, boolean workspaceFirst, ITargetDefinition target) {
+		List<IFeatureModel[]> featureModelsPerLocation = workspaceFirst //
+				? List.of(fmm.getWorkspaceModels(), fmm.getExternalModels()) //
+				: Collections.singletonList(fmm.getExternalModels());
+
+		Map<String, List<List<IndexedFeature>>> index = new HashMap<>();
+		for (IFeatureModel[] featureModels : featureModelsPerLocation) {
+			Map<String, List<IndexedFeature>> id2feature = new HashMap<>();
+			for (IFeatureModel model : featureModels) {
+				IFeature feature = model.getFeature();
+				if (feature.getId() == null) {
+					IResource resource = model.getUnderlyingResource();
+					PDELaunchingPlugin.log(Status.warning(resource != null //
+							? NLS.bind(PDEMessages.BundleLauncherHelper_workspaceFeatureWithIdNull, resource.getProject().getName(), resource.getProjectRelativePath())
+							: NLS.bind(PDEMessages.BundleLauncherHelper_targetFeatureWithIdNull, model.getInstallLocation())));
+				} else if (feature.matchesEnvironment(target)) {
+					Version version = parseVersion(model);
+					if (version != null) {
+						id2feature.computeIfAbsent(feature.getId(), id -> new ArrayList<>()).add(new IndexedFeature(feature, version));
+					}
+				}
+			}
+			id2feature.forEach((id, features) -> {
+				features.sort(DESCENDING_VERSION);
+				index.computeIfAbsent(id, i -> new ArrayList<>()).add(features);
+			});
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the version of the feature of the given model, or
+	 * <code>null</code> if it is invalid
+	 */
+	private static Version parseVersion(IFeatureModel model) {
+		IFeature feature = model.getFeature();
+		try {
+			return Version.parseVersion(feature.getVersion());
+		} catch (IllegalArgumentException e) {
+			IResource resource = model.getUnderlyingResource();
+			String location = resource != null ? resource.getFullPath().toString() : model.getInstallLocation();
+			PDELaunchingPlugin.log(Status.warning(NLS.bind(PDEMessages.FeatureIndex_featureWithInvalidVersion, new Object[] {feature.getId(), feature.getVersion(), location}), e));
+			return null;
+		}
+	}
+}
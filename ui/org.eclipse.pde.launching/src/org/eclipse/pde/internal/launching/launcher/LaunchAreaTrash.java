@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+
+/**
+ * Clears the workspace and configuration areas of launches without making the
+ * launch wait for their content to be deleted.
+ * <p>
+ * The area is moved to the trash folder in the state location of this plug-in,
+ * which is a single atomic operation, and the trash is deleted by a background
+ * job. Whatever is left in the trash folder when the workbench exits, or
+ * crashes, is deleted after the next start. If the area cannot be moved, for
+ * example because a file in it is still locked or it is on another file
+ * system, its content is deleted synchronously as before.
+ * </p>
+ */
+public class LaunchAreaTrash {
+
+	/**
+	 * The family of the jobs deleting the trash
+	 */
+	public static final Object FAMILY = new Object();
+
+	private static final String TRASH_FOLDER = "trash"; //$NON-NLS-1$
+
+	private LaunchAreaTrash() {
+	}
+
+	/**
+	 * Removes the content of the given directory, moving it out of the way
+	 * and deleting it in the background whenever possible.
+	 *
+	 * @param directory the directory to clear
+	 * @param monitor the progress monitor used if the content has to be deleted
+	 *            synchronously
+	 */
+	public static void clear(File directory, IProgressMonitor monitor) {
+		if (!directory.isDirectory()) {
+			CoreUtility.deleteContent(directory, monitor);
+			return;
+		}
+		File trash = moveToTrash(directory);
+		if (trash == null) {
+			CoreUtility.deleteContent(directory, monitor);
+			return;
+		}
+		scheduleDelete(trash);
+	}
+
+	/**
+	 * Schedules the deletion of the trash left over by a previous session.
+	 */
+	public static void deleteLeftovers() {
+		File[] leftovers = getTrashFolder().listFiles();
+		if (leftovers != null) {
+			for (File trash : leftovers) {
+				scheduleDelete(trash);
+			}
+		}
+	}
+
+	/**
+	 * Returns the folder the cleared areas are moved to until they are deleted
+	 */
+	public static File getTrashFolder() {
+		return PDELaunchingPlugin.getDefault().getStateLocation().append(TRASH_FOLDER).toFile();
+	}
+
+	private static File moveToTrash(File directory) {
+		File folder = getTrashFolder();
+		folder.mkdirs();
+		String prefix = directory.getName() + '-' + System.currentTimeMillis();
+		// synchronized with other launches choosing a name in the trash
+		synchronized (LaunchAreaTrash.class) {
+			File trash = new File(folder, prefix);
+			for (int i = 1; trash.exists(); i++) {
+				trash = new File(folder, prefix + '-' + i);
+			}
+			try {
+				Files.move(directory.toPath(), trash.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				return trash;
+			} catch (IOException | UnsupportedOperationException e) {
+				return null;
+			}
+		}
+	}
+
+	private static void scheduleDelete(File trash) {
+		Job job = new Job("Delete Launch Data") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				CoreUtility.deleteContent(trash, monitor);
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family == FAMILY;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+}
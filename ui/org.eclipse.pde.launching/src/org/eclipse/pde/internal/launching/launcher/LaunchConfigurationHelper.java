@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -190,10 +190,14 @@ public class LaunchConfigurationHelper {
 			// Write out P2 files (bundles.txt)
 			URL bundlesTxt = null;
 			boolean usedefault = configuration.getAttribute(IPDELauncherConstants.USE_DEFAULT, true);
-			if (usedefault) {
-				bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, osgiBundles);
-			} else {
-				bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, null);
+			// bundles.info and source.info are written to the folder of the simple configurator
+			File simpleConfiguratorDirectory = new File(configurationDirectory, IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR);
+			try (LaunchTiming.Phase phase = LaunchTiming.phase("writeBundlesInfo", simpleConfiguratorDirectory)) { //$NON-NLS-1$
+				if (usedefault) {
+					bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, osgiBundles);
+				} else {
+					bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, null);
+				}
 			}
 
 			// Add bundles.txt as p2 config data
@@ -226,7 +230,9 @@ public class LaunchConfigurationHelper {
 					} else {
 						productInfo = new ProductInfo(productId, productVersion, productName);
 					}
-					P2Utils.createProfile(profileID, p2DataArea, bundles.values(), features, productInfo);
+					try (LaunchTiming.Phase phase = LaunchTiming.phase("createProfile", p2DataArea)) { //$NON-NLS-1$
+						P2Utils.createProfile(profileID, p2DataArea, bundles.values(), features, productInfo);
+					}
 				}
 				properties.setProperty("eclipse.p2.profile", profileID); //$NON-NLS-1$
 			}
@@ -510,9 +516,21 @@ public class LaunchConfigurationHelper {
 	}
 
 	public static void save(File file, Properties properties) {
+		// leave an unchanged file untouched, so that its time stamp still reflects the last actual change
+		if (file.isFile()) {
+			Properties existing = new Properties();
+			try (FileInputStream stream = new FileInputStream(file)) {
+				existing.load(stream);
+				if (existing.equals(properties))
+					return;
+			} catch (IOException e) {
+				// write the file again
+			}
+		}
 		try (FileOutputStream stream = new FileOutputStream(file)) {
 			properties.store(stream, "Configuration File"); //$NON-NLS-1$
 			stream.flush();
+			LaunchTiming.count(LaunchTiming.FILES_WRITTEN, 1);
 		} catch (IOException e) {
 			PDECore.logException(e);
 		}
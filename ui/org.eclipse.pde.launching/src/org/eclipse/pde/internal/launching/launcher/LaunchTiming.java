@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+
+/**
+ * Records the time taken by the phases of a PDE launch, together with counts
+ * like the number of bundles and features launched or files written.
+ * <p>
+ * Timing is only active if the <code>org.eclipse.pde.launching/launch/timing</code>
+ * tracing option is enabled. The launch delegate starts the timing of a launch
+ * and finishes it once the launch completed; the phases and counts are
+ * recorded for the launch running on the current thread, so that helpers
+ * don't need to know about the launch. When finished, a summary is printed
+ * and the timing is written to {@value #FILE_NAME} in the configuration area.
+ * </p>
+ */
+public class LaunchTiming {
+
+	private static final String FILE_NAME = "launch-timing.json"; //$NON-NLS-1$
+
+	/**
+	 * Count of the bundles to launch
+	 */
+	public static final String BUNDLES = "bundles"; //$NON-NLS-1$
+	/**
+	 * Count of the features to launch
+	 */
+	public static final String FEATURES = "features"; //$NON-NLS-1$
+	/**
+	 * Count of the files written to the configuration area, like the
+	 * config.ini, bundles.info and the files of the p2 profile
+	 */
+	public static final String FILES_WRITTEN = "filesWritten"; //$NON-NLS-1$
+
+	private static final ThreadLocal<LaunchTiming> CURRENT = new ThreadLocal<>();
+
+	private static final Phase NO_PHASE = new Phase(null, null, 0, null);
+
+	/**
+	 * A phase of a launch, to be closed when the phase completes
+	 */
+	public static final class Phase implements AutoCloseable {
+		private final LaunchTiming fTiming;
+		private final String fName;
+		private final int fDepth;
+		private final File[] fOutputs;
+		private final Map<File, List<Long>> fStamps;
+		private final long fStart = System.nanoTime();
+		private long fDuration = -1;
+
+		private Phase(LaunchTiming timing, String name, int depth, File[] outputs) {
+			fTiming = timing;
+			fName = name;
+			fDepth = depth;
+			fOutputs = outputs;
+			fStamps = outputs == null || outputs.length == 0 ? null : getStamps(outputs);
+		}
+
+		@Override
+		public void close() {
+			if (fTiming != null && fDuration < 0) {
+				fDuration = System.nanoTime() - fStart;
+				fTiming.fDepth--;
+				if (fStamps != null) {
+					// the written files are counted outside of the phase duration
+					Map<File, List<Long>> stamps = getStamps(fOutputs);
+					stamps.entrySet().removeIf(stamp -> stamp.getValue().equals(fStamps.get(stamp.getKey())));
+					fTiming.fCounts.merge(FILES_WRITTEN, stamps.size(), Integer::sum);
+				}
+			}
+		}
+	}
+
+	private final String fConfigurationName;
+	private final String fMode;
+	private final long fTimeStamp = System.currentTimeMillis();
+	private final long fStart = System.nanoTime();
+	private final List<Phase> fPhases = new ArrayList<>();
+	private final Map<String, Integer> fCounts = new LinkedHashMap<>();
+	private int fDepth = 0;
+
+	private LaunchTiming(String configurationName, String mode) {
+		fConfigurationName = configurationName;
+		fMode = mode;
+	}
+
+	/**
+	 * Starts the timing of a launch of the given configuration on the current
+	 * thread.
+	 *
+	 * @return the timing to finish once the launch completed, or
+	 *         <code>null</code> if launch timing is disabled
+	 */
+	public static LaunchTiming start(ILaunchConfiguration configuration, String mode) {
+		if (!PDELaunchingPlugin.DEBUG_LAUNCH_TIMING) {
+			return null;
+		}
+		LaunchTiming timing = new LaunchTiming(configuration.getName(), mode);
+		CURRENT.set(timing);
+		return timing;
+	}
+
+	/**
+	 * Starts a phase of the launch running on the current thread. Phases
+	 * started before the returned one is closed are recorded as nested phases.
+	 * <p>
+	 * The files created or modified below the given output locations until the
+	 * phase is closed are added to the {@link #FILES_WRITTEN} count. This
+	 * covers the files written by helpers outside of PDE launching, like the
+	 * bundles.info and the p2 profile written by <code>P2Utils</code>.
+	 * </p>
+	 *
+	 * @param outputs the files or folders written in the phase
+	 * @return the phase to close when it completes
+	 */
+	public static Phase phase(String name, File... outputs) {
+		LaunchTiming timing = CURRENT.get();
+		if (timing == null) {
+			return NO_PHASE;
+		}
+		Phase phase = new Phase(timing, name, timing.fDepth++, outputs);
+		timing.fPhases.add(phase);
+		return phase;
+	}
+
+	/**
+	 * Adds the given value to a count of the launch running on the current
+	 * thread.
+	 */
+	public static void count(String name, int value) {
+		LaunchTiming timing = CURRENT.get();
+		if (timing != null) {
+			timing.fCounts.merge(name, value, Integer::sum);
+		}
+	}
+
+	/**
+	 * Completes the timing of the launch, prints its summary and writes it to
+	 * the given configuration area.
+	 *
+	 * @param configurationArea the configuration area of the launch, may be
+	 *            <code>null</code>
+	 */
+	public void finish(File configurationArea) {
+		CURRENT.remove();
+		long total = System.nanoTime() - fStart;
+		System.out.println(getSummary(total));
+		if (configurationArea != null && configurationArea.isDirectory()) {
+			try {
+				Files.writeString(new File(configurationArea, FILE_NAME).toPath(), toJson(total), StandardCharsets.UTF_8);
+			} catch (IOException e) {
+				PDELaunchingPlugin.log(e);
+			}
+		}
+	}
+
+	private String getSummary(long total) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Launch of '").append(fConfigurationName).append("' in ").append(fMode).append(" mode took ").append(toMillis(total)).append(" ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		for (Phase phase : fPhases) {
+			buffer.append(System.lineSeparator()).append("  ").append("  ".repeat(phase.fDepth)); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append(phase.fName).append(": ").append(phase.fDuration < 0 ? "incomplete" : toMillis(phase.fDuration) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		fCounts.forEach((name, value) -> buffer.append(System.lineSeparator()).append("  ").append(name).append(": ").append(value)); //$NON-NLS-1$ //$NON-NLS-2$
+		return buffer.toString();
+	}
+
+	private String toJson(long total) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("{\n"); //$NON-NLS-1$
+		buffer.append("  \"configuration\": ").append(quote(fConfigurationName)).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("  \"mode\": ").append(quote(fMode)).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("  \"timestamp\": ").append(fTimeStamp).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("  \"durationMillis\": ").append(toMillis(total)).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("  \"phases\": ["); //$NON-NLS-1$
+		for (int i = 0; i < fPhases.size(); i++) {
+			Phase phase = fPhases.get(i);
+			buffer.append(i == 0 ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append("    {\"name\": ").append(quote(phase.fName)); //$NON-NLS-1$
+			buffer.append(", \"depth\": ").append(phase.fDepth); //$NON-NLS-1$
+			buffer.append(", \"durationMillis\": ").append(phase.fDuration < 0 ? "null" : toMillis(phase.fDuration)).append('}'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		buffer.append(fPhases.isEmpty() ? "],\n" : "\n  ],\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("  \"counts\": {"); //$NON-NLS-1$
+		String separator = "\n"; //$NON-NLS-1$
+		for (Map.Entry<String, Integer> count : fCounts.entrySet()) {
+			buffer.append(separator).append("    ").append(quote(count.getKey())).append(": ").append(count.getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+			separator = ",\n"; //$NON-NLS-1$
+		}
+		buffer.append(fCounts.isEmpty() ? "}\n" : "\n  }\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("}\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the last modification time and length of the files at or below
+	 * the given locations
+	 */
+	private static Map<File, List<Long>> getStamps(File[] locations) {
+		Map<File, List<Long>> stamps = new HashMap<>();
+		for (File location : locations) {
+			addStamps(location, stamps);
+		}
+		return stamps;
+	}
+
+	private static void addStamps(File file, Map<File, List<Long>> stamps) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				addStamps(child, stamps);
+			}
+		} else if (file.isFile()) {
+			stamps.put(file, List.of(file.lastModified(), file.length()));
+		}
+	}
+
+	private static String toMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0); //$NON-NLS-1$
+	}
+
+	private static String quote(String value) {
+		StringBuilder buffer = new StringBuilder(value.length() + 2).append('"');
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"', '\\' -> buffer.append('\\').append(c);
+				case '\n' -> buffer.append("\\n"); //$NON-NLS-1$
+				case '\r' -> buffer.append("\\r"); //$NON-NLS-1$
+				case '\t' -> buffer.append("\\t"); //$NON-NLS-1$
+				default -> {
+					if (c < 0x20) {
+						buffer.append(String.format(Locale.ROOT, "\\u%04x", (int) c)); //$NON-NLS-1$
+					} else {
+						buffer.append(c);
+					}
+				}
+			}
+		}
+		return buffer.append('"').toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2021 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,6 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -28,7 +27,6 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -42,10 +40,6 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.IStatusHandler;
-import org.eclipse.jdt.core.IClasspathEntry;
-import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.JavaCore;
-import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -56,8 +50,6 @@ import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
-import org.eclipse.pde.internal.core.project.PDEProject;
-import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
 import org.eclipse.pde.launching.IPDELauncherConstants;
@@ -156,13 +148,13 @@ public class LauncherUtils {
 					if (configuration.getAttribute(IPDEConstants.DOCLEARLOG, false)) {
 						LauncherUtils.clearWorkspaceLog(workspace);
 					} else {
-						CoreUtility.deleteContent(workspaceFile, subMon.split(90));
+						LaunchAreaTrash.clear(workspaceFile, subMon.split(90));
 					}
 				}
 			} else if (configuration.getAttribute(IPDEConstants.DOCLEARLOG, false)) {
 				LauncherUtils.clearWorkspaceLog(workspace);
 			} else {
-				CoreUtility.deleteContent(workspaceFile, subMon.split(90));
+				LaunchAreaTrash.clear(workspaceFile, subMon.split(90));
 			}
 		}
 
@@ -216,48 +208,7 @@ public class LauncherUtils {
 	}
 
 	private static String getTimeStamp(IProject project) {
-		IJavaProject jp = JavaCore.create(project);
-		try {
-			long timeStamp = 0;
-			IClasspathEntry[] entries = jp.getResolvedClasspath(true);
-			for (IClasspathEntry entrie : entries) {
-				if (entrie.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
-					File file;
-					IPath location = entrie.getOutputLocation();
-					if (location == null)
-						location = jp.getOutputLocation();
-					IResource res = project.getWorkspace().getRoot().findMember(location);
-					IPath path = res == null ? null : res.getLocation();
-					if (path == null)
-						continue;
-					file = path.toFile();
-					ArrayDeque<File> files = new ArrayDeque<>();
-					files.push(file);
-					while (!files.isEmpty()) {
-						file = files.pop();
-						if (file.isDirectory()) {
-							File[] children = file.listFiles();
-							if (children != null) {
-								for (File element : children)
-									files.push(element);
-							}
-						} else if (file.getName().endsWith(".class") && timeStamp < file.lastModified()) //$NON-NLS-1$
-							timeStamp = file.lastModified();
-					}
-				}
-			}
-			IFile[] otherFiles = new IFile[] {PDEProject.getManifest(project), PDEProject.getBuildProperties(project)};
-			for (IFile file : otherFiles) {
-				if (file != null) {
-					long fileTimeStamp = file.getRawLocation().toFile().lastModified();
-					if (timeStamp < fileTimeStamp)
-						timeStamp = fileTimeStamp;
-				}
-			}
-			return Long.toString(timeStamp);
-		} catch (JavaModelException e) {
-		}
-		return "0"; //$NON-NLS-1$
+		return Long.toString(ProjectChangeStamps.getDefault().getTimeStamp(project));
 	}
 
 	private static void handleUseDefault(String launcherTimeStamp, ArrayList<IProject> projects) {
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.project.PDEProject;
+
+/**
+ * Keeps track of changes to the build output, the manifest and the
+ * build.properties file of each project.
+ * <p>
+ * The stamp of a project is seeded from the latest modification time of these
+ * files on disk the first time it is requested. From then on it acts as a
+ * modification counter: any resource delta in the output folders, including
+ * the removal of a class file, or to the manifest or the build.properties file
+ * raises it to the current time, so that launches never have to visit the
+ * class files of the workspace on disk. Changes made outside of the workspace
+ * are seen once they are refreshed.
+ * </p>
+ */
+public class ProjectChangeStamps implements IResourceChangeListener, IResourceDeltaVisitor {
+
+	private static ProjectChangeStamps fInstance;
+
+	/**
+	 * The stamp of a project and the output folders contributing to it
+	 */
+	private record ChangeStamp(long timeStamp, IPath[] outputLocations) {
+	}
+
+	private final Map<String, ChangeStamp> fStamps = new ConcurrentHashMap<>();
+
+	private ProjectChangeStamps() {
+	}
+
+	public static synchronized ProjectChangeStamps getDefault() {
+		if (fInstance == null) {
+			fInstance = new ProjectChangeStamps();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fInstance, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fInstance != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fInstance);
+			fInstance = null;
+		}
+	}
+
+	/**
+	 * Returns the stamp of the last change to the output folders, the manifest
+	 * or the build.properties file of the given project, or <code>0</code> if
+	 * the output folders of the project cannot be determined
+	 */
+	public long getTimeStamp(IProject project) {
+		ChangeStamp stamp = fStamps.get(project.getName());
+		if (stamp == null) {
+			stamp = computeStamp(project);
+			if (stamp == null)
+				// not cached, the classpath may be fixed later on
+				return 0;
+			ChangeStamp previous = fStamps.putIfAbsent(project.getName(), stamp);
+			if (previous != null)
+				stamp = previous;
+		}
+		return stamp.timeStamp();
+	}
+
+	private ChangeStamp computeStamp(IProject project) {
+		List<IPath> outputLocations = new ArrayList<>();
+		long timeStamp = 0;
+		try {
+			IJavaProject jp = JavaCore.create(project);
+			for (IClasspathEntry entry : jp.getResolvedClasspath(true)) {
+				if (entry.getEntryKind() != IClasspathEntry.CPE_SOURCE)
+					continue;
+				IPath location = entry.getOutputLocation();
+				if (location == null)
+					location = jp.getOutputLocation();
+				if (outputLocations.contains(location))
+					continue;
+				outputLocations.add(location);
+				IResource output = project.getWorkspace().getRoot().findMember(location);
+				IPath path = output == null ? null : output.getLocation();
+				if (path != null)
+					timeStamp = Math.max(timeStamp, getLastModified(path.toFile()));
+			}
+		} catch (JavaModelException e) {
+			return null;
+		}
+		for (IFile file : new IFile[] {PDEProject.getManifest(project), PDEProject.getBuildProperties(project)}) {
+			IPath path = file.getLocation();
+			if (path != null)
+				timeStamp = Math.max(timeStamp, path.toFile().lastModified());
+		}
+		return new ChangeStamp(timeStamp, outputLocations.toArray(new IPath[outputLocations.size()]));
+	}
+
+	/**
+	 * Returns the latest modification time of the class files below the given
+	 * folder on disk
+	 */
+	private static long getLastModified(File folder) {
+		long timeStamp = 0;
+		ArrayDeque<File> files = new ArrayDeque<>();
+		files.push(folder);
+		while (!files.isEmpty()) {
+			File file = files.pop();
+			if (file.isDirectory()) {
+				File[] children = file.listFiles();
+				if (children != null) {
+					for (File child : children)
+						files.push(child);
+				}
+			} else if (file.getName().endsWith(".class")) { //$NON-NLS-1$
+				timeStamp = Math.max(timeStamp, file.lastModified());
+			}
+		}
+		return timeStamp;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || fStamps.isEmpty())
+			return;
+		try {
+			delta.accept(this);
+		} catch (CoreException e) {
+			PDECore.log(e);
+		}
+	}
+
+	@Override
+	public boolean visit(IResourceDelta delta) {
+		IResource resource = delta.getResource();
+		switch (resource.getType()) {
+			case IResource.ROOT :
+				return true;
+			case IResource.PROJECT :
+				if (delta.getKind() == IResourceDelta.REMOVED || (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+					fStamps.remove(resource.getName());
+					return false;
+				}
+				return fStamps.containsKey(resource.getName());
+			default :
+				IProject project = resource.getProject();
+				if (resource.getProjectRelativePath().equals(IPath.fromOSString(".classpath"))) { //$NON-NLS-1$
+					// the output folders may have changed
+					fStamps.remove(project.getName());
+					return false;
+				}
+				if (isModification(delta) && (resource.equals(PDEProject.getManifest(project)) || resource.equals(PDEProject.getBuildProperties(project)))) {
+					fStamps.computeIfPresent(project.getName(), (name, stamp) -> increment(stamp));
+					return false;
+				}
+				ChangeStamp stamp = fStamps.get(project.getName());
+				if (stamp == null)
+					return false;
+				if (isInOutputLocation(stamp, resource.getFullPath())) {
+					if (isModification(delta))
+						fStamps.computeIfPresent(project.getName(), (name, current) -> increment(current));
+					return resource.getType() == IResource.FOLDER;
+				}
+				// only visit the folders on the way to an output folder, the manifest or build.properties
+				if (resource.getType() != IResource.FOLDER)
+					return false;
+				IPath path = resource.getFullPath();
+				return isAboveOutputLocation(stamp, path) || path.isPrefixOf(PDEProject.getManifest(project).getFullPath()) || path.isPrefixOf(PDEProject.getBuildProperties(project).getFullPath());
+		}
+	}
+
+	/**
+	 * Returns whether the given delta adds, removes or changes its resource,
+	 * ignoring changes of its markers and changes of its children
+	 */
+	private static boolean isModification(IResourceDelta delta) {
+		return delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & ~IResourceDelta.MARKERS) != 0;
+	}
+
+	private static ChangeStamp increment(ChangeStamp stamp) {
+		long timeStamp = Math.max(stamp.timeStamp() + 1, System.currentTimeMillis());
+		return new ChangeStamp(timeStamp, stamp.outputLocations());
+	}
+
+	private static boolean isInOutputLocation(ChangeStamp stamp, IPath path) {
+		for (IPath location : stamp.outputLocations()) {
+			if (location.isPrefixOf(path))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isAboveOutputLocation(ChangeStamp stamp, IPath path) {
+		for (IPath location : stamp.outputLocations()) {
+			if (path.isPrefixOf(location))
+				return true;
+		}
+		return false;
+	}
+}
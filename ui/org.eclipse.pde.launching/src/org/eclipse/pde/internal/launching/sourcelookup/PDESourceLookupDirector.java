@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IFile;
@@ -32,6 +33,10 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.sourcelookup.AbstractSourceLookupDirector;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
@@ -68,6 +73,13 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 	 */
 	private final Map<String, List<ISourceContainer>> fSourceContainerMap = new LinkedHashMap<>();
 
+	/**
+	 * Cache of the bundles searched for source by debug target and bundle class loader
+	 */
+	private final Map<ClassLoaderKey, List<BundleEntry>> fClassLoaderEntries = new ConcurrentHashMap<>();
+
+	private IDebugEventSetListener fTerminateListener;
+
 	private ISourceContainer[] fJreSourceContainers;
 
 	private static Set<String> fFilteredTypes;
@@ -79,6 +91,23 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 		fFilteredTypes.add("org.eclipse.debug.ui.containerType.workingSet"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Location and symbolic name of a bundle or fragment searched for source
+	 */
+	public record BundleEntry(String location, String id) {
+	}
+
+	private record ClassLoaderKey(IDebugTarget target, long id) {
+	}
+
+	/**
+	 * Reads the bundles searched for the source of the types loaded by a
+	 * bundle class loader from the debuggee
+	 */
+	public interface BundleEntriesReader {
+		List<BundleEntry> read(IJavaObject classLoader) throws CoreException;
+	}
+
 	/**
 	 * Lazily initialized.
 	 */
@@ -178,6 +207,36 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 		return containers;
 	}
 
+	/**
+	 * Returns the bundles searched for the source of the types loaded by the
+	 * given class loader. They are read from the debuggee once per class
+	 * loader and kept until its debug target terminates or the source
+	 * containers change.
+	 */
+	public List<BundleEntry> getBundleEntries(IJavaObject classLoader, BundleEntriesReader reader) throws CoreException {
+		ClassLoaderKey key = new ClassLoaderKey(classLoader.getDebugTarget(), classLoader.getUniqueId());
+		List<BundleEntry> entries = fClassLoaderEntries.get(key);
+		if (entries == null) {
+			entries = List.copyOf(reader.read(classLoader));
+			addTerminateListener();
+			fClassLoaderEntries.put(key, entries);
+		}
+		return entries;
+	}
+
+	private synchronized void addTerminateListener() {
+		if (fTerminateListener == null) {
+			fTerminateListener = events -> {
+				for (DebugEvent event : events) {
+					if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IDebugTarget target) {
+						fClassLoaderEntries.keySet().removeIf(key -> key.target() == target);
+					}
+				}
+			};
+			DebugPlugin.getDefault().addDebugEventListener(fTerminateListener);
+		}
+	}
+
 	ISourceContainer[] getJreSourceContainers() throws CoreException {
 		if (fJreSourceContainers != null)
 			return fJreSourceContainers;
@@ -255,8 +314,19 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 		}
 	}
 
+	@Override
+	public synchronized void setSourceContainers(ISourceContainer[] containers) {
+		super.setSourceContainers(containers);
+		fClassLoaderEntries.clear();
+	}
+
 	@Override
 	public synchronized void dispose() {
+		if (fTerminateListener != null) {
+			DebugPlugin.getDefault().removeDebugEventListener(fTerminateListener);
+			fTerminateListener = null;
+		}
+		fClassLoaderEntries.clear();
 		fSourceContainerMap.values().stream().flatMap(List::stream).forEach(ISourceContainer::dispose);
 		fSourceContainerMap.clear();
 		super.dispose();
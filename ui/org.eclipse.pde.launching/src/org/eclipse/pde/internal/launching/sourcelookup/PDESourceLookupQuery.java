@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.pde.internal.launching.sourcelookup;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -37,6 +38,7 @@ import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector.BundleEntry;
 
 import com.sun.jdi.VMDisconnectedException;
 
@@ -168,63 +170,63 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 	 * @return source element
 	 */
 	protected Object findSourceElement34(IJavaObject object, String typeName) throws CoreException {
-		IJavaObject manager = getObject(object, "manager", false); //$NON-NLS-1$
-		if (manager != null) {
-			IJavaObject data = getObject(manager, "data", false); //$NON-NLS-1$
-			if (data != null) {
-				String location = getValue(data, "fileName"); //$NON-NLS-1$
-				String id = getValue(data, "symbolicName"); //$NON-NLS-1$
-				return getSourceElement(location, id, typeName, true);
+		List<BundleEntry> entries = fDirector.getBundleEntries(object, classLoader -> {
+			IJavaObject manager = getObject(classLoader, "manager", false); //$NON-NLS-1$
+			if (manager != null) {
+				IJavaObject data = getObject(manager, "data", false); //$NON-NLS-1$
+				if (data != null) {
+					return List.of(new BundleEntry(getValue(data, "fileName"), getValue(data, "symbolicName"))); //$NON-NLS-1$ //$NON-NLS-2$
+				}
 			}
-		}
-		return null;
+			return List.of();
+		});
+		return getSourceElement(entries, typeName, true);
 	}
 
 	/**
 	 * Finds source in a 3.5 runtime. In 3.5, the OSGi runtime provides hooks to properly
 	 * lookup source in fragments that replace/prepend jars in their host.
+	 * The class path entries of the fragments are read together with the ones
+	 * of the host on the first lookup of a class loader, even if the source is
+	 * found in the host, so that later lookups need no reads from the debuggee.
 	 *
 	 * @param object Bundle class loader object
 	 * @param typeName fully qualified name of the source type being searched for
 	 * @return source element
 	 */
 	protected Object findSourceElement(IJavaObject object, String typeName) throws CoreException {
-		IJavaObject manager = getObject(object, "manager", false); //$NON-NLS-1$
-		if (manager != null) {
-			// search manager's class path for location
-			Object result = searchClasspathEntries(manager, typeName);
-			if (result != null) {
-				return result;
-			}
-			// then check its fragments
-			IJavaObject frgArray = getObject(manager, "fragments", false); //$NON-NLS-1$
-			if (frgArray instanceof IJavaArray) {
-				IJavaArray fragments = (IJavaArray) frgArray;
-				for (int i = 0; i < fragments.getLength(); i++) {
-					IJavaObject fragment = (IJavaObject) fragments.getValue(i);
-					if (!fragment.isNull()) {
-						// search fragment class path
-						result = searchClasspathEntries(fragment, typeName);
-						if (result != null) {
-							return result;
+		List<BundleEntry> entries = fDirector.getBundleEntries(object, classLoader -> {
+			List<BundleEntry> result = new ArrayList<>();
+			IJavaObject manager = getObject(classLoader, "manager", false); //$NON-NLS-1$
+			if (manager != null) {
+				// search manager's class path for location
+				addClasspathEntries(manager, result);
+				// then check its fragments
+				IJavaObject frgArray = getObject(manager, "fragments", false); //$NON-NLS-1$
+				if (frgArray instanceof IJavaArray) {
+					IJavaArray fragments = (IJavaArray) frgArray;
+					for (int i = 0; i < fragments.getLength(); i++) {
+						IJavaObject fragment = (IJavaObject) fragments.getValue(i);
+						if (!fragment.isNull()) {
+							// search fragment class path
+							addClasspathEntries(fragment, result);
 						}
 					}
-
 				}
 			}
-		}
-		return null;
+			return result;
+		});
+		return getSourceElement(entries, typeName, false);
 	}
 
 	/**
-	 * Search a bundle's class path entries for source for the type of given name.
+	 * Adds the location and symbolic name of a bundle's class path entries to the given list.
 	 * This is used for 3.5 and greater.
 	 *
 	 * @param entriesOwner the java object providing the classpath entries
-	 * @param typeName qualified name of source
-	 * @return source object or <code>null</code>
+	 * @param result the list to add the entries to
 	 */
-	private Object searchClasspathEntries(IJavaObject entriesOwner, String typeName) throws CoreException {
+	private void addClasspathEntries(IJavaObject entriesOwner, List<BundleEntry> result) throws CoreException {
 		IJavaObject cpeArray = getObject(entriesOwner, "entries", false); //$NON-NLS-1$
 		if (cpeArray instanceof IJavaArray) {
 			IJavaArray entries = (IJavaArray) cpeArray;
@@ -237,16 +239,12 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 						if (fileName != null && !fileName.isNull()) {
 							String location = fileName.getValueString();
 							String symbolicName = getValue(baseData, "symbolicName"); //$NON-NLS-1$
-							Object el = getSourceElement(location, symbolicName, typeName, false);
-							if (el != null) {
-								return el;
-							}
+							result.add(new BundleEntry(location, symbolicName));
 						}
 					}
 				}
 			}
 		}
-		return null;
 	}
 
 	private IJavaObject getObject(IJavaObject object, String field, boolean superfield) throws DebugException {
@@ -260,13 +258,14 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 	}
 
 	private Object findSourceElement_legacy(IJavaObject object, String typeName) throws CoreException {
-		IJavaObject hostdata = getObject(object, "hostdata", true); //$NON-NLS-1$
-		if (hostdata != null) {
-			String location = getValue(hostdata, "fileName"); //$NON-NLS-1$
-			String id = getValue(hostdata, "symbolicName"); //$NON-NLS-1$
-			return getSourceElement(location, id, typeName, true);
-		}
-		return null;
+		List<BundleEntry> entries = fDirector.getBundleEntries(object, classLoader -> {
+			IJavaObject hostdata = getObject(classLoader, "hostdata", true); //$NON-NLS-1$
+			if (hostdata != null) {
+				return List.of(new BundleEntry(getValue(hostdata, "fileName"), getValue(hostdata, "symbolicName"))); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return List.of();
+		});
+		return getSourceElement(entries, typeName, true);
 	}
 
 	private Object findSourceElementInModel(String modelId, String sourcePath) throws CoreException {
@@ -278,6 +277,16 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 		return getSourceElement(model.getInstallLocation(), modelId, sourcePath, true);
 	}
 
+	private Object getSourceElement(List<BundleEntry> entries, String typeName, boolean checkFragments) throws CoreException {
+		for (BundleEntry entry : entries) {
+			Object result = getSourceElement(entry.location(), entry.id(), typeName, checkFragments);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Looks up source in the source containers associated with the bundle at the given location.
 	 * Searches associated fragments if source is not found in that location only if
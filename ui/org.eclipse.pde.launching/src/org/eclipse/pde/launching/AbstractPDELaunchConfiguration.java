@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ import org.eclipse.pde.internal.launching.launcher.EclipsePluginValidationOperat
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
+import org.eclipse.pde.internal.launching.launcher.LaunchTiming;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.VMHelper;
 import org.osgi.framework.Version;
@@ -135,8 +136,18 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 	@Override
 	public void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		fConfigDir = null;
-		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
+		LaunchTiming timing = LaunchTiming.start(configuration, mode);
 		try {
+			doLaunch(configuration, mode, launch, SubMonitor.convert(monitor, 100));
+		} finally {
+			if (timing != null) {
+				timing.finish(fConfigDir);
+			}
+		}
+	}
+
+	private void doLaunch(ILaunchConfiguration configuration, String mode, ILaunch launch, SubMonitor subMonitor) throws CoreException {
+		try (LaunchTiming.Phase phase = LaunchTiming.phase("preLaunchCheck")) { //$NON-NLS-1$
 			preLaunchCheck(configuration, launch, subMonitor.split(50));
 		} catch (CoreException e) {
 			if (e.getStatus().getSeverity() == IStatus.CANCEL) {
@@ -146,23 +157,28 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 			throw e;
 		}
 
-		VMRunnerConfiguration runnerConfig = new VMRunnerConfiguration(getMainClass(), getClasspath(configuration));
-		IVMInstall launcher = VMHelper.createLauncher(configuration);
-		boolean isModular = JavaRuntime.isModularJava(launcher);
-		runnerConfig.setVMArguments(updateVMArgumentWithAdditionalArguments(getVMArguments(configuration), isModular, configuration));
-		runnerConfig.setProgramArguments(getProgramArguments(configuration));
-		runnerConfig.setWorkingDirectory(getWorkingDirectory(configuration).getAbsolutePath());
-		runnerConfig.setEnvironment(getEnvironment(configuration));
-		runnerConfig.setVMSpecificAttributesMap(getVMSpecificAttributesMap(configuration));
+		VMRunnerConfiguration runnerConfig;
+		try (LaunchTiming.Phase phase = LaunchTiming.phase("computeArguments")) { //$NON-NLS-1$
+			runnerConfig = new VMRunnerConfiguration(getMainClass(), getClasspath(configuration));
+			IVMInstall launcher = VMHelper.createLauncher(configuration);
+			boolean isModular = JavaRuntime.isModularJava(launcher);
+			runnerConfig.setVMArguments(updateVMArgumentWithAdditionalArguments(getVMArguments(configuration), isModular, configuration));
+			runnerConfig.setProgramArguments(getProgramArguments(configuration));
+			runnerConfig.setWorkingDirectory(getWorkingDirectory(configuration).getAbsolutePath());
+			runnerConfig.setEnvironment(getEnvironment(configuration));
+			runnerConfig.setVMSpecificAttributesMap(getVMSpecificAttributesMap(configuration));
+		}
 
 		subMonitor.worked(25);
 
 		setDefaultSourceLocator(configuration);
 		manageLaunch(launch);
 		IVMRunner runner = getVMRunner(configuration, mode);
-		if (runner != null)
-			runner.run(runnerConfig, launch, subMonitor.split(25));
-		else
+		if (runner != null) {
+			try (LaunchTiming.Phase phase = LaunchTiming.phase("startVM")) { //$NON-NLS-1$
+				runner.run(runnerConfig, launch, subMonitor.split(25));
+			}
+		} else
 			subMonitor.setCanceled(true);
 
 	}
@@ -438,14 +454,22 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 		SubMonitor subMonitor = SubMonitor.convert(monitor, autoValidate ? 30 : 40);
 		if (!isShowCommand) {
 			if (autoValidate) {
-				validatePluginDependencies(configuration, subMonitor.split(10));
+				try (LaunchTiming.Phase phase = LaunchTiming.phase("validatePluginDependencies")) { //$NON-NLS-1$
+					validatePluginDependencies(configuration, subMonitor.split(10));
+				}
+			}
+			try (LaunchTiming.Phase phase = LaunchTiming.phase("validateProjectDependencies")) { //$NON-NLS-1$
+				validateProjectDependencies(configuration, subMonitor.split(10));
+			}
+			try (LaunchTiming.Phase phase = LaunchTiming.phase("clear")) { //$NON-NLS-1$
+				clear(configuration, subMonitor.split(10));
 			}
-			validateProjectDependencies(configuration, subMonitor.split(10));
-			clear(configuration, subMonitor.split(10));
 		}
 		launch.setAttribute(PDE_LAUNCH_SHOW_COMMAND, "false"); //$NON-NLS-1$
 		launch.setAttribute(IPDELauncherConstants.CONFIG_LOCATION, getConfigDir(configuration).toString());
-		synchronizeManifests(configuration, subMonitor.split(10));
+		try (LaunchTiming.Phase phase = LaunchTiming.phase("synchronizeManifests")) { //$NON-NLS-1$
+			synchronizeManifests(configuration, subMonitor.split(10));
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,13 +37,14 @@ import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.core.ClasspathHelper;
 import org.eclipse.pde.internal.core.P2Utils;
-import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
 import org.eclipse.pde.internal.launching.PDEMessages;
 import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
+import org.eclipse.pde.internal.launching.launcher.LaunchAreaTrash;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
+import org.eclipse.pde.internal.launching.launcher.LaunchTiming;
 import org.eclipse.pde.internal.launching.launcher.LaunchValidationOperation;
 import org.eclipse.pde.internal.launching.launcher.OSGiFrameworkManager;
 import org.eclipse.pde.internal.launching.launcher.RequirementHelper;
@@ -108,7 +109,11 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 		if (fAllBundles.containsKey(IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR)) {
 
 			// If simple configurator is being used, we need to write out the bundles.txt instead of writing out the list in the config.ini
-			URL bundlesTxt = P2Utils.writeBundlesTxt(fModels, start, autostart, getConfigDir(configuration), null);
+			URL bundlesTxt;
+			File configDir = getConfigDir(configuration);
+			try (LaunchTiming.Phase phase = LaunchTiming.phase("writeBundlesInfo", new File(configDir, IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR))) { //$NON-NLS-1$
+				bundlesTxt = P2Utils.writeBundlesTxt(fModels, start, autostart, configDir, null);
+			}
 			if (bundlesTxt != null) {
 				properties.setProperty("org.eclipse.equinox.simpleconfigurator.configUrl", bundlesTxt.toString()); //$NON-NLS-1$
 			}
@@ -186,6 +191,7 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 			throw new CoreException(Status.error(PDEMessages.EquinoxLaunchConfiguration_oldTarget));
 		}
 		fAllBundles = fModels.keySet().stream().collect(Collectors.groupingBy(m -> m.getPluginBase().getId(), HashMap::new, Collectors.toCollection(ArrayList::new)));
+		LaunchTiming.count(LaunchTiming.BUNDLES, fModels.size());
 
 		super.preLaunchCheck(configuration, launch, monitor);
 	}
@@ -211,7 +217,7 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 	protected void clear(ILaunchConfiguration configuration, IProgressMonitor monitor) throws CoreException {
 		// clear config area, if necessary
 		if (configuration.getAttribute(IPDELauncherConstants.CONFIG_CLEAR_AREA, false))
-			CoreUtility.deleteContent(getConfigDir(configuration), monitor);
+			LaunchAreaTrash.clear(getConfigDir(configuration), monitor);
 	}
 
 }
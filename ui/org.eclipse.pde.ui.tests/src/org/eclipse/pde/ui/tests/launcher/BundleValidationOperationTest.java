@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ResolverError;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Tests that validating a launch by updating the state of the previous
+ * validation reports the same problems as validating it from scratch
+ */
+public class BundleValidationOperationTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Test
+	public void testIncrementalValidationMatchesFullValidation() throws Exception {
+		IProject a = createBundle("val.a", "val.a", "1.0.0", false);
+		IProject b = createBundle("val.b", "val.b", "1.0.0", false, "val.a");
+		IProject c = createBundle("val.c", "val.c", "1.0.0", false, "val.missing");
+		IProject d = createBundle("val.d", "val.d", "1.0.0", false, "val.c");
+		IProject e = createBundle("val.e", "val.e", "1.0.0", true);
+		IProject f = createBundle("val.f", "val.f", "1.0.0", false);
+		IProject g = createBundle("val.g", "val.g", "1.0.0", false, "val.f");
+		Set<IProject> launched = new LinkedHashSet<>(List.of(a, b, c, d, e, f, g));
+		BundleValidationOperation.targetReloaded();
+		Map<String, List<String>> errors = assertSameErrors(launched);
+		assertEquals(Set.of("val.c", "val.d"), getSymbolicNames(errors));
+
+		// removing a bundle breaks the bundles requiring it
+		launched.remove(a);
+		errors = assertSameErrors(launched);
+		assertEquals(Set.of("val.b", "val.c", "val.d"), getSymbolicNames(errors));
+
+		// adding it back and a second singleton
+		launched.add(a);
+		launched.add(createBundle("val.e2", "val.e", "2.0.0", true));
+		errors = assertSameErrors(launched);
+		assertEquals(Set.of("val.c", "val.d", "val.e"), getSymbolicNames(errors));
+
+		// changing a bundle fixes the bundles requiring it
+		createBundle("val.c", "val.c", "1.0.0", false);
+		errors = assertSameErrors(launched);
+		assertEquals(Set.of("val.e"), getSymbolicNames(errors));
+	}
+
+	private static IProject createBundle(String projectName, String symbolicName, String version, boolean singleton,
+			String... requiredBundles) throws Exception {
+		IProject project = ProjectUtils.createPluginProject(projectName, symbolicName, version, (description, service) -> {
+			description.setSingleton(singleton);
+			description.setRequiredBundles(requiredBundles.length == 0 ? null
+					: Arrays.stream(requiredBundles).map(id -> service.newRequiredBundle(id, (VersionRange) null, false, false))
+					.toArray(IRequiredBundleDescription[]::new));
+		});
+		TestUtils.waitForJobs(projectName, 100, 10000);
+		return project;
+	}
+
+	/**
+	 * Validates the given projects incrementally and from scratch and returns
+	 * the problems found by both, keyed by the symbolic name and version of the
+	 * bundles
+	 */
+	private static Map<String, List<String>> assertSameErrors(Set<IProject> projects) throws Exception {
+		Set<IPluginModelBase> models = new LinkedHashSet<>();
+		for (IProject project : projects) {
+			models.add(PluginRegistry.findModel(project));
+		}
+		Map<String, List<String>> incremental = validate(models);
+		BundleValidationOperation.targetReloaded();
+		Map<String, List<String>> full = validate(models);
+		assertEquals(full, incremental);
+		assertFalse(full.isEmpty());
+		return full;
+	}
+
+	private static Map<String, List<String>> validate(Set<IPluginModelBase> models) throws Exception {
+		BundleValidationOperation operation = new BundleValidationOperation(models);
+		operation.run(new NullProgressMonitor());
+		Map<String, List<String>> errors = new HashMap<>();
+		for (Entry<Object, Object[]> entry : operation.getResolverErrors().entrySet()) {
+			BundleDescription bundle = (BundleDescription) entry.getKey();
+			errors.put(bundle.getSymbolicName() + '_' + bundle.getVersion(), Arrays.stream(entry.getValue()).map(BundleValidationOperationTest::toString).sorted().toList());
+		}
+		return errors;
+	}
+
+	private static Set<String> getSymbolicNames(Map<String, List<String>> errors) {
+		return errors.keySet().stream().map(key -> key.substring(0, key.lastIndexOf('_'))).collect(Collectors.toSet());
+	}
+
+	private static String toString(Object error) {
+		if (error instanceof ResolverError resolverError) {
+			return resolverError.getType() + ":" + resolverError.getData();
+		}
+		return error instanceof IStatus status ? status.getMessage() : String.valueOf(error);
+	}
+}
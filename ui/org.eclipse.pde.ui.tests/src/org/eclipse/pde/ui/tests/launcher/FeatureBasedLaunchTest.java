@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2019, 2022 Julian Honnen and others.
+ *  Copyright (c) 2019, 2026 Julian Honnen and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -1399,6 +1399,124 @@ public class FeatureBasedLaunchTest extends AbstractLaunchTest {
 				d -> BundleLauncherHelper.getStartData(d, "default:default")));
 	}
 
+	// --- index of available features ---
+
+	@Test
+	public void testGetMergedBundleMap_featureEnvironmentFilteredBeforeLocation() throws Throwable {
+		String thisOS = Platform.getOS();
+		String otherOS = thisOS.equals(Platform.OS_LINUX) ? Platform.OS_WIN32 : Platform.OS_LINUX;
+
+		var targetBundles = ofEntries( //
+				bundle("plugin.b.w.100", "1.0.0"), //
+				bundle("plugin.b.w.110", "1.0.0"), //
+				bundle("plugin.c.w.200", "1.0.0"), //
+				bundle("plugin.c.e.100", "1.0.0"), //
+				bundle("plugin.z", "1.0.0"));
+
+		// the latest and the exactly included workspace feature.b do not match
+		createFeatureProject("feature.b", "1.0.0", f -> {
+			addIncludedPlugin(f, "plugin.b.w.100", "1.0.0");
+		});
+		createFeatureProject("feature.b", "1.1.0", f -> {
+			f.setOS(otherOS);
+			addIncludedPlugin(f, "plugin.b.w.110", "1.0.0");
+		});
+		// no workspace feature.c matches
+		createFeatureProject("feature.c", "2.0.0", f -> {
+			f.setOS(otherOS);
+			addIncludedPlugin(f, "plugin.c.w.200", "1.0.0");
+		});
+
+		List<NameVersionDescriptor> targetFeatures = List.of( //
+				targetFeature("feature.c", "1.0.0", f -> {
+					addIncludedPlugin(f, "plugin.c.e.100", "1.0.0");
+				}), //
+				targetFeature("feature.a", "1.0.0", f -> {
+					addIncludedFeature(f, "feature.b", "1.1.0");
+					addIncludedFeature(f, "feature.c", "2.0.0");
+				}));
+
+		setTargetPlatform(targetBundles, targetFeatures);
+
+		ILaunchConfigurationWorkingCopy lc = createFeatureLaunchConfig();
+		lc.setAttribute(IPDELauncherConstants.SELECTED_FEATURES, Set.of("feature.a:default"));
+		lc.setAttribute(IPDELauncherConstants.FEATURE_DEFAULT_LOCATION, IPDELauncherConstants.LOCATION_WORKSPACE);
+
+		assertGetMergedBundleMap("features not matching the environment are not candidates", lc, Set.of( //
+				targetBundle("plugin.b.w.100", "1.0.0"), //
+				targetBundle("plugin.c.e.100", "1.0.0")));
+	}
+
+	@Test
+	public void testGetMergedBundleMap_featureChangesUpdateSelection() throws Throwable {
+		var targetBundles = ofEntries( //
+				bundle("plugin.a.w.100", "1.0.0"), //
+				bundle("plugin.a.w.200", "1.0.0"), //
+				bundle("plugin.a.e.100", "1.0.0"), //
+				bundle("plugin.a.e.300", "1.0.0"), //
+				bundle("plugin.z", "1.0.0"));
+
+		createFeatureProject("feature.a", "1.0.0", f -> {
+			addIncludedPlugin(f, "plugin.a.w.100", "1.0.0");
+		});
+		setTargetPlatform(targetBundles, List.of( //
+				targetFeature("feature.a", "1.0.0", f -> {
+					addIncludedPlugin(f, "plugin.a.e.100", "1.0.0");
+				})));
+
+		ILaunchConfigurationWorkingCopy lc = createFeatureLaunchConfig();
+		lc.setAttribute(IPDELauncherConstants.SELECTED_FEATURES, Set.of("feature.a:default"));
+		lc.setAttribute(IPDELauncherConstants.FEATURE_DEFAULT_LOCATION, IPDELauncherConstants.LOCATION_WORKSPACE);
+		ILaunchConfigurationWorkingCopy externalLc = lc.copy("feature-based-Eclipse-app-external");
+		externalLc.setAttribute(IPDELauncherConstants.FEATURE_DEFAULT_LOCATION, IPDELauncherConstants.LOCATION_EXTERNAL);
+
+		assertGetMergedBundleMap("initial workspace feature", lc, Set.of( //
+				targetBundle("plugin.a.w.100", "1.0.0")));
+		assertGetMergedBundleMap("initial target feature", externalLc, Set.of( //
+				targetBundle("plugin.a.e.100", "1.0.0")));
+
+		// a new workspace feature is reported as a change of the feature models
+		createFeatureProject("feature.a", "2.0.0", f -> {
+			addIncludedPlugin(f, "plugin.a.w.200", "1.0.0");
+		});
+		assertGetMergedBundleMap("added workspace feature", lc, Set.of( //
+				targetBundle("plugin.a.w.200", "1.0.0")));
+
+		// a new target reloads the target features
+		setTargetPlatform(targetBundles, List.of( //
+				targetFeature("feature.a", "1.0.0", f -> {
+					addIncludedPlugin(f, "plugin.a.e.100", "1.0.0");
+				}), //
+				targetFeature("feature.a", "3.0.0", f -> {
+					addIncludedPlugin(f, "plugin.a.e.300", "1.0.0");
+				})));
+		assertGetMergedBundleMap("added target feature", externalLc, Set.of( //
+				targetBundle("plugin.a.e.300", "1.0.0")));
+	}
+
+	@Test
+	public void testGetMergedBundleMap_featureWithInvalidVersionIgnored() throws Throwable {
+		var targetBundles = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0"), //
+				bundle("plugin.z", "1.0.0"));
+
+		createFeatureProject("feature.a", "1.0.0", f -> {
+			addIncludedPlugin(f, "plugin.a", "1.0.0");
+		});
+		createFeatureProject("feature.a", "2.invalid", f -> {
+			addIncludedPlugin(f, "plugin.b", "1.0.0");
+		});
+		setTargetPlatform(targetBundles, List.of());
+
+		ILaunchConfigurationWorkingCopy lc = createFeatureLaunchConfig();
+		lc.setAttribute(IPDELauncherConstants.SELECTED_FEATURES, Set.of("feature.a:default"));
+		lc.setAttribute(IPDELauncherConstants.FEATURE_DEFAULT_LOCATION, IPDELauncherConstants.LOCATION_WORKSPACE);
+
+		assertGetMergedBundleMap(lc, Set.of( //
+				targetBundle("plugin.a", "1.0.0")));
+	}
+
 	// --- utility methods ---
 
 	private NameVersionDescriptor targetFeature(String featureId, String featureVersion,
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.launching.launcher.LaunchAreaTrash;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the cleared areas of launches are deleted in the background
+ */
+public class LaunchAreaTrashTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testClearLeavesNothingNextToArea() throws Exception {
+		Path area = createArea(folder.getRoot().toPath().resolve("runtime-workspace"));
+
+		LaunchAreaTrash.clear(area.toFile(), null);
+		assertFalse("The area should be cleared", Files.exists(area));
+		assertArrayEquals("Nothing should be left next to the area", new String[0], folder.getRoot().list());
+
+		Job.getJobManager().join(LaunchAreaTrash.FAMILY, null);
+		File[] trash = LaunchAreaTrash.getTrashFolder().listFiles((dir, name) -> name.startsWith("runtime-workspace"));
+		assertTrue("The trash should be deleted", trash == null || trash.length == 0);
+	}
+
+	@Test
+	public void testLeftoversDeletedAfterCrash() throws Exception {
+		// the trash of a session that exited before deleting it
+		Path leftover = createArea(LaunchAreaTrash.getTrashFolder().toPath().resolve("crashed-1"));
+
+		LaunchAreaTrash.deleteLeftovers();
+		Job.getJobManager().join(LaunchAreaTrash.FAMILY, null);
+		assertFalse("The leftover trash should be deleted", Files.exists(leftover));
+	}
+
+	private static Path createArea(Path area) throws Exception {
+		Files.createDirectories(area.resolve(".metadata/.plugins"));
+		Files.writeString(area.resolve(".metadata/.plugins/state.dat"), "state");
+		Files.writeString(area.resolve("config.ini"), "osgi.bundles=");
+		return area;
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.equinox.p2.core.IProvisioningAgent;
+import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
+import org.eclipse.equinox.p2.engine.IProfile;
+import org.eclipse.equinox.p2.engine.IProfileRegistry;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.P2Utils;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that updating the p2 profile of a launch yields the same profile as
+ * creating it from scratch
+ */
+public class LaunchProfileTest {
+
+	private static final String PROFILE_ID = "SelfHostingProfile";
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testUpdatedProfileMatchesNewProfile() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("profile.bundle", "1.0.0");
+		List<List<IPluginModelBase>> bundles = List.of(List.of(PluginRegistry.findModel(project)));
+		ProjectUtils.createFeatureProject("profile.feature1", "1.0.0", f -> {
+		});
+		ProjectUtils.createFeatureProject("profile.feature2", "1.0.0", f -> {
+		});
+		IFeature feature1 = getFeature("profile.feature1");
+		IFeature feature2 = getFeature("profile.feature2");
+
+		File updatedArea = folder.newFolder("updated");
+		P2Utils.createProfile(PROFILE_ID, updatedArea, bundles, Map.of(feature1, true, feature2, false), null);
+		P2Utils.createProfile(PROFILE_ID, updatedArea, bundles, Map.of(feature1, false, feature2, true), null);
+
+		File newArea = folder.newFolder("new");
+		P2Utils.createProfile(PROFILE_ID, newArea, bundles, Map.of(feature1, false, feature2, true), null);
+
+		Map<IInstallableUnit, Map<String, String>> expected = readProfile(newArea);
+		assertEquals(3, expected.size());
+		assertEquals(expected, readProfile(updatedArea));
+	}
+
+	private static IFeature getFeature(String id) {
+		return PDECore.getDefault().getFeatureModelManager().findFeatureModel(id).getFeature();
+	}
+
+	/**
+	 * Returns the units of the profile in the given p2 data area and their
+	 * profile properties
+	 */
+	private static Map<IInstallableUnit, Map<String, String>> readProfile(File p2DataArea) throws Exception {
+		IProvisioningAgentProvider provider = PDECore.getDefault().acquireService(IProvisioningAgentProvider.class);
+		IProvisioningAgent agent = provider.createAgent(p2DataArea.toURI());
+		try {
+			IProfileRegistry registry = agent.getService(IProfileRegistry.class);
+			IProfile profile = registry.getProfile(PROFILE_ID);
+			assertNotNull(profile);
+			Map<IInstallableUnit, Map<String, String>> units = new HashMap<>();
+			profile.query(QueryUtil.createIUAnyQuery(), null)
+					.forEach(iu -> units.put(iu, profile.getInstallableUnitProperties(iu)));
+			return units;
+		} finally {
+			agent.stop();
+		}
+	}
+}
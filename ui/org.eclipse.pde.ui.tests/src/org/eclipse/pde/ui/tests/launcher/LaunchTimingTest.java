@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+import org.eclipse.pde.internal.launching.launcher.LaunchTiming;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+/**
+ * Tests the phases and counts recorded by {@link LaunchTiming} and the file
+ * they are written to, without launching
+ */
+public class LaunchTimingTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private boolean timingEnabled;
+
+	@Before
+	public void setUp() {
+		timingEnabled = PDELaunchingPlugin.DEBUG_LAUNCH_TIMING;
+		PDELaunchingPlugin.DEBUG_LAUNCH_TIMING = true;
+	}
+
+	@After
+	public void tearDown() {
+		PDELaunchingPlugin.DEBUG_LAUNCH_TIMING = timingEnabled;
+	}
+
+	@Test
+	public void testTiming() throws Exception {
+		File output = folder.newFolder("output");
+		File configurationArea = folder.newFolder("configuration");
+		Files.writeString(output.toPath().resolve("unchanged.txt"), "unchanged");
+		Files.writeString(output.toPath().resolve("modified.txt"), "original");
+
+		LaunchTiming timing = LaunchTiming.start(configuration("say \"hi\"\\\n\t\u0001"), "debug");
+		try (LaunchTiming.Phase outer = LaunchTiming.phase("outer", output)) {
+			try (LaunchTiming.Phase inner = LaunchTiming.phase("inner")) {
+				LaunchTiming.count(LaunchTiming.BUNDLES, 2);
+			}
+			Files.writeString(output.toPath().resolve("modified.txt"), "modified content");
+			Files.writeString(Files.createDirectory(output.toPath().resolve("sub")).resolve("added.txt"), "added");
+		}
+		try (LaunchTiming.Phase second = LaunchTiming.phase("second")) {
+			LaunchTiming.count(LaunchTiming.BUNDLES, 3);
+		}
+		LaunchTiming.phase("incomplete");
+		timing.finish(configurationArea);
+
+		String json = Files.readString(configurationArea.toPath().resolve("launch-timing.json"));
+		json = json.replaceAll("\\d+\\.\\d{3}", "0.000").replaceAll("\"timestamp\": \\d+", "\"timestamp\": 0");
+		assertEquals("""
+				{
+				  "configuration": "say \\"hi\\"\\\\\\n\\t\\u0001",
+				  "mode": "debug",
+				  "timestamp": 0,
+				  "durationMillis": 0.000,
+				  "phases": [
+				    {"name": "outer", "depth": 0, "durationMillis": 0.000},
+				    {"name": "inner", "depth": 1, "durationMillis": 0.000},
+				    {"name": "second", "depth": 0, "durationMillis": 0.000},
+				    {"name": "incomplete", "depth": 0, "durationMillis": null}
+				  ],
+				  "counts": {
+				    "bundles": 5,
+				    "filesWritten": 2
+				  }
+				}
+				""", json);
+	}
+
+	@Test
+	public void testEmptyTiming() throws Exception {
+		File configurationArea = folder.newFolder("configuration");
+		LaunchTiming.start(configuration("empty"), "run").finish(configurationArea);
+
+		String json = Files.readString(configurationArea.toPath().resolve("launch-timing.json"));
+		json = json.replaceAll("\\d+\\.\\d{3}", "0.000").replaceAll("\"timestamp\": \\d+", "\"timestamp\": 0");
+		assertEquals("""
+				{
+				  "configuration": "empty",
+				  "mode": "run",
+				  "timestamp": 0,
+				  "durationMillis": 0.000,
+				  "phases": [],
+				  "counts": {}
+				}
+				""", json);
+	}
+
+	private static ILaunchConfiguration configuration(String name) {
+		ILaunchConfiguration configuration = Mockito.mock(ILaunchConfiguration.class);
+		Mockito.when(configuration.getName()).thenReturn(name);
+		return configuration;
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector;
+import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector.BundleEntriesReader;
+import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector.BundleEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests that the source lookup director reads the bundles of a class loader
+ * once and forgets them when they may have changed
+ */
+public class PDESourceLookupDirectorTest {
+
+	private PDESourceLookupDirector director;
+	private final List<IJavaObject> reads = new ArrayList<>();
+	private final BundleEntriesReader reader = classLoader -> {
+		reads.add(classLoader);
+		return List.of(new BundleEntry("/bundles/" + classLoader.getUniqueId(), "bundle." + classLoader.getUniqueId()));
+	};
+
+	@Before
+	public void setUp() {
+		director = new PDESourceLookupDirector();
+	}
+
+	@After
+	public void tearDown() {
+		director.dispose();
+	}
+
+	@Test
+	public void testReadOncePerClassLoader() throws Exception {
+		IDebugTarget target = Mockito.mock(IDebugTarget.class);
+		IDebugTarget otherTarget = Mockito.mock(IDebugTarget.class);
+		IJavaObject loader = classLoader(target, 1);
+		IJavaObject otherLoader = classLoader(target, 2);
+		IJavaObject otherTargetLoader = classLoader(otherTarget, 1);
+
+		List<BundleEntry> entries = director.getBundleEntries(loader, reader);
+		assertEquals(List.of(new BundleEntry("/bundles/1", "bundle.1")), entries);
+		assertEquals(entries, director.getBundleEntries(loader, reader));
+		assertEquals(entries, director.getBundleEntries(classLoader(target, 1), reader));
+		assertEquals(List.of(loader), reads);
+
+		director.getBundleEntries(otherLoader, reader);
+		director.getBundleEntries(otherTargetLoader, reader);
+		director.getBundleEntries(otherLoader, reader);
+		director.getBundleEntries(otherTargetLoader, reader);
+		assertEquals(List.of(loader, otherLoader, otherTargetLoader), reads);
+	}
+
+	@Test
+	public void testTerminatedTargetForgotten() throws Exception {
+		IDebugTarget target = Mockito.mock(IDebugTarget.class);
+		IDebugTarget otherTarget = Mockito.mock(IDebugTarget.class);
+		IJavaObject loader = classLoader(target, 1);
+		IJavaObject otherTargetLoader = classLoader(otherTarget, 1);
+		director.getBundleEntries(loader, reader);
+		director.getBundleEntries(otherTargetLoader, reader);
+
+		fireTerminate(target);
+
+		director.getBundleEntries(loader, reader);
+		director.getBundleEntries(otherTargetLoader, reader);
+		assertEquals(List.of(loader, otherTargetLoader, loader), reads);
+	}
+
+	@Test
+	public void testSourceContainersChangeForgetsAll() throws Exception {
+		IJavaObject loader = classLoader(Mockito.mock(IDebugTarget.class), 1);
+		director.getBundleEntries(loader, reader);
+
+		director.setSourceContainers(new ISourceContainer[0]);
+		director.getBundleEntries(loader, reader);
+		assertEquals(List.of(loader, loader), reads);
+	}
+
+	@Test
+	public void testDisposeForgetsAll() throws Exception {
+		IJavaObject loader = classLoader(Mockito.mock(IDebugTarget.class), 1);
+		director.getBundleEntries(loader, reader);
+
+		director.dispose();
+		director.getBundleEntries(loader, reader);
+		assertEquals(List.of(loader, loader), reads);
+	}
+
+	private static IJavaObject classLoader(IDebugTarget target, long id) throws Exception {
+		IJavaObject classLoader = Mockito.mock(IJavaObject.class);
+		Mockito.when(classLoader.getDebugTarget()).thenReturn(target);
+		Mockito.when(classLoader.getUniqueId()).thenReturn(id);
+		return classLoader;
+	}
+
+	/**
+	 * Fires a terminate event for the given target and waits until the
+	 * listeners, which are notified in the order they were added, received it
+	 */
+	private static void fireTerminate(IDebugTarget target) throws InterruptedException {
+		CountDownLatch notified = new CountDownLatch(1);
+		IDebugEventSetListener listener = events -> {
+			for (DebugEvent event : events) {
+				if (event.getSource() == target && event.getKind() == DebugEvent.TERMINATE) {
+					notified.countDown();
+				}
+			}
+		};
+		DebugPlugin.getDefault().addDebugEventListener(listener);
+		try {
+			DebugPlugin.getDefault().fireDebugEventSet(new DebugEvent[] { new DebugEvent(target, DebugEvent.TERMINATE) });
+			assertTrue("The terminate event should be delivered", notified.await(10, TimeUnit.SECONDS));
+		} finally {
+			DebugPlugin.getDefault().removeDebugEventListener(listener);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -26,12 +26,14 @@ import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
 import static org.osgi.framework.Constants.RESOLUTION_OPTIONAL;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -39,9 +41,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Platform;
@@ -918,6 +922,36 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertThat(info, containsString(getInstallLocation(plugin2)));
 	}
 
+	@Test
+	public void testUnchangedRelaunchKeepsConfigurationFiles() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0"), //
+				// will trigger usage of bundes.info
+				bundle(IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR, "1.0.0"));
+		setUpWorkspace(workspacePlugins, Map.of());
+
+		ILaunchConfigurationWorkingCopy launchConfig = createPluginLaunchConfig(
+				"testUnchangedRelaunchKeepsConfigurationFiles");
+		launchConfig.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES,
+				Set.of("plugin.a*1.0.0", "plugin.b*1.0.0", IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR + "*1.0.0"));
+		launchConfig.setAttribute(IPDELauncherConstants.GENERATE_PROFILE, true);
+
+		Path configurationFolder = getConfigurationFolder(launchConfig);
+		Map<Path, Long> written = getConfigurationFiles(configurationFolder);
+		assertEquals(Set.of(Path.of("config.ini"), Path.of(IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR, "bundles.info")),
+				written.keySet().stream().filter(p -> !p.startsWith(".p2")).collect(Collectors.toSet()));
+		assertThat("The p2 profile should have been written", written.keySet().toString(), containsString(".profile"));
+		// date the files back, so that a rewrite is detected regardless of the time stamp resolution
+		for (Path file : written.keySet()) {
+			Files.setLastModifiedTime(configurationFolder.resolve(file), FileTime.fromMillis(written.get(file) - 10000));
+		}
+		Map<Path, Long> backdated = getConfigurationFiles(configurationFolder);
+
+		assertEquals(configurationFolder, getConfigurationFolder(launchConfig));
+		assertEquals(backdated, getConfigurationFiles(configurationFolder));
+	}
+
 	// --- test cases for writeBundleEntry() ----
 
 	@Test
@@ -1066,6 +1100,24 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		}
 	}
 
+	/**
+	 * Returns the config.ini, the bundles.info and the p2 profile files in the
+	 * given configuration folder with their time stamps
+	 */
+	private static Map<Path, Long> getConfigurationFiles(Path configurationFolder) throws IOException {
+		Map<Path, Long> files = new TreeMap<>();
+		try (Stream<Path> walk = Files.walk(configurationFolder)) {
+			for (Path file : (Iterable<Path>) walk::iterator) {
+				String name = file.getFileName().toString();
+				boolean profile = name.endsWith(".profile") || name.endsWith(".profile.gz");
+				if (Files.isRegularFile(file) && (name.equals("config.ini") || name.equals("bundles.info") || profile)) {
+					files.put(configurationFolder.relativize(file), Files.getLastModifiedTime(file).toMillis());
+				}
+			}
+		}
+		return files;
+	}
+
 	private static String getInstallLocation(IPluginModelBase plugin) {
 		return Path.of(plugin.getInstallLocation()).toString().replace(File.separatorChar, '/');
 	}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.internal.launching.launcher.ProjectChangeStamps;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the change stamps of projects follow the changes of their build
+ * output, manifest and build.properties
+ */
+public class ProjectChangeStampsTest {
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testClassFileAddedAndRemoved() throws Exception {
+		IProject project = createProject("stamps.classes");
+		long stamp = getTimeStamp(project);
+
+		IFolder folder = project.getFolder("bin/a");
+		folder.create(true, true, null);
+		IFile classFile = folder.getFile("A.class");
+		classFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+		long added = getTimeStamp(project);
+		assertTrue("Adding a class file should raise the stamp", added > stamp);
+
+		classFile.delete(true, null);
+		long removed = getTimeStamp(project);
+		assertTrue("Removing a class file should raise the stamp", removed > added);
+
+		project.getFile("notes.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+		assertEquals("Files outside of the output folders should be ignored", removed, getTimeStamp(project));
+
+		IFile manifest = project.getFile("META-INF/MANIFEST.MF");
+		manifest.appendContents(new ByteArrayInputStream("\n".getBytes()), true, false, null);
+		assertTrue("Changing the manifest should raise the stamp", getTimeStamp(project) > removed);
+	}
+
+	@Test
+	public void testExternalBuildSeenAfterRefresh() throws Exception {
+		IProject project = createProject("stamps.external");
+		long stamp = getTimeStamp(project);
+
+		// a class file written by a build outside of the workspace
+		Files.write(project.getFolder("bin").getLocation().toFile().toPath().resolve("B.class"), new byte[0]);
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		long refreshed = getTimeStamp(project);
+		assertTrue("A refreshed external change should raise the stamp", refreshed > stamp);
+
+		Files.delete(project.getFolder("bin").getLocation().toFile().toPath().resolve("B.class"));
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		assertTrue("A refreshed external deletion should raise the stamp", getTimeStamp(project) > refreshed);
+	}
+
+	@Test
+	public void testFailureNotCached() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("stamps.failure");
+		project.create(null);
+		project.open(null);
+		project.getFolder("META-INF").create(true, true, null);
+		project.getFile("META-INF/MANIFEST.MF").create(new ByteArrayInputStream("Manifest-Version: 1.0\n".getBytes()), true, null);
+		assertEquals("A project without classpath should have no stamp", 0, getTimeStamp(project));
+
+		IProjectDescription description = project.getDescription();
+		description.setNatureIds(new String[] {JavaCore.NATURE_ID});
+		project.setDescription(description, null);
+		project.getFolder("src").create(true, true, null);
+		IJavaProject javaProject = JavaCore.create(project);
+		javaProject.setRawClasspath(new IClasspathEntry[] {JavaCore.newSourceEntry(project.getFolder("src").getFullPath())}, project.getFolder("bin").getFullPath(), null);
+		assertTrue("The stamp should be computed once the classpath is known", getTimeStamp(project) > 0);
+	}
+
+	private static IProject createProject(String name) throws Exception {
+		IJavaProject project = ProjectUtils.createPluginProject(name, (IExecutionEnvironment) null);
+		TestUtils.waitForJobs(name, 100, 10000);
+		return project.getProject();
+	}
+
+	private static long getTimeStamp(IProject project) {
+		return ProjectChangeStamps.getDefault().getTimeStamp(project);
+	}
+}